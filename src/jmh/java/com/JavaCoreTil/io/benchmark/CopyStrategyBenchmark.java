@@ -0,0 +1,118 @@
+package com.JavaCoreTil.io.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.JavaCoreTil.io.common.copy.CopyStrategies;
+
+/**
+ * Stage10 복사 전략 JMH 벤치마크
+ * <p>
+ * 실행 예:
+ * <pre>
+ * gradle jmh -PjmhArgs='CopyStrategyBenchmark'
+ * gradle jmh -PjmhArgs='CopyStrategyBenchmark -p fileSize=268435456 -p dropCaches=true'
+ * gradle jmh -PjmhArgs='CopyStrategyBenchmark.traditionalIO -p bufferSize=4096,8192,65536,1048576'
+ * </pre>
+ * bufferSize 는 byte[] 루프를 쓰는 traditionalIO/bufferedIO 에만 적용된다
+ * (튜너 캐시에 따라 크기가 달라지지 않도록 항상 명시적으로 전달).
+ * dropCaches=true 는 매 호출 전에 페이지 캐시를 비우므로 root 권한이 필요하다 (PageCache 참고).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class CopyStrategyBenchmark {
+
+	@Param({"1048576", "16777216", "268435456"}) // 1MB, 16MB, 256MB
+	public long fileSize;
+
+	@Param({"8192", "65536"})
+	public int bufferSize;
+
+	@Param({"false"})
+	public boolean dropCaches;
+
+	private Path workDir;
+	private String source;
+	private String target;
+
+	@Setup(Level.Trial)
+	public void createSourceFile() throws IOException {
+		workDir = Files.createTempDirectory("copy_bench_");
+		source = workDir.resolve("source.bin").toString();
+		target = workDir.resolve("target.bin").toString();
+
+		// 압축/중복 제거 효과가 없도록 난수 데이터 사용
+		Random random = new Random(42);
+		byte[] block = new byte[1024 * 1024];
+		try (var out = Files.newOutputStream(Path.of(source))) {
+			long remaining = fileSize;
+			while (remaining > 0) {
+				random.nextBytes(block);
+				int toWrite = (int)Math.min(block.length, remaining);
+				out.write(block, 0, toWrite);
+				remaining -= toWrite;
+			}
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void prepareInvocation() throws IOException {
+		Files.deleteIfExists(Path.of(target));
+		if (dropCaches) {
+			PageCache.drop();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteFiles() throws IOException {
+		Files.deleteIfExists(Path.of(target));
+		Files.deleteIfExists(Path.of(source));
+		Files.deleteIfExists(workDir);
+	}
+
+	@Benchmark
+	public long traditionalIO() throws IOException {
+		return CopyStrategies.copyWithTraditionalIO(source, target, bufferSize);
+	}
+
+	@Benchmark
+	public long bufferedIO() throws IOException {
+		return CopyStrategies.copyWithBufferedIO(source, target, bufferSize);
+	}
+
+	@Benchmark
+	public long nioChannel() throws IOException {
+		return CopyStrategies.copyWithNIOChannel(source, target);
+	}
+
+	@Benchmark
+	public long memoryMapping() throws IOException {
+		return CopyStrategies.copyWithMemoryMapping(source, target);
+	}
+
+	@Benchmark
+	public long zeroCopy() throws IOException {
+		return CopyStrategies.copyWithZeroCopy(source, target);
+	}
+}
@@ -0,0 +1,38 @@
+package com.JavaCoreTil.io.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 벤치마크 반복 사이에 OS 페이지 캐시를 비우는 도우미
+ * <p>
+ * 리눅스에서 sync 후 /proc/sys/vm/drop_caches 에 3을 기록한다. root 권한이 필요하며,
+ * 권한이 없으면 한 번만 경고하고 캐시가 데워진(warm) 상태로 측정을 계속한다.
+ */
+final class PageCache {
+
+	private static final Path DROP_CACHES = Paths.get("/proc/sys/vm/drop_caches");
+
+	private static volatile boolean warned;
+
+	private PageCache() {
+	}
+
+	static void drop() {
+		try {
+			new ProcessBuilder("sync").inheritIO().start().waitFor();
+			Files.write(DROP_CACHES, "3\n".getBytes(StandardCharsets.US_ASCII));
+		} catch (IOException | SecurityException e) {
+			if (!warned) {
+				warned = true;
+				System.err.println("페이지 캐시를 비울 수 없습니다 (root 권한 필요, 리눅스 전용): " + e.getMessage());
+				System.err.println("→ 캐시가 데워진 상태로 측정합니다.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.JavaCoreTil.io.benchmark;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.JavaCoreTil.io.common.buffer.DirectBufferPool;
+import com.JavaCoreTil.io.common.buffer.PooledBuffer;
+
+/**
+ * Stage10 읽기 전략 JMH 벤치마크 (스트림 / 채널 / 메모리 맵핑)
+ * <p>
+ * 각 방식은 읽은 바이트를 모두 더한 값을 반환해 JIT 가 읽기를 제거하지 못하게 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class ReadStrategyBenchmark {
+
+	@Param({"1048576", "16777216", "268435456"}) // 1MB, 16MB, 256MB
+	public long fileSize;
+
+	@Param({"8192", "65536"})
+	public int bufferSize;
+
+	@Param({"false"})
+	public boolean dropCaches;
+
+	private Path file;
+
+	@Setup(Level.Trial)
+	public void createFile() throws IOException {
+		file = Files.createTempFile("read_bench_", ".bin");
+
+		Random random = new Random(42);
+		byte[] block = new byte[1024 * 1024];
+		try (var out = Files.newOutputStream(file)) {
+			long remaining = fileSize;
+			while (remaining > 0) {
+				random.nextBytes(block);
+				int toWrite = (int)Math.min(block.length, remaining);
+				out.write(block, 0, toWrite);
+				remaining -= toWrite;
+			}
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void prepareInvocation() {
+		if (dropCaches) {
+			PageCache.drop();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteFile() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public long inputStream() throws IOException {
+		long sum = 0;
+		try (FileInputStream in = new FileInputStream(file.toFile())) {
+			byte[] buffer = new byte[bufferSize];
+			int bytesRead;
+			while ((bytesRead = in.read(buffer)) != -1) {
+				for (int i = 0; i < bytesRead; i++) {
+					sum += buffer[i];
+				}
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fileChannel() throws IOException {
+		long sum = 0;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+			 PooledBuffer pooled = DirectBufferPool.shared().acquire(bufferSize)) {
+
+			ByteBuffer buffer = pooled.buffer();
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					sum += buffer.get();
+				}
+				buffer.clear();
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long memoryMapping() throws IOException {
+		long sum = 0;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			int limit = mapped.limit();
+			for (int i = 0; i < limit; i++) {
+				sum += mapped.get(i);
+			}
+		}
+		return sum;
+	}
+}
@@ -13,6 +13,9 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.JavaCoreTil.io.common.buffer.DirectBufferPool;
+import com.JavaCoreTil.io.common.buffer.PooledBuffer;
+
 /**
  * 간단한 1:1 채팅 프로그램
  * 서버와 클라이언트 기능을 모두 포함
@@ -121,8 +124,8 @@ public class SimpleChat {
         
         // 메시지 수신 스레드
         executor.submit(() -> {
-            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
-            try {
+            try (PooledBuffer pooled = DirectBufferPool.shared().acquire(BUFFER_SIZE)) {
+                ByteBuffer buffer = pooled.buffer();
                 while (isRunning.get() && channel.isConnected()) {
                     buffer.clear();
                     int bytesRead = channel.read(buffer);
@@ -202,15 +205,21 @@ public class SimpleChat {
      */
     private static void sendMessage(SocketChannel channel, String message) throws IOException {
         byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
-        ByteBuffer sendBuffer = ByteBuffer.allocate(messageBytes.length + 4);
         
-        // 메시지 길이를 먼저 전송 (4바이트)
-        sendBuffer.putInt(messageBytes.length);
-        // 메시지 내용 전송
-        sendBuffer.put(messageBytes);
-        sendBuffer.flip();
-        
-        channel.write(sendBuffer);
+        // 메시지마다 버퍼를 새로 할당하지 않고 풀에서 빌려 씀
+        try (PooledBuffer pooled = DirectBufferPool.shared().acquire(messageBytes.length + 4)) {
+            ByteBuffer sendBuffer = pooled.buffer();
+            
+            // 메시지 길이를 먼저 전송 (4바이트)
+            sendBuffer.putInt(messageBytes.length);
+            // 메시지 내용 전송
+            sendBuffer.put(messageBytes);
+            sendBuffer.flip();
+            
+            while (sendBuffer.hasRemaining()) {
+                channel.write(sendBuffer);
+            }
+        }
     }
     
     /**
@@ -0,0 +1,99 @@
+package com.JavaCoreTil.io.common.aggregate;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 그룹별 집계 결과 (그룹은 파일에서 처음 등장한 순서)
+ */
+public class AggregationResult {
+
+	private final Map<String, Group> groups;
+	private final long records;
+	private final long skippedRecords;
+	private final long elapsedNanos;
+
+	AggregationResult(Map<String, Group> groups, long records, long skippedRecords, long elapsedNanos) {
+		this.groups = Collections.unmodifiableMap(groups);
+		this.records = records;
+		this.skippedRecords = skippedRecords;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public Map<String, Group> getGroups() {
+		return groups;
+	}
+
+	public Group getGroup(String key) {
+		return groups.get(key);
+	}
+
+	/**
+	 * 집계에 반영된 레코드 수
+	 */
+	public long getRecords() {
+		return records;
+	}
+
+	/**
+	 * 필드 수 부족이나 숫자 형식 오류로 건너뛴 레코드 수
+	 */
+	public long getSkippedRecords() {
+		return skippedRecords;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * 한 그룹의 집계 값
+	 */
+	public static class Group {
+		private final AggregationSpec spec;
+		private final String key;
+		private final long count;
+		private final double[] values;
+
+		Group(AggregationSpec spec, String key, long count, double[] values) {
+			this.spec = spec;
+			this.key = key;
+			this.count = count;
+			this.values = values;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		/**
+		 * 그룹에 속한 레코드 수
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * 선언한 이름으로 집계 값 조회
+		 */
+		public double get(String name) {
+			int index = spec.indexOf(name);
+			if (index < 0) {
+				throw new IllegalArgumentException("선언되지 않은 집계입니다: " + name);
+			}
+			return values[index];
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder(key).append(" {");
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					sb.append(", ");
+				}
+				sb.append(spec.name(i)).append('=').append(values[i]);
+			}
+			return sb.append('}').toString();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.JavaCoreTil.io.common.aggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 그룹별로 계산할 집계 목록 선언
+ * <pre>
+ * AggregationSpec spec = new AggregationSpec()
+ *     .sum("총판매액", 4)
+ *     .avg("평균판매액", 4)
+ *     .count("판매건수")
+ *     .distinctApprox("판매일수", 0);
+ * </pre>
+ * 열 번호는 CSV 필드 번호(0부터)이다. 이름은 결과 조회에 사용되므로 중복될 수 없다.
+ */
+public class AggregationSpec {
+
+	public enum Type {
+		SUM, COUNT, MIN, MAX, AVG, DISTINCT_APPROX
+	}
+
+	private final List<String> names = new ArrayList<>();
+	private final List<Type> types = new ArrayList<>();
+	private final List<Integer> columns = new ArrayList<>();
+
+	public AggregationSpec sum(String name, int column) {
+		return add(name, Type.SUM, column);
+	}
+
+	public AggregationSpec count(String name) {
+		return add(name, Type.COUNT, -1);
+	}
+
+	public AggregationSpec min(String name, int column) {
+		return add(name, Type.MIN, column);
+	}
+
+	public AggregationSpec max(String name, int column) {
+		return add(name, Type.MAX, column);
+	}
+
+	public AggregationSpec avg(String name, int column) {
+		return add(name, Type.AVG, column);
+	}
+
+	/**
+	 * 서로 다른 값의 개수 근사치 (HyperLogLog)
+	 */
+	public AggregationSpec distinctApprox(String name, int column) {
+		return add(name, Type.DISTINCT_APPROX, column);
+	}
+
+	public int size() {
+		return names.size();
+	}
+
+	public String name(int index) {
+		return names.get(index);
+	}
+
+	public Type type(int index) {
+		return types.get(index);
+	}
+
+	public int column(int index) {
+		return columns.get(index);
+	}
+
+	/**
+	 * 가장 큰 참조 열 번호 (이보다 필드가 적은 레코드는 건너뜀)
+	 */
+	int maxColumn() {
+		int max = -1;
+		for (int column : columns) {
+			max = Math.max(max, column);
+		}
+		return max;
+	}
+
+	int indexOf(String name) {
+		return names.indexOf(name);
+	}
+
+	private AggregationSpec add(String name, Type type, int column) {
+		if (names.contains(name)) {
+			throw new IllegalArgumentException("이미 선언된 집계 이름입니다: " + name);
+		}
+		if (type != Type.COUNT && column < 0) {
+			throw new IllegalArgumentException("열 번호는 0 이상이어야 합니다: " + column);
+		}
+		names.add(name);
+		types.add(type);
+		columns.add(column);
+		return this;
+	}
+}
@@ -0,0 +1,176 @@
+package com.JavaCoreTil.io.common.aggregate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.JavaCoreTil.io.common.csv.CsvReader;
+
+/**
+ * CSV 파일을 한 번만 읽어 키 열 기준으로 선언된 집계를 모두 계산하는 엔진
+ * <p>
+ * 파일을 줄바꿈 경계에 맞춘 바이트 범위로 나누고, 스레드마다 자기 범위를 CsvReader 로 읽어
+ * 별도의 GroupTable 에 누적한 뒤 범위 순서대로 병합한다. 따라서 그룹 순서는 순차 실행과 같고,
+ * 공유 상태나 잠금 없이 병렬로 집계된다.
+ * <p>
+ * 범위 분할은 따옴표 필드 안에 줄바꿈이 없다고 가정한다. 그런 파일은 parallelism 을 1 로 지정한다.
+ */
+public class CsvAggregator {
+
+	public static final int DEFAULT_PRECISION = 11; // HyperLogLog 레지스터 2048개, 오차 약 2.3%
+
+	// 이보다 작은 범위로는 나누지 않음
+	private static final long MIN_RANGE_SIZE = 1024 * 1024;
+
+	private final int keyColumn;
+	private final AggregationSpec spec;
+	private final int parallelism;
+	private final byte delimiter;
+	private final int precision;
+
+	public CsvAggregator(int keyColumn, AggregationSpec spec) {
+		this(keyColumn, spec, Runtime.getRuntime().availableProcessors());
+	}
+
+	public CsvAggregator(int keyColumn, AggregationSpec spec, int parallelism) {
+		this(keyColumn, spec, parallelism, (byte)',', DEFAULT_PRECISION);
+	}
+
+	/**
+	 * @param keyColumn 그룹 키 열 번호
+	 * @param spec 계산할 집계 목록
+	 * @param parallelism 스캔 스레드 수
+	 * @param delimiter 필드 구분자
+	 * @param precision distinctApprox 의 HyperLogLog 정밀도 (4~16)
+	 */
+	public CsvAggregator(int keyColumn, AggregationSpec spec, int parallelism, byte delimiter, int precision) {
+		if (keyColumn < 0 || parallelism <= 0) {
+			throw new IllegalArgumentException("keyColumn은 0 이상, parallelism은 0보다 커야 합니다.");
+		}
+		if (spec.size() == 0) {
+			throw new IllegalArgumentException("집계가 하나 이상 선언되어야 합니다.");
+		}
+		new HyperLogLog(precision); // precision 검증
+		this.keyColumn = keyColumn;
+		this.spec = spec;
+		this.parallelism = parallelism;
+		this.delimiter = delimiter;
+		this.precision = precision;
+	}
+
+	/**
+	 * 파일 전체를 한 번 스캔해 집계
+	 * @param hasHeader 첫 레코드가 헤더이면 true (집계에서 제외)
+	 */
+	public AggregationResult aggregate(Path csvFile, boolean hasHeader) throws IOException {
+		long startTime = System.nanoTime();
+
+		long[] boundaries = splitBoundaries(csvFile);
+		int ranges = boundaries.length - 1;
+
+		GroupTable total;
+		if (ranges == 1) {
+			total = scanRange(csvFile, boundaries[0], boundaries[1], hasHeader);
+		} else {
+			total = scanParallel(csvFile, boundaries, hasHeader);
+		}
+
+		return total.toResult(System.nanoTime() - startTime);
+	}
+
+	private GroupTable scanParallel(Path csvFile, long[] boundaries, boolean hasHeader) throws IOException {
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Future<GroupTable>> futures = new ArrayList<>();
+			for (int i = 0; i < boundaries.length - 1; i++) {
+				long start = boundaries[i];
+				long end = boundaries[i + 1];
+				boolean skipHeader = hasHeader && i == 0;
+				futures.add(pool.submit(() -> scanRange(csvFile, start, end, skipHeader)));
+			}
+
+			// 범위 순서대로 병합해 그룹 등장 순서를 유지
+			GroupTable total = futures.get(0).get();
+			for (int i = 1; i < futures.size(); i++) {
+				total.merge(futures.get(i).get());
+			}
+			return total;
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("집계가 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private GroupTable scanRange(Path csvFile, long start, long end, boolean skipHeader) throws IOException {
+		GroupTable table = new GroupTable(spec, keyColumn, precision);
+		try (CsvReader reader = CsvReader.open(csvFile, delimiter, start, end)) {
+			if (skipHeader) {
+				reader.next();
+			}
+			while (reader.next()) {
+				table.accumulate(reader);
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * 파일을 parallelism 개 이하의 범위로 나누고 각 경계를 다음 줄바꿈 뒤로 맞춤
+	 * @return 범위 경계 (첫 값 0, 마지막 값 파일 크기)
+	 */
+	private long[] splitBoundaries(Path csvFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+			long size = channel.size();
+			int ranges = (int)Math.max(1, Math.min(parallelism, size / MIN_RANGE_SIZE));
+
+			List<Long> boundaries = new ArrayList<>();
+			boundaries.add(0L);
+			ByteBuffer probe = ByteBuffer.allocate(4096);
+			for (int i = 1; i < ranges; i++) {
+				long boundary = nextLineStart(channel, size * i / ranges, size, probe);
+				if (boundary > boundaries.get(boundaries.size() - 1) && boundary < size) {
+					boundaries.add(boundary);
+				}
+			}
+			boundaries.add(size);
+
+			long[] result = new long[boundaries.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = boundaries.get(i);
+			}
+			return result;
+		}
+	}
+
+	private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer probe) throws IOException {
+		long offset = from;
+		while (offset < size) {
+			probe.clear();
+			int bytesRead = channel.read(probe, offset);
+			if (bytesRead <= 0) {
+				break;
+			}
+			for (int i = 0; i < bytesRead; i++) {
+				if (probe.get(i) == '\n') {
+					return offset + i + 1;
+				}
+			}
+			offset += bytesRead;
+		}
+		return size;
+	}
+}
@@ -0,0 +1,325 @@
+package com.JavaCoreTil.io.common.aggregate;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.JavaCoreTil.io.common.csv.CsvReader;
+
+/**
+ * 한 스레드의 그룹별 부분 집계 테이블
+ * <p>
+ * 키는 CSV 필드의 원본 바이트로 해시/비교하는 개방 주소법 테이블로 찾는다.
+ * 새 그룹이 생길 때만 키 바이트와 문자열을 할당하고, 기존 그룹에 대한 누적은 할당이 없다.
+ * 집계 상태는 그룹 번호 × 슬롯 폭의 double 배열 하나에 모아 둔다 (그룹별 레코드 목록은 만들지 않음).
+ */
+final class GroupTable {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final AggregationSpec spec;
+	private final int keyColumn;
+	private final int minFields;
+	private final int precision;
+
+	// 집계별 상태 위치: SUM/MIN/MAX/AVG 는 state 슬롯, DISTINCT_APPROX 는 sketches 슬롯, COUNT 는 -1
+	private final int[] slotIndex;
+	private final int stateWidth;
+	private final int sketchWidth;
+
+	// 행 하나를 모두 파싱한 뒤 반영하기 위한 임시 값 (파싱 실패 시 부분 반영 방지)
+	private final double[] rowValues;
+	private final long[] rowHashes;
+
+	private int[] table; // 그룹 번호 + 1 (0 = 빈 슬롯)
+	private int groupCount;
+	private long[] keyHashes;
+	private byte[][] rawKeys;
+	private String[] keys;
+	private long[] counts;
+	private double[] state;
+	private HyperLogLog[] sketches;
+
+	private long records;
+	private long skippedRecords;
+
+	GroupTable(AggregationSpec spec, int keyColumn, int precision) {
+		this.spec = spec;
+		this.keyColumn = keyColumn;
+		this.minFields = Math.max(keyColumn, spec.maxColumn()) + 1;
+		this.precision = precision;
+
+		this.slotIndex = new int[spec.size()];
+		int states = 0;
+		int distincts = 0;
+		for (int i = 0; i < spec.size(); i++) {
+			switch (spec.type(i)) {
+				case COUNT:
+					slotIndex[i] = -1;
+					break;
+				case DISTINCT_APPROX:
+					slotIndex[i] = distincts++;
+					break;
+				default:
+					slotIndex[i] = states++;
+			}
+		}
+		this.stateWidth = states;
+		this.sketchWidth = distincts;
+		this.rowValues = new double[spec.size()];
+		this.rowHashes = new long[spec.size()];
+
+		int capacity = 64;
+		this.table = new int[capacity];
+		this.keyHashes = new long[capacity / 2];
+		this.rawKeys = new byte[capacity / 2][];
+		this.keys = new String[capacity / 2];
+		this.counts = new long[capacity / 2];
+		this.state = new double[capacity / 2 * stateWidth];
+		this.sketches = new HyperLogLog[capacity / 2 * sketchWidth];
+	}
+
+	/**
+	 * 현재 레코드를 집계에 반영
+	 */
+	void accumulate(CsvReader reader) {
+		if (reader.fieldCount() < minFields) {
+			skippedRecords++;
+			return;
+		}
+
+		try {
+			for (int i = 0; i < rowValues.length; i++) {
+				switch (spec.type(i)) {
+					case COUNT:
+						break;
+					case DISTINCT_APPROX:
+						rowHashes[i] = hash(reader, spec.column(i));
+						break;
+					default:
+						rowValues[i] = reader.getDouble(spec.column(i));
+				}
+			}
+		} catch (NumberFormatException e) {
+			skippedRecords++;
+			return;
+		}
+
+		int group = findOrInsert(reader);
+		counts[group]++;
+		records++;
+
+		int stateBase = group * stateWidth;
+		int sketchBase = group * sketchWidth;
+		for (int i = 0; i < rowValues.length; i++) {
+			int slot = slotIndex[i];
+			switch (spec.type(i)) {
+				case SUM:
+				case AVG:
+					state[stateBase + slot] += rowValues[i];
+					break;
+				case MIN:
+					state[stateBase + slot] = Math.min(state[stateBase + slot], rowValues[i]);
+					break;
+				case MAX:
+					state[stateBase + slot] = Math.max(state[stateBase + slot], rowValues[i]);
+					break;
+				case DISTINCT_APPROX:
+					sketches[sketchBase + slot].addHash(rowHashes[i]);
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
+	/**
+	 * 다른 스레드의 부분 결과 병합 (other 의 그룹 등장 순서를 뒤에 이어 붙임)
+	 */
+	void merge(GroupTable other) {
+		for (int g = 0; g < other.groupCount; g++) {
+			int group = findOrInsert(other.keyHashes[g], other.rawKeys[g], other.keys[g]);
+			counts[group] += other.counts[g];
+
+			int stateBase = group * stateWidth;
+			int otherStateBase = g * stateWidth;
+			int sketchBase = group * sketchWidth;
+			int otherSketchBase = g * sketchWidth;
+			for (int i = 0; i < slotIndex.length; i++) {
+				int slot = slotIndex[i];
+				switch (spec.type(i)) {
+					case SUM:
+					case AVG:
+						state[stateBase + slot] += other.state[otherStateBase + slot];
+						break;
+					case MIN:
+						state[stateBase + slot] = Math.min(state[stateBase + slot], other.state[otherStateBase + slot]);
+						break;
+					case MAX:
+						state[stateBase + slot] = Math.max(state[stateBase + slot], other.state[otherStateBase + slot]);
+						break;
+					case DISTINCT_APPROX:
+						sketches[sketchBase + slot].merge(other.sketches[otherSketchBase + slot]);
+						break;
+					default:
+						break;
+				}
+			}
+		}
+		records += other.records;
+		skippedRecords += other.skippedRecords;
+	}
+
+	AggregationResult toResult(long elapsedNanos) {
+		Map<String, AggregationResult.Group> groups = new LinkedHashMap<>();
+		for (int g = 0; g < groupCount; g++) {
+			double[] values = new double[slotIndex.length];
+			for (int i = 0; i < slotIndex.length; i++) {
+				int slot = slotIndex[i];
+				switch (spec.type(i)) {
+					case COUNT:
+						values[i] = counts[g];
+						break;
+					case AVG:
+						values[i] = state[g * stateWidth + slot] / counts[g];
+						break;
+					case DISTINCT_APPROX:
+						values[i] = sketches[g * sketchWidth + slot].estimate();
+						break;
+					default:
+						values[i] = state[g * stateWidth + slot];
+				}
+			}
+			groups.put(keys[g], new AggregationResult.Group(spec, keys[g], counts[g], values));
+		}
+		return new AggregationResult(groups, records, skippedRecords, elapsedNanos);
+	}
+
+	private int findOrInsert(CsvReader reader) {
+		long hash = hash(reader, keyColumn);
+		int mask = table.length - 1;
+		int length = reader.byteLength(keyColumn);
+
+		for (int i = (int)hash & mask; ; i = (i + 1) & mask) {
+			int entry = table[i];
+			if (entry == 0) {
+				byte[] rawKey = new byte[length];
+				for (int j = 0; j < length; j++) {
+					rawKey[j] = reader.byteAt(keyColumn, j);
+				}
+				return insert(i, hash, rawKey, reader.getString(keyColumn));
+			}
+			int group = entry - 1;
+			if (keyHashes[group] == hash && sameKey(rawKeys[group], reader, length)) {
+				return group;
+			}
+		}
+	}
+
+	private int findOrInsert(long hash, byte[] rawKey, String key) {
+		int mask = table.length - 1;
+		for (int i = (int)hash & mask; ; i = (i + 1) & mask) {
+			int entry = table[i];
+			if (entry == 0) {
+				return insert(i, hash, rawKey, key);
+			}
+			int group = entry - 1;
+			if (keyHashes[group] == hash && Arrays.equals(rawKeys[group], rawKey)) {
+				return group;
+			}
+		}
+	}
+
+	private boolean sameKey(byte[] rawKey, CsvReader reader, int length) {
+		if (rawKey.length != length) {
+			return false;
+		}
+		for (int j = 0; j < length; j++) {
+			if (rawKey[j] != reader.byteAt(keyColumn, j)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int insert(int tableSlot, long hash, byte[] rawKey, String key) {
+		if (groupCount == counts.length) {
+			grow();
+			// 재해싱으로 슬롯이 바뀌었으므로 빈 슬롯을 다시 찾음
+			int mask = table.length - 1;
+			tableSlot = (int)hash & mask;
+			while (table[tableSlot] != 0) {
+				tableSlot = (tableSlot + 1) & mask;
+			}
+		}
+
+		int group = groupCount++;
+		table[tableSlot] = group + 1;
+		keyHashes[group] = hash;
+		rawKeys[group] = rawKey;
+		keys[group] = key;
+
+		Arrays.fill(state, group * stateWidth, (group + 1) * stateWidth, 0.0);
+		for (int i = 0; i < slotIndex.length; i++) {
+			switch (spec.type(i)) {
+				case MIN:
+					state[group * stateWidth + slotIndex[i]] = Double.POSITIVE_INFINITY;
+					break;
+				case MAX:
+					state[group * stateWidth + slotIndex[i]] = Double.NEGATIVE_INFINITY;
+					break;
+				case DISTINCT_APPROX:
+					sketches[group * sketchWidth + slotIndex[i]] = new HyperLogLog(precision);
+					break;
+				default:
+					break;
+			}
+		}
+		return group;
+	}
+
+	/**
+	 * 그룹 배열과 해시 테이블을 두 배로 (테이블 적재율 50% 유지)
+	 */
+	private void grow() {
+		int groupCapacity = counts.length * 2;
+		keyHashes = Arrays.copyOf(keyHashes, groupCapacity);
+		rawKeys = Arrays.copyOf(rawKeys, groupCapacity);
+		keys = Arrays.copyOf(keys, groupCapacity);
+		counts = Arrays.copyOf(counts, groupCapacity);
+		state = Arrays.copyOf(state, groupCapacity * stateWidth);
+		sketches = Arrays.copyOf(sketches, groupCapacity * sketchWidth);
+
+		table = new int[groupCapacity * 2];
+		int mask = table.length - 1;
+		for (int group = 0; group < groupCount; group++) {
+			int i = (int)keyHashes[group] & mask;
+			while (table[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			table[i] = group + 1;
+		}
+	}
+
+	/**
+	 * 필드 원본 바이트의 64비트 해시 (FNV-1a 후 MurmurHash3 fmix64 로 비트 확산)
+	 * <p>
+	 * 따옴표 안의 원본 바이트는 값마다 표현이 하나뿐이므로 (따옴표가 있는 값은 항상 "" 로 이스케이프됨)
+	 * 이스케이프를 풀지 않고 해시해도 같은 값은 같은 해시를 갖는다.
+	 */
+	private static long hash(CsvReader reader, int column) {
+		long hash = FNV_OFFSET;
+		int length = reader.byteLength(column);
+		for (int i = 0; i < length; i++) {
+			hash ^= reader.byteAt(column, i) & 0xFF;
+			hash *= FNV_PRIME;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,324 @@
+package com.JavaCoreTil.io.common.backup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.JavaCoreTil.io.common.backup.SnapshotManifest.ChunkRef;
+import com.JavaCoreTil.io.common.backup.SnapshotManifest.FileEntry;
+import com.JavaCoreTil.io.common.hash.FileHasher;
+
+/**
+ * 내용 기반 청크 분할과 중복 제거를 사용하는 스냅샷 백업
+ * <p>
+ * 저장소 구조:
+ * <pre>
+ * &lt;repository&gt;/chunks/ab/abcdef...   SHA-256 주소 청크 (한 번만 저장)
+ * &lt;repository&gt;/snapshots/000001.snapshot   스냅샷별 매니페스트
+ * </pre>
+ * 백업할 때 직전 스냅샷과 크기, 수정 시각이 같은 파일은 읽지 않고 청크 목록을 그대로 물려받는다.
+ * 바뀐 파일만 ContentDefinedChunker 로 나누어 저장소에 없는 청크만 쓰므로, 백업 시간과 저장 공간이
+ * 변경량에 비례한다. 파일 단위로 병렬 처리하며, 청크를 모두 쓴 뒤 매니페스트를 마지막에 쓰므로
+ * 중단된 백업은 스냅샷으로 보이지 않는다. 같은 저장소에 대한 동시 백업은 지원하지 않는다.
+ */
+public class BackupEngine {
+
+	private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+	private final ChunkStore store;
+	private final Path snapshotDirectory;
+	private final ContentDefinedChunker chunker;
+	private final int parallelism;
+
+	public BackupEngine(Path repository) throws IOException {
+		this(repository, new ContentDefinedChunker(), Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param parallelism 동시에 처리할 파일 수
+	 */
+	public BackupEngine(Path repository, ContentDefinedChunker chunker, int parallelism) throws IOException {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism은 0보다 커야 합니다.");
+		}
+		this.store = new ChunkStore(repository.resolve("chunks"));
+		this.snapshotDirectory = repository.resolve("snapshots");
+		this.chunker = chunker;
+		this.parallelism = parallelism;
+		Files.createDirectories(snapshotDirectory);
+	}
+
+	/**
+	 * source 디렉토리 아래 모든 일반 파일의 새 스냅샷을 만듦
+	 */
+	public BackupResult backup(Path source) throws IOException {
+		long startTime = System.nanoTime();
+		List<String> snapshots = listSnapshots();
+		Map<String, FileEntry> previous = snapshots.isEmpty() ? Collections.emptyMap()
+			: readSnapshot(snapshots.get(snapshots.size() - 1)).byPath();
+
+		List<Path> files;
+		try (Stream<Path> stream = Files.walk(source)) {
+			files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+
+		List<FileOutcome> outcomes = runAll(files, file -> backupFile(source, file, previous));
+
+		List<FileEntry> entries = new ArrayList<>(outcomes.size());
+		int changedFiles = 0;
+		long totalBytes = 0;
+		long bytesRead = 0;
+		long chunks = 0;
+		long newChunks = 0;
+		long newBytes = 0;
+		for (FileOutcome outcome : outcomes) {
+			entries.add(outcome.entry);
+			changedFiles += outcome.read ? 1 : 0;
+			totalBytes += outcome.entry.getSize();
+			bytesRead += outcome.read ? outcome.entry.getSize() : 0;
+			chunks += outcome.entry.getChunks().size();
+			newChunks += outcome.newChunks;
+			newBytes += outcome.newBytes;
+		}
+
+		String id = nextSnapshotId(snapshots);
+		new SnapshotManifest(id, System.currentTimeMillis(), entries).writeTo(snapshotFile(id));
+		return new BackupResult(id, entries.size(), changedFiles, totalBytes, bytesRead, chunks, newChunks,
+			newBytes, System.nanoTime() - startTime);
+	}
+
+	/**
+	 * 스냅샷을 target 디렉토리에 복원 (청크마다 SHA-256 검증)
+	 * @return 복원한 파일 수
+	 */
+	public int restore(String snapshotId, Path target) throws IOException {
+		Path root = target.toAbsolutePath().normalize();
+		List<FileEntry> files = readSnapshot(snapshotId).getFiles();
+		runAll(files, file -> {
+			restoreFile(root, file);
+			return null;
+		});
+		return files.size();
+	}
+
+	/**
+	 * 스냅샷이 참조하는 청크가 모두 있고 손상되지 않았는지 확인
+	 * @return 없거나 손상된 청크 해시 목록 (비어 있으면 정상)
+	 */
+	public List<String> verify(String snapshotId) throws IOException {
+		Set<String> hashes = new LinkedHashSet<>();
+		for (FileEntry file : readSnapshot(snapshotId).getFiles()) {
+			for (ChunkRef chunk : file.getChunks()) {
+				hashes.add(chunk.getHash());
+			}
+		}
+
+		List<String> hashList = new ArrayList<>(hashes);
+		List<String> results = runAll(hashList, hash -> {
+			try {
+				store.get(hash);
+				return null;
+			} catch (IOException e) {
+				return hash;
+			}
+		});
+		List<String> damaged = new ArrayList<>();
+		for (String hash : results) {
+			if (hash != null) {
+				damaged.add(hash);
+			}
+		}
+		return damaged;
+	}
+
+	/**
+	 * 스냅샷 ID 목록 (오래된 순)
+	 */
+	public List<String> listSnapshots() throws IOException {
+		try (Stream<Path> stream = Files.list(snapshotDirectory)) {
+			return stream.map(path -> path.getFileName().toString())
+				.filter(name -> name.endsWith(SNAPSHOT_SUFFIX))
+				.map(name -> name.substring(0, name.length() - SNAPSHOT_SUFFIX.length()))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+	}
+
+	public SnapshotManifest readSnapshot(String snapshotId) throws IOException {
+		return SnapshotManifest.readFrom(snapshotFile(snapshotId));
+	}
+
+	/**
+	 * 저장소의 고유 청크 수와 전체 크기 {청크 수, 바이트}
+	 */
+	public long[] storeUsage() throws IOException {
+		List<Path> chunkFiles;
+		try (Stream<Path> stream = Files.walk(store.getDirectory())) {
+			chunkFiles = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+		}
+		long bytes = 0;
+		for (Path path : chunkFiles) {
+			bytes += Files.size(path);
+		}
+		return new long[] {chunkFiles.size(), bytes};
+	}
+
+	private FileOutcome backupFile(Path source, Path file, Map<String, FileEntry> previous) throws IOException {
+		String path = source.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+		BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		long modifiedMillis = attributes.lastModifiedTime().toMillis();
+
+		FileEntry unchanged = previous.get(path);
+		if (unchanged != null && unchanged.getSize() == attributes.size()
+			&& unchanged.getModifiedMillis() == modifiedMillis) {
+			return new FileOutcome(unchanged, false, 0, 0);
+		}
+
+		MessageDigest digest = ChunkStore.newSha256();
+		List<ChunkRef> chunks = new ArrayList<>();
+		long newChunks = 0;
+		long newBytes = 0;
+		long size = 0;
+
+		// 청크 경계를 정하려면 최대 청크 크기만큼 앞을 볼 수 있어야 하므로, 그보다 적게 남으면 다시 채움
+		byte[] buffer = new byte[chunker.getMaxSize() * 4];
+		int start = 0;
+		int end = 0;
+		boolean eof = false;
+		try (InputStream in = Files.newInputStream(file)) {
+			while (true) {
+				if (!eof && end - start < chunker.getMaxSize()) {
+					System.arraycopy(buffer, start, buffer, 0, end - start);
+					end -= start;
+					start = 0;
+					while (end < buffer.length) {
+						int bytesRead = in.read(buffer, end, buffer.length - end);
+						if (bytesRead < 0) {
+							eof = true;
+							break;
+						}
+						end += bytesRead;
+					}
+				}
+				if (start == end) {
+					break;
+				}
+
+				int length = chunker.cut(buffer, start, end - start);
+				digest.update(buffer, start, length);
+				String hash = FileHasher.toHex(digest.digest());
+				if (store.put(hash, buffer, start, length)) {
+					newChunks++;
+					newBytes += length;
+				}
+				chunks.add(new ChunkRef(hash, length));
+				size += length;
+				start += length;
+			}
+		}
+		return new FileOutcome(new FileEntry(path, size, modifiedMillis, chunks), true, newChunks, newBytes);
+	}
+
+	private void restoreFile(Path root, FileEntry file) throws IOException {
+		Path target = root.resolve(file.getPath()).normalize();
+		if (!target.startsWith(root) || target.equals(root)) {
+			throw new IOException("복원 디렉토리 밖을 가리키는 경로입니다: " + file.getPath());
+		}
+		Files.createDirectories(target.getParent());
+
+		long size = 0;
+		try (OutputStream out = Files.newOutputStream(target)) {
+			for (ChunkRef chunk : file.getChunks()) {
+				byte[] data = store.get(chunk.getHash());
+				out.write(data);
+				size += data.length;
+			}
+		}
+		if (size != file.getSize()) {
+			throw new IOException("복원한 파일 크기가 다릅니다: " + file.getPath());
+		}
+		Files.setLastModifiedTime(target, FileTime.fromMillis(file.getModifiedMillis()));
+	}
+
+	private Path snapshotFile(String snapshotId) {
+		return snapshotDirectory.resolve(snapshotId + SNAPSHOT_SUFFIX);
+	}
+
+	private static String nextSnapshotId(List<String> snapshots) {
+		long last = 0;
+		Set<String> existing = new HashSet<>(snapshots);
+		for (String id : snapshots) {
+			try {
+				last = Math.max(last, Long.parseLong(id));
+			} catch (NumberFormatException ignored) {
+				// 직접 이름을 붙인 스냅샷은 번호 계산에서 제외
+			}
+		}
+		String id = String.format("%06d", last + 1);
+		return existing.contains(id) ? id + "-" + System.currentTimeMillis() : id;
+	}
+
+	/**
+	 * 항목마다 작업을 병렬로 실행하고 결과를 입력 순서대로 모음
+	 */
+	private <T, R> List<R> runAll(List<T> items, Task<T, R> task) throws IOException {
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Future<R>> futures = new ArrayList<>(items.size());
+			for (T item : items) {
+				futures.add(pool.submit(() -> task.run(item)));
+			}
+			List<R> results = new ArrayList<>(items.size());
+			for (Future<R> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("백업 작업이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@FunctionalInterface
+	private interface Task<T, R> {
+		R run(T item) throws IOException;
+	}
+
+	private static final class FileOutcome {
+		final FileEntry entry;
+		final boolean read;
+		final long newChunks;
+		final long newBytes;
+
+		FileOutcome(FileEntry entry, boolean read, long newChunks, long newBytes) {
+			this.entry = entry;
+			this.read = read;
+			this.newChunks = newChunks;
+			this.newBytes = newBytes;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.JavaCoreTil.io.common.backup;
+
+/**
+ * 백업 한 번의 결과 통계
+ */
+public class BackupResult {
+
+	private final String snapshotId;
+	private final int files;
+	private final int changedFiles;
+	private final long totalBytes;
+	private final long bytesRead;
+	private final long chunks;
+	private final long newChunks;
+	private final long newBytes;
+	private final long elapsedNanos;
+
+	BackupResult(String snapshotId, int files, int changedFiles, long totalBytes, long bytesRead, long chunks,
+		long newChunks, long newBytes, long elapsedNanos) {
+		this.snapshotId = snapshotId;
+		this.files = files;
+		this.changedFiles = changedFiles;
+		this.totalBytes = totalBytes;
+		this.bytesRead = bytesRead;
+		this.chunks = chunks;
+		this.newChunks = newChunks;
+		this.newBytes = newBytes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public String getSnapshotId() {
+		return snapshotId;
+	}
+
+	public int getFiles() {
+		return files;
+	}
+
+	/**
+	 * 크기나 수정 시각이 바뀌어 다시 읽은 파일 수
+	 */
+	public int getChangedFiles() {
+		return changedFiles;
+	}
+
+	/**
+	 * 스냅샷에 포함된 파일 전체 크기
+	 */
+	public long getTotalBytes() {
+		return totalBytes;
+	}
+
+	public long getBytesRead() {
+		return bytesRead;
+	}
+
+	/**
+	 * 스냅샷이 참조하는 청크 수 (중복 포함)
+	 */
+	public long getChunks() {
+		return chunks;
+	}
+
+	/**
+	 * 저장소에 새로 저장한 청크 수
+	 */
+	public long getNewChunks() {
+		return newChunks;
+	}
+
+	public long getNewBytes() {
+		return newBytes;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * 새로 저장한 바이트 대비 스냅샷 크기 (클수록 중복 제거 효과가 큼)
+	 */
+	public double getDedupRatio() {
+		return newBytes == 0 ? Double.POSITIVE_INFINITY : (double)totalBytes / newBytes;
+	}
+}
@@ -0,0 +1,101 @@
+package com.JavaCoreTil.io.common.backup;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.JavaCoreTil.io.common.hash.FileHasher;
+
+/**
+ * SHA-256 으로 주소를 매기는 청크 저장소
+ * <p>
+ * 청크는 chunks/&lt;해시 앞 2자리&gt;/&lt;해시&gt; 파일로 한 번만 저장된다. 임시 파일에 쓴 뒤 이름을 바꾸므로
+ * 중간에 중단되어도 반쯤 쓰인 청크가 남지 않고, 같은 청크를 여러 스레드가 동시에 저장해도 안전하다.
+ */
+public class ChunkStore {
+
+	private final Path directory;
+
+	// 이번 실행에서 이미 확인한 해시 (같은 청크에 대한 반복 exists 호출을 줄임)
+	private final Set<String> known = ConcurrentHashMap.newKeySet();
+
+	public ChunkStore(Path directory) throws IOException {
+		this.directory = directory;
+		Files.createDirectories(directory);
+	}
+
+	/**
+	 * 저장소에 없을 때만 저장
+	 * @return 새로 저장했으면 true
+	 */
+	public boolean put(String hash, byte[] data, int offset, int length) throws IOException {
+		if (!known.add(hash)) {
+			return false;
+		}
+		Path path = pathOf(hash);
+		if (Files.exists(path)) {
+			return false;
+		}
+
+		try {
+			Files.createDirectories(path.getParent());
+			Path temp = Files.createTempFile(path.getParent(), hash, ".tmp");
+			try {
+				Files.write(temp, length == data.length && offset == 0 ? data : Arrays.copyOfRange(data, offset,
+					offset + length));
+				try {
+					Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+			return true;
+		} catch (IOException | RuntimeException e) {
+			known.remove(hash);
+			throw e;
+		}
+	}
+
+	/**
+	 * 청크를 읽고 SHA-256 으로 내용을 검증
+	 * @throws IOException 청크가 없거나 손상되었을 때
+	 */
+	public byte[] get(String hash) throws IOException {
+		byte[] data = Files.readAllBytes(pathOf(hash));
+		String actual = FileHasher.toHex(newSha256().digest(data));
+		if (!actual.equals(hash)) {
+			throw new IOException("청크가 손상되었습니다: " + hash);
+		}
+		return data;
+	}
+
+	public boolean contains(String hash) {
+		return Files.exists(pathOf(hash));
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	static MessageDigest newSha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// 모든 JDK 구현은 SHA-256 을 제공해야 함
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private Path pathOf(String hash) {
+		return directory.resolve(hash.substring(0, 2)).resolve(hash);
+	}
+}
@@ -0,0 +1,103 @@
+package com.JavaCoreTil.io.common.backup;
+
+/**
+ * 내용 기반 청크 분할기 (FastCDC 방식의 Gear 롤링 해시)
+ * <p>
+ * 고정 크기로 자르면 파일 앞쪽에 바이트 하나만 끼워 넣어도 뒤의 모든 청크 경계가 밀려 중복 제거가 안 된다.
+ * 이 분할기는 최근 약 64바이트의 내용으로 계산한 해시가 마스크 조건을 만족하는 위치에서 자르므로,
+ * 수정된 부분 주변 청크만 바뀌고 나머지 경계는 내용을 따라 그대로 유지된다.
+ * <p>
+ * 평균 크기 전에는 더 엄격한 마스크, 이후에는 느슨한 마스크를 써서(정규화 청킹) 청크 크기가 평균 근처에 모이게 한다.
+ * Gear 테이블은 고정 시드로 만들므로 실행마다 같은 경계가 나온다.
+ */
+public class ContentDefinedChunker {
+
+	public static final int DEFAULT_MIN_SIZE = 2 * 1024;
+	public static final int DEFAULT_AVERAGE_SIZE = 8 * 1024;
+	public static final int DEFAULT_MAX_SIZE = 64 * 1024;
+
+	private static final long[] GEAR = new long[256];
+
+	static {
+		// splitmix64 (고정 시드) - JDK 난수 구현에 의존하지 않도록 직접 생성
+		long seed = 0x5DEECE66DL;
+		for (int i = 0; i < GEAR.length; i++) {
+			seed += 0x9E3779B97F4A7C15L;
+			long z = seed;
+			z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+			z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+			GEAR[i] = z ^ (z >>> 31);
+		}
+	}
+
+	private final int minSize;
+	private final int averageSize;
+	private final int maxSize;
+	private final long strictMask;
+	private final long looseMask;
+
+	public ContentDefinedChunker() {
+		this(DEFAULT_MIN_SIZE, DEFAULT_AVERAGE_SIZE, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param averageSize 목표 평균 크기 (2의 거듭제곱)
+	 */
+	public ContentDefinedChunker(int minSize, int averageSize, int maxSize) {
+		if (Integer.bitCount(averageSize) != 1 || averageSize < 256) {
+			throw new IllegalArgumentException("averageSize는 256 이상인 2의 거듭제곱이어야 합니다: " + averageSize);
+		}
+		if (minSize <= 0 || minSize >= averageSize || maxSize <= averageSize) {
+			throw new IllegalArgumentException("0 < minSize < averageSize < maxSize 이어야 합니다.");
+		}
+		this.minSize = minSize;
+		this.averageSize = averageSize;
+		this.maxSize = maxSize;
+
+		// 해시 상위 비트를 사용 (상위 비트일수록 더 많은 바이트의 영향을 받음)
+		int bits = Integer.numberOfTrailingZeros(averageSize);
+		this.strictMask = -1L << (64 - (bits + 2));
+		this.looseMask = -1L << (64 - (bits - 2));
+	}
+
+	public int getMinSize() {
+		return minSize;
+	}
+
+	public int getAverageSize() {
+		return averageSize;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * data[offset, offset + length) 의 첫 청크 길이
+	 * <p>
+	 * length 가 maxSize 보다 작으면 입력의 끝이어야 한다 (뒤에 데이터가 더 있으면 경계가 달라질 수 있음).
+	 */
+	public int cut(byte[] data, int offset, int length) {
+		if (length <= minSize) {
+			return length;
+		}
+		int limit = Math.min(length, maxSize);
+		int normal = Math.min(limit, averageSize);
+
+		long hash = 0;
+		int i = minSize;
+		for (; i < normal; i++) {
+			hash = (hash << 1) + GEAR[data[offset + i] & 0xFF];
+			if ((hash & strictMask) == 0) {
+				return i + 1;
+			}
+		}
+		for (; i < limit; i++) {
+			hash = (hash << 1) + GEAR[data[offset + i] & 0xFF];
+			if ((hash & looseMask) == 0) {
+				return i + 1;
+			}
+		}
+		return limit;
+	}
+}
@@ -0,0 +1,188 @@
+package com.JavaCoreTil.io.common.backup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스냅샷 하나의 파일 목록과 파일별 청크 목록
+ * <p>
+ * 텍스트 형식으로 저장/로드할 수 있다. 경로는 스냅샷 원본 디렉토리 기준 상대 경로('/' 구분)이며 줄 끝까지다.
+ * <pre>
+ * snapshot &lt;ID&gt; &lt;생성 시각(ms)&gt; &lt;파일 수&gt;
+ * file &lt;크기&gt; &lt;수정 시각(ms)&gt; &lt;청크 수&gt; &lt;경로&gt;
+ * &lt;청크 SHA-256&gt; &lt;청크 길이&gt;
+ * ...
+ * </pre>
+ */
+public class SnapshotManifest {
+
+	private static final String HEADER = "snapshot";
+	private static final String FILE = "file";
+
+	private final String id;
+	private final long createdMillis;
+	private final List<FileEntry> files;
+
+	public SnapshotManifest(String id, long createdMillis, List<FileEntry> files) {
+		this.id = id;
+		this.createdMillis = createdMillis;
+		this.files = Collections.unmodifiableList(new ArrayList<>(files));
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public long getCreatedMillis() {
+		return createdMillis;
+	}
+
+	public List<FileEntry> getFiles() {
+		return files;
+	}
+
+	public long getTotalBytes() {
+		long total = 0;
+		for (FileEntry file : files) {
+			total += file.getSize();
+		}
+		return total;
+	}
+
+	/**
+	 * 경로별 파일 항목 (증분 백업에서 변경 여부 판단용)
+	 */
+	public Map<String, FileEntry> byPath() {
+		Map<String, FileEntry> map = new HashMap<>(files.size() * 2);
+		for (FileEntry file : files) {
+			map.put(file.getPath(), file);
+		}
+		return map;
+	}
+
+	/**
+	 * 임시 파일에 쓴 뒤 이름을 바꿔 저장 (중단되어도 이전 내용이나 완성된 내용만 남음)
+	 */
+	public void writeTo(Path path) throws IOException {
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+			writer.write(HEADER + " " + id + " " + createdMillis + " " + files.size());
+			writer.newLine();
+			for (FileEntry file : files) {
+				writer.write(FILE + " " + file.size + " " + file.modifiedMillis + " " + file.chunks.size() + " "
+					+ file.path);
+				writer.newLine();
+				for (ChunkRef chunk : file.chunks) {
+					writer.write(chunk.getHash() + " " + chunk.getLength());
+					writer.newLine();
+				}
+			}
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public static SnapshotManifest readFrom(Path path) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String header = reader.readLine();
+			String[] parts = header == null ? new String[0] : header.split(" ");
+			if (parts.length != 4 || !HEADER.equals(parts[0])) {
+				throw new IOException("스냅샷 매니페스트 형식이 아닙니다: " + path);
+			}
+			String id = parts[1];
+			long createdMillis = Long.parseLong(parts[2]);
+			int fileCount = Integer.parseInt(parts[3]);
+
+			List<FileEntry> files = new ArrayList<>(fileCount);
+			for (int i = 0; i < fileCount; i++) {
+				String line = reader.readLine();
+				String[] fields = line == null ? new String[0] : line.split(" ", 5);
+				if (fields.length != 5 || !FILE.equals(fields[0])) {
+					throw new IOException("매니페스트가 잘렸거나 손상되었습니다: " + path);
+				}
+				int chunkCount = Integer.parseInt(fields[3]);
+				List<ChunkRef> chunks = new ArrayList<>(chunkCount);
+				for (int j = 0; j < chunkCount; j++) {
+					String chunkLine = reader.readLine();
+					int space = chunkLine == null ? -1 : chunkLine.indexOf(' ');
+					if (space < 0) {
+						throw new IOException("매니페스트가 잘렸습니다: " + path);
+					}
+					chunks.add(new ChunkRef(chunkLine.substring(0, space),
+						Integer.parseInt(chunkLine.substring(space + 1))));
+				}
+				files.add(new FileEntry(fields[4], Long.parseLong(fields[1]), Long.parseLong(fields[2]), chunks));
+			}
+			return new SnapshotManifest(id, createdMillis, files);
+
+		} catch (NumberFormatException e) {
+			throw new IOException("매니페스트 숫자 형식 오류: " + path, e);
+		}
+	}
+
+	/**
+	 * 백업된 파일 하나
+	 */
+	public static class FileEntry {
+		private final String path;
+		private final long size;
+		private final long modifiedMillis;
+		private final List<ChunkRef> chunks;
+
+		public FileEntry(String path, long size, long modifiedMillis, List<ChunkRef> chunks) {
+			if (path.indexOf('\n') >= 0 || path.indexOf('\r') >= 0) {
+				throw new IllegalArgumentException("줄바꿈이 들어 있는 경로는 백업할 수 없습니다: " + path);
+			}
+			this.path = path;
+			this.size = size;
+			this.modifiedMillis = modifiedMillis;
+			this.chunks = Collections.unmodifiableList(new ArrayList<>(chunks));
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		public long getSize() {
+			return size;
+		}
+
+		public long getModifiedMillis() {
+			return modifiedMillis;
+		}
+
+		public List<ChunkRef> getChunks() {
+			return chunks;
+		}
+	}
+
+	/**
+	 * 청크 저장소의 청크 참조 (SHA-256 16진수 + 길이)
+	 */
+	public static class ChunkRef {
+		private final String hash;
+		private final int length;
+
+		public ChunkRef(String hash, int length) {
+			this.hash = hash;
+			this.length = length;
+		}
+
+		public String getHash() {
+			return hash;
+		}
+
+		public int getLength() {
+			return length;
+		}
+	}
+}
@@ -0,0 +1,290 @@
+package com.JavaCoreTil.io.common.buffer;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * 파일 시스템(마운트 지점)별 최적 버퍼 크기 자동 튜너
+ * <p>
+ * probe() 로 지정한 디렉토리에 임시 프로브 파일을 만들고 후보 버퍼 크기마다 읽기 처리량을 측정한 뒤,
+ * 가장 빠른 크기를 FileStore 단위로 캐시한다. tmpfs, ext4, 네트워크 마운트처럼
+ * 파일 시스템마다 최적값이 다르므로 경로가 속한 FileStore 를 키로 사용한다.
+ * bufferSizeFor() 는 캐시를 조회만 하고, 측정한 적 없는 파일 시스템이면 기본값을 돌려준다
+ * (복사 중에 사용자 디렉토리에 파일을 만들거나 수 초씩 지연되지 않도록 측정은 명시적으로만 수행).
+ * <p>
+ * 측정은 CopyStrategies 와 같은 경로(FileInputStream + byte[])로 읽는다. 프로브 파일은 방금 쓴 파일이라
+ * 페이지 캐시에 올라가 있으므로, 읽기마다 /proc/sys/vm/drop_caches 로 캐시를 비워 디스크 처리량을 잰다.
+ * 캐시를 비울 권한이 없으면(루트가 아니거나 리눅스가 아닌 경우) 캐시 읽기 속도가 측정된다
+ * (ProbeResult.isCacheBypassed() 로 구분).
+ * <p>
+ * 같은 파일 시스템을 동시에 probe() 하면 한 스레드만 측정하고 나머지는 그 결과를 기다린다.
+ */
+public final class BufferSizeTuner {
+
+	public static final int FALLBACK_BUFFER_SIZE = 8192;
+
+	public static final int[] DEFAULT_CANDIDATES = {
+		4 * 1024, 8 * 1024, 16 * 1024, 32 * 1024, 64 * 1024, 128 * 1024, 256 * 1024, 1024 * 1024
+	};
+
+	private static final long DEFAULT_PROBE_FILE_SIZE = 16L * 1024 * 1024; // 16MB
+	private static final int DEFAULT_ROUNDS = 3;
+
+	// 처리량 차이가 이 비율 이내면 더 작은 버퍼를 선택 (메모리 절약)
+	private static final double TOLERANCE = 0.05;
+
+	private static final Path DROP_CACHES = Paths.get("/proc/sys/vm/drop_caches");
+
+	private static final BufferSizeTuner SHARED = new BufferSizeTuner(
+		DEFAULT_CANDIDATES, DEFAULT_PROBE_FILE_SIZE, DEFAULT_ROUNDS);
+
+	private final int[] candidates;
+	private final long probeFileSize;
+	private final int rounds;
+
+	private final Map<String, ProbeResult> cache = new ConcurrentHashMap<>();
+	// 측정 중인 파일 시스템 (같은 키의 중복 측정 방지)
+	private final ConcurrentHashMap<String, FutureTask<ProbeResult>> inFlight = new ConcurrentHashMap<>();
+
+	public static BufferSizeTuner shared() {
+		return SHARED;
+	}
+
+	/**
+	 * @param candidates 측정할 버퍼 크기 후보
+	 * @param probeFileSize 프로브 파일 크기 (바이트)
+	 * @param rounds 후보마다 측정 반복 횟수 (중앙값 사용, 별도로 워밍업 1회)
+	 */
+	public BufferSizeTuner(int[] candidates, long probeFileSize, int rounds) {
+		if (candidates.length == 0 || probeFileSize <= 0 || rounds <= 0) {
+			throw new IllegalArgumentException("후보, 프로브 파일 크기, 반복 횟수는 비어 있거나 0일 수 없습니다.");
+		}
+		this.candidates = candidates.clone();
+		Arrays.sort(this.candidates);
+		this.probeFileSize = probeFileSize;
+		this.rounds = rounds;
+	}
+
+	/**
+	 * path 가 속한 파일 시스템의 최적 버퍼 크기
+	 * probe() 로 측정한 적이 없는 파일 시스템이면 측정하지 않고 기본값을 돌려준다.
+	 */
+	public int bufferSizeFor(Path path) {
+		Path directory = existingDirectory(path);
+		if (directory == null) {
+			return FALLBACK_BUFFER_SIZE;
+		}
+
+		try {
+			ProbeResult cached = cache.get(storeKey(directory));
+			return cached != null ? cached.getBestSize() : FALLBACK_BUFFER_SIZE;
+		} catch (IOException e) {
+			return FALLBACK_BUFFER_SIZE;
+		}
+	}
+
+	/**
+	 * 캐시와 관계없이 directory 가 속한 파일 시스템을 다시 측정하고 캐시를 갱신
+	 * (directory 에 probeFileSize 크기의 임시 파일을 만들었다가 지움)
+	 */
+	public ProbeResult probe(Path directory) throws IOException {
+		Path existing = existingDirectory(directory);
+		if (existing == null) {
+			throw new IOException("측정할 디렉토리가 없습니다: " + directory);
+		}
+		String storeKey = storeKey(existing);
+
+		// 같은 파일 시스템의 측정이 진행 중이면 새로 측정하지 않고 그 결과를 기다림
+		FutureTask<ProbeResult> task = new FutureTask<>(() -> measure(storeKey, existing));
+		FutureTask<ProbeResult> running = inFlight.putIfAbsent(storeKey, task);
+		if (running == null) {
+			running = task;
+			try {
+				task.run();
+			} finally {
+				inFlight.remove(storeKey, task);
+			}
+		}
+
+		try {
+			ProbeResult result = running.get();
+			cache.put(storeKey, result);
+			return result;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException)cause;
+			}
+			throw new IOException("버퍼 크기 측정 실패: " + storeKey, cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("버퍼 크기 측정이 중단되었습니다.", e);
+		}
+	}
+
+	/**
+	 * 현재까지 캐시된 측정 결과 (키: 파일 시스템)
+	 */
+	public Map<String, ProbeResult> cachedResults() {
+		return Collections.unmodifiableMap(cache);
+	}
+
+	private ProbeResult measure(String storeKey, Path directory) throws IOException {
+		Path probeFile = Files.createTempFile(directory, ".buffer_probe_", ".tmp");
+
+		try {
+			writeProbeFile(probeFile);
+			// 한 번이라도 실패하면 이후 읽기도 캐시에서 나오므로 더 시도하지 않음
+			boolean coldReads = dropPageCache();
+
+			Map<Integer, Double> throughputs = new LinkedHashMap<>();
+			int bestSize = candidates[0];
+			double bestThroughput = 0;
+
+			for (int candidate : candidates) {
+				readWith(probeFile, candidate); // 워밍업 (JIT, 파일 열기 비용)
+
+				long[] samples = new long[rounds];
+				for (int i = 0; i < rounds; i++) {
+					coldReads = coldReads && dropPageCache();
+					long startTime = System.nanoTime();
+					readWith(probeFile, candidate);
+					samples[i] = System.nanoTime() - startTime;
+				}
+				Arrays.sort(samples);
+				long medianNanos = Math.max(1, samples[rounds / 2]);
+
+				double throughput = (probeFileSize / 1024.0 / 1024.0) / (medianNanos / 1_000_000_000.0);
+				throughputs.put(candidate, throughput);
+
+				// 후보는 오름차순이므로 충분히 더 빠를 때만 큰 버퍼로 교체
+				if (throughput > bestThroughput * (1 + TOLERANCE)) {
+					bestThroughput = throughput;
+					bestSize = candidate;
+				}
+			}
+
+			return new ProbeResult(storeKey, bestSize, throughputs, coldReads);
+
+		} finally {
+			Files.deleteIfExists(probeFile);
+		}
+	}
+
+	private void writeProbeFile(Path probeFile) throws IOException {
+		byte[] block = new byte[64 * 1024];
+		for (int i = 0; i < block.length; i++) {
+			block[i] = (byte)(i * 31);
+		}
+
+		try (FileOutputStream out = new FileOutputStream(probeFile.toFile())) {
+			long remaining = probeFileSize;
+			while (remaining > 0) {
+				int toWrite = (int)Math.min(block.length, remaining);
+				out.write(block, 0, toWrite);
+				remaining -= toWrite;
+			}
+			// drop_caches 는 더티 페이지를 버리지 못하므로 미리 디스크에 반영
+			out.getFD().sync();
+		}
+	}
+
+	/**
+	 * 깨끗한 페이지 캐시를 비움 (루트 권한의 리눅스에서만 성공, 시스템 전체 캐시가 비워짐)
+	 */
+	private static boolean dropPageCache() {
+		try {
+			Files.write(DROP_CACHES, "1".getBytes(StandardCharsets.US_ASCII));
+			return true;
+		} catch (IOException | SecurityException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * CopyStrategies 의 복사 루프와 같은 방식(FileInputStream + byte[])으로 전체 파일 읽기
+	 */
+	private static long readWith(Path file, int bufferSize) throws IOException {
+		try (FileInputStream in = new FileInputStream(file.toFile())) {
+			byte[] buffer = new byte[bufferSize];
+			long total = 0;
+			int bytesRead;
+			while ((bytesRead = in.read(buffer)) != -1) {
+				total += bytesRead;
+			}
+			return total;
+		}
+	}
+
+	private static String storeKey(Path directory) throws IOException {
+		FileStore store = Files.getFileStore(directory);
+		// 리눅스에서는 "마운트지점 (디바이스)" 형태
+		return store.toString() + " [" + store.type() + "]";
+	}
+
+	/**
+	 * 파일이면 부모 디렉토리, 아직 없는 경로면 존재하는 가장 가까운 상위 디렉토리
+	 */
+	private static Path existingDirectory(Path path) {
+		Path current = path.toAbsolutePath();
+		if (Files.isRegularFile(current)) {
+			current = current.getParent();
+		}
+		while (current != null && !Files.isDirectory(current)) {
+			current = current.getParent();
+		}
+		return current;
+	}
+
+	/**
+	 * 파일 시스템 하나에 대한 측정 결과
+	 */
+	public static class ProbeResult {
+		private final String storeKey;
+		private final int bestSize;
+		private final Map<Integer, Double> throughputMBps;
+		private final boolean cacheBypassed;
+
+		ProbeResult(String storeKey, int bestSize, Map<Integer, Double> throughputMBps, boolean cacheBypassed) {
+			this.storeKey = storeKey;
+			this.bestSize = bestSize;
+			this.throughputMBps = Collections.unmodifiableMap(throughputMBps);
+			this.cacheBypassed = cacheBypassed;
+		}
+
+		public String getStoreKey() {
+			return storeKey;
+		}
+
+		public int getBestSize() {
+			return bestSize;
+		}
+
+		/**
+		 * 후보 버퍼 크기별 처리량 (MB/s)
+		 */
+		public Map<Integer, Double> getThroughputMBps() {
+			return throughputMBps;
+		}
+
+		/**
+		 * 읽기마다 페이지 캐시를 비우고 측정했으면 true (false 면 캐시 읽기 속도)
+		 */
+		public boolean isCacheBypassed() {
+			return cacheBypassed;
+		}
+	}
+}
@@ -0,0 +1,369 @@
+package com.JavaCoreTil.io.common.buffer;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 등급(size class)별 직접 버퍼(Direct ByteBuffer) 풀
+ * <p>
+ * - 2의 거듭제곱 크기 등급으로 요청을 올림하여 같은 등급끼리 버퍼를 재사용한다.
+ * - 버퍼는 큰 슬랩(slab)을 한 번에 allocateDirect 한 뒤 slice() 로 잘라서 만든다.
+ * - 스레드 로컬 캐시를 먼저 확인하고, 없으면 전역 프리 리스트, 그래도 없으면 새 슬랩을 할당한다.
+ * - 끝난 스레드의 캐시에 남은 버퍼는 새 슬랩을 할당하기 전에 전역 프리 리스트로 회수한다.
+ *   (작업마다 만들고 버리는 스레드 풀에서 반환한 버퍼가 묶여 직접 메모리가 계속 늘어나지 않도록)
+ * - 누수 감지를 켜면 반환(close)되지 않고 GC 된 PooledBuffer 를 Cleaner 로 찾아내 통계에 기록하고,
+ *   setLeakListener() 로 등록한 리스너에 할당 위치를 알린다.
+ * <p>
+ * 사용 예:
+ * <pre>
+ * try (PooledBuffer pooled = DirectBufferPool.shared().acquire(8192)) {
+ *     ByteBuffer buffer = pooled.buffer();
+ *     channel.read(buffer);
+ * }
+ * </pre>
+ */
+public final class DirectBufferPool {
+
+	/**
+	 * 반환되지 않고 GC 된 버퍼 알림 (Cleaner 스레드에서 호출되므로 빨리 끝내야 함)
+	 */
+	@FunctionalInterface
+	public interface LeakListener {
+		/**
+		 * @param allocationSite 버퍼를 빌린 위치의 스택 트레이스
+		 */
+		void leaked(int capacity, Throwable allocationSite);
+	}
+
+	public static final int DEFAULT_MIN_BUFFER_SIZE = 4 * 1024;          // 4KB
+	public static final int DEFAULT_MAX_BUFFER_SIZE = 4 * 1024 * 1024;   // 4MB
+	public static final int DEFAULT_THREAD_CACHE_SIZE = 8;
+
+	// 한 번에 할당하는 슬랩의 최소 크기 (작은 등급은 여러 버퍼로 쪼개짐)
+	private static final int SLAB_SIZE = 1024 * 1024; // 1MB
+
+	private static final Cleaner LEAK_CLEANER = Cleaner.create();
+
+	private static final DirectBufferPool SHARED = new DirectBufferPool(
+		DEFAULT_MIN_BUFFER_SIZE, DEFAULT_MAX_BUFFER_SIZE, DEFAULT_THREAD_CACHE_SIZE,
+		Boolean.getBoolean("bufferpool.leakDetection"));
+
+	private final int minShift;
+	private final int maxShift;
+	private final int threadCacheSize;
+	private final boolean leakDetection;
+
+	private final List<ConcurrentLinkedQueue<ByteBuffer>> globalFreeLists;
+	private final ThreadLocal<ThreadCache> threadCaches;
+	// 모든 스레드 캐시 (끝난 스레드의 캐시를 회수하기 위함)
+	private final ConcurrentLinkedQueue<ThreadCache> ownedCaches = new ConcurrentLinkedQueue<>();
+	private volatile LeakListener leakListener;
+
+	// 사용 통계
+	private final LongAdder acquires = new LongAdder();
+	private final LongAdder releases = new LongAdder();
+	private final LongAdder threadCacheHits = new LongAdder();
+	private final LongAdder globalHits = new LongAdder();
+	private final LongAdder slabAllocations = new LongAdder();
+	private final LongAdder oversizeAllocations = new LongAdder();
+	private final LongAdder leaks = new LongAdder();
+	private final AtomicLong reservedBytes = new AtomicLong();
+
+	/**
+	 * JVM 전체에서 공유하는 기본 풀
+	 * (-Dbufferpool.leakDetection=true 로 누수 감지 활성화)
+	 */
+	public static DirectBufferPool shared() {
+		return SHARED;
+	}
+
+	/**
+	 * @param minBufferSize 가장 작은 크기 등급 (2의 거듭제곱으로 올림)
+	 * @param maxBufferSize 가장 큰 크기 등급, 이보다 큰 요청은 풀을 거치지 않고 직접 할당
+	 * @param threadCacheSize 스레드마다 등급별로 보관하는 버퍼 수
+	 * @param leakDetection 반환되지 않은 버퍼 감지 여부
+	 */
+	public DirectBufferPool(int minBufferSize, int maxBufferSize, int threadCacheSize, boolean leakDetection) {
+		if (minBufferSize <= 0 || maxBufferSize < minBufferSize) {
+			throw new IllegalArgumentException("잘못된 버퍼 크기 범위: " + minBufferSize + " ~ " + maxBufferSize);
+		}
+		this.minShift = shiftFor(minBufferSize);
+		this.maxShift = shiftFor(maxBufferSize);
+		this.threadCacheSize = threadCacheSize;
+		this.leakDetection = leakDetection;
+
+		int classCount = maxShift - minShift + 1;
+		this.globalFreeLists = new ArrayList<>(classCount);
+		for (int i = 0; i < classCount; i++) {
+			globalFreeLists.add(new ConcurrentLinkedQueue<>());
+		}
+		this.threadCaches = ThreadLocal.withInitial(() -> {
+			ThreadCache cache = new ThreadCache(Thread.currentThread(), classCount, threadCacheSize);
+			ownedCaches.add(cache);
+			return cache;
+		});
+	}
+
+	/**
+	 * size 바이트 이상을 담을 수 있는 버퍼를 빌림
+	 * 반환되는 버퍼는 position = 0, limit = size 상태이다.
+	 */
+	public PooledBuffer acquire(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size는 0 이상이어야 합니다: " + size);
+		}
+		acquires.increment();
+
+		int sizeClass = sizeClassOf(size);
+		ByteBuffer buffer;
+
+		if (sizeClass < 0) {
+			// 최대 등급보다 큰 요청은 풀링하지 않음
+			oversizeAllocations.increment();
+			buffer = ByteBuffer.allocateDirect(size);
+		} else {
+			buffer = threadCaches.get().classes.get(sizeClass).pollLast();
+			if (buffer != null) {
+				threadCacheHits.increment();
+			} else {
+				buffer = globalFreeLists.get(sizeClass).poll();
+				if (buffer == null && reclaimDeadThreadCaches() > 0) {
+					buffer = globalFreeLists.get(sizeClass).poll();
+				}
+				if (buffer != null) {
+					globalHits.increment();
+				} else {
+					buffer = allocateFromNewSlab(sizeClass);
+				}
+			}
+		}
+
+		// 이전 사용자가 바꾼 바이트 순서도 새 버퍼와 같게 되돌림
+		buffer.clear().limit(size);
+		buffer.order(ByteOrder.BIG_ENDIAN);
+		return new PooledBuffer(this, buffer, sizeClass, leakDetection);
+	}
+
+	/**
+	 * PooledBuffer.close() 에서 호출
+	 */
+	void release(ByteBuffer buffer, int sizeClass) {
+		releases.increment();
+		if (sizeClass < 0) {
+			return; // 풀 밖에서 할당한 버퍼는 GC에 맡김
+		}
+
+		ArrayDeque<ByteBuffer> cache = threadCaches.get().classes.get(sizeClass);
+		if (cache.size() < threadCacheSize) {
+			cache.addLast(buffer);
+		} else {
+			globalFreeLists.get(sizeClass).offer(buffer);
+		}
+	}
+
+	/**
+	 * 누수 알림을 받을 리스너 (null 이면 Stats.getLeaks() 로 세기만 함)
+	 */
+	public void setLeakListener(LeakListener listener) {
+		this.leakListener = listener;
+	}
+
+	/**
+	 * 반환되지 않고 GC 된 버퍼 기록 (Cleaner 스레드에서 호출)
+	 */
+	void reportLeak(int capacity, Throwable allocationSite) {
+		leaks.increment();
+		LeakListener listener = leakListener;
+		if (listener != null) {
+			listener.leaked(capacity, allocationSite);
+		}
+	}
+
+	Cleaner leakCleaner() {
+		return LEAK_CLEANER;
+	}
+
+	/**
+	 * 현재 스레드 캐시에 남아 있는 버퍼를 전역 프리 리스트로 돌려보냄
+	 * (스레드 풀 종료 전이나 작업 단위가 끝났을 때 호출)
+	 */
+	public void trimThreadCache() {
+		List<ArrayDeque<ByteBuffer>> classes = threadCaches.get().classes;
+		for (int i = 0; i < classes.size(); i++) {
+			ByteBuffer buffer;
+			while ((buffer = classes.get(i).pollLast()) != null) {
+				globalFreeLists.get(i).offer(buffer);
+			}
+		}
+	}
+
+	/**
+	 * 끝난 스레드의 캐시에 남은 버퍼를 전역 프리 리스트로 옮김
+	 * (스레드가 끝났음을 isAlive() 로 확인했으므로 그 스레드가 캐시에 한 변경이 모두 보임)
+	 * @return 회수한 버퍼 수
+	 */
+	private int reclaimDeadThreadCaches() {
+		int reclaimed = 0;
+		for (ThreadCache owned : ownedCaches) {
+			Thread owner = owned.owner.get();
+			if (owner != null && owner.isAlive()) {
+				continue;
+			}
+			// 동시에 회수하는 다른 스레드와 겹치지 않도록 목록에서 뺀 쪽만 비움
+			if (!ownedCaches.remove(owned)) {
+				continue;
+			}
+			for (int i = 0; i < owned.classes.size(); i++) {
+				ByteBuffer buffer;
+				while ((buffer = owned.classes.get(i).pollLast()) != null) {
+					globalFreeLists.get(i).offer(buffer);
+					reclaimed++;
+				}
+			}
+		}
+		return reclaimed;
+	}
+
+	/**
+	 * 사용 통계 스냅샷
+	 */
+	public Stats stats() {
+		return new Stats(acquires.sum(), releases.sum(), threadCacheHits.sum(), globalHits.sum(),
+			slabAllocations.sum(), oversizeAllocations.sum(), leaks.sum(), reservedBytes.get());
+	}
+
+	/**
+	 * 크기 등급의 버퍼 용량
+	 */
+	public int classCapacity(int sizeClass) {
+		return 1 << (minShift + sizeClass);
+	}
+
+	private ByteBuffer allocateFromNewSlab(int sizeClass) {
+		int capacity = classCapacity(sizeClass);
+		int buffersPerSlab = Math.max(1, SLAB_SIZE / capacity);
+
+		ByteBuffer slab = ByteBuffer.allocateDirect(capacity * buffersPerSlab);
+		slabAllocations.increment();
+		reservedBytes.addAndGet(slab.capacity());
+
+		// 첫 조각은 바로 반환하고 나머지는 전역 프리 리스트에 넣음
+		ByteBuffer first = null;
+		for (int i = 0; i < buffersPerSlab; i++) {
+			slab.limit((i + 1) * capacity).position(i * capacity);
+			ByteBuffer slice = slab.slice();
+			if (first == null) {
+				first = slice;
+			} else {
+				globalFreeLists.get(sizeClass).offer(slice);
+			}
+		}
+		return first;
+	}
+
+	private int sizeClassOf(int size) {
+		int shift = Math.max(minShift, shiftFor(size));
+		return shift > maxShift ? -1 : shift - minShift;
+	}
+
+	private static int shiftFor(int size) {
+		return size <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1);
+	}
+
+	/**
+	 * 스레드 하나의 등급별 캐시와 주인 스레드 (스레드 객체는 약한 참조로 보관)
+	 */
+	private static final class ThreadCache {
+		final WeakReference<Thread> owner;
+		final List<ArrayDeque<ByteBuffer>> classes;
+
+		ThreadCache(Thread owner, int classCount, int capacity) {
+			this.owner = new WeakReference<>(owner);
+			this.classes = new ArrayList<>(classCount);
+			for (int i = 0; i < classCount; i++) {
+				classes.add(new ArrayDeque<>(capacity));
+			}
+		}
+	}
+
+	/**
+	 * 풀 사용 통계
+	 */
+	public static class Stats {
+		private final long acquires;
+		private final long releases;
+		private final long threadCacheHits;
+		private final long globalHits;
+		private final long slabAllocations;
+		private final long oversizeAllocations;
+		private final long leaks;
+		private final long reservedBytes;
+
+		Stats(long acquires, long releases, long threadCacheHits, long globalHits,
+			long slabAllocations, long oversizeAllocations, long leaks, long reservedBytes) {
+			this.acquires = acquires;
+			this.releases = releases;
+			this.threadCacheHits = threadCacheHits;
+			this.globalHits = globalHits;
+			this.slabAllocations = slabAllocations;
+			this.oversizeAllocations = oversizeAllocations;
+			this.leaks = leaks;
+			this.reservedBytes = reservedBytes;
+		}
+
+		public long getAcquires() {
+			return acquires;
+		}
+
+		public long getReleases() {
+			return releases;
+		}
+
+		public long getThreadCacheHits() {
+			return threadCacheHits;
+		}
+
+		public long getGlobalHits() {
+			return globalHits;
+		}
+
+		public long getSlabAllocations() {
+			return slabAllocations;
+		}
+
+		public long getOversizeAllocations() {
+			return oversizeAllocations;
+		}
+
+		public long getLeaks() {
+			return leaks;
+		}
+
+		public long getReservedBytes() {
+			return reservedBytes;
+		}
+
+		/**
+		 * 현재 빌려 간 상태인 버퍼 수
+		 */
+		public long getOutstanding() {
+			return acquires - releases - leaks;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("대여 %d / 반환 %d / 스레드캐시 적중 %d / 전역 적중 %d / 슬랩 할당 %d"
+					+ " / 대형 할당 %d / 누수 %d / 예약 메모리 %d KB",
+				acquires, releases, threadCacheHits, globalHits, slabAllocations,
+				oversizeAllocations, leaks, reservedBytes / 1024);
+		}
+	}
+}
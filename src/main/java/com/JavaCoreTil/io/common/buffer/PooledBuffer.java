@@ -0,0 +1,85 @@
+package com.JavaCoreTil.io.common.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DirectBufferPool 에서 빌린 버퍼 핸들
+ * <p>
+ * try-with-resources 로 사용하면 close() 시점에 버퍼가 풀로 반환된다.
+ * 반환 후에는 buffer() 로 얻었던 ByteBuffer 를 더 이상 사용하면 안 된다.
+ */
+public final class PooledBuffer implements AutoCloseable {
+
+	private final DirectBufferPool pool;
+	private final ByteBuffer buffer;
+	private final int sizeClass;
+	private final LeakState leakState;
+	private final Cleaner.Cleanable cleanable;
+
+	private final AtomicBoolean released = new AtomicBoolean();
+
+	PooledBuffer(DirectBufferPool pool, ByteBuffer buffer, int sizeClass, boolean leakDetection) {
+		this.pool = pool;
+		this.buffer = buffer;
+		this.sizeClass = sizeClass;
+
+		if (leakDetection) {
+			// 상태 객체는 핸들을 참조하면 안 됨 (참조하면 핸들이 영원히 GC 되지 않음)
+			this.leakState = new LeakState(pool, buffer.capacity(), new Throwable("버퍼 할당 위치"));
+			this.cleanable = pool.leakCleaner().register(this, leakState);
+		} else {
+			this.leakState = null;
+			this.cleanable = null;
+		}
+	}
+
+	/**
+	 * 빌린 버퍼 (position = 0, limit = 요청 크기)
+	 */
+	public ByteBuffer buffer() {
+		if (released.get()) {
+			throw new IllegalStateException("이미 반환된 버퍼입니다.");
+		}
+		return buffer;
+	}
+
+	@Override
+	public void close() {
+		// 두 번째 close 는 무시 (try-with-resources 와 명시적 close 를 같이 써도 됨)
+		if (!released.compareAndSet(false, true)) {
+			return;
+		}
+
+		if (cleanable != null) {
+			leakState.released = true;
+			cleanable.clean();
+		}
+		pool.release(buffer, sizeClass);
+	}
+
+	/**
+	 * GC 시점에 반환 여부를 확인하는 Cleaner 동작
+	 * 누수된 버퍼는 호출자가 여전히 ByteBuffer 를 들고 있을 수 있으므로 풀로 회수하지 않는다.
+	 */
+	private static final class LeakState implements Runnable {
+		private final DirectBufferPool pool;
+		private final int capacity;
+		private final Throwable allocationSite;
+		private volatile boolean released;
+
+		LeakState(DirectBufferPool pool, int capacity, Throwable allocationSite) {
+			this.pool = pool;
+			this.capacity = capacity;
+			this.allocationSite = allocationSite;
+		}
+
+		@Override
+		public void run() {
+			if (!released) {
+				pool.reportLeak(capacity, allocationSite);
+			}
+		}
+	}
+}
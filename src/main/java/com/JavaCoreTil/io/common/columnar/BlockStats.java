@@ -0,0 +1,210 @@
+package com.JavaCoreTil.io.common.columnar;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 블록 하나의 위치와 열별 통계
+ * <p>
+ * 숫자 열은 최소/최대값(NaN 제외)과 NaN 포함 여부, 사전 열은 블록에 등장한 사전 코드를 가진다.
+ * 사전 코드는 등장한 코드 범위만 덮는 비트맵이나, 그보다 작으면 정렬된 코드 목록으로 저장한다.
+ * (사전 전체 크기의 비트맵이면 푸터가 블록 수 x 사전 크기로 커짐)
+ * 쿼리는 이 통계만 보고 조건을 만족할 수 없는 블록을 읽지 않고 건너뛴다.
+ */
+final class BlockStats {
+
+	private final long offset;
+	private final int rows;
+	private final double[] min = new double[SalesColumn.values().length];
+	private final double[] max = new double[SalesColumn.values().length];
+	private final boolean[] containsNaN = new boolean[SalesColumn.values().length];
+	// 사전 열: 비트맵(codeBitmaps, 첫 워드 번호 codeBase) 또는 정렬된 코드 목록(codeLists) 중 하나
+	private final long[][] codeBitmaps = new long[SalesColumn.values().length][];
+	private final int[] codeBase = new int[SalesColumn.values().length];
+	private final int[][] codeLists = new int[SalesColumn.values().length][];
+
+	BlockStats(long offset, int rows) {
+		this.offset = offset;
+		this.rows = rows;
+	}
+
+	long offset() {
+		return offset;
+	}
+
+	int rows() {
+		return rows;
+	}
+
+	double min(SalesColumn column) {
+		return min[column.ordinal()];
+	}
+
+	double max(SalesColumn column) {
+		return max[column.ordinal()];
+	}
+
+	/**
+	 * NaN 이 아닌 값이 하나도 없으면 min > max (+Infinity, -Infinity)
+	 */
+	void setRange(SalesColumn column, double minValue, double maxValue, boolean hasNaN) {
+		min[column.ordinal()] = minValue;
+		max[column.ordinal()] = maxValue;
+		containsNaN[column.ordinal()] = hasNaN;
+	}
+
+	boolean containsNaN(SalesColumn column) {
+		return containsNaN[column.ordinal()];
+	}
+
+	/**
+	 * 블록 행 codes[0, rows) 에 등장한 사전 코드 기록
+	 */
+	void setCodes(SalesColumn column, int[] codes, int rows) {
+		int minCode = Integer.MAX_VALUE;
+		int maxCode = 0;
+		for (int i = 0; i < rows; i++) {
+			minCode = Math.min(minCode, codes[i]);
+			maxCode = Math.max(maxCode, codes[i]);
+		}
+		int base = minCode >>> 6;
+		long[] bitmap = new long[(maxCode >>> 6) - base + 1];
+		for (int i = 0; i < rows; i++) {
+			bitmap[(codes[i] >>> 6) - base] |= 1L << codes[i];
+		}
+
+		int distinct = 0;
+		for (long word : bitmap) {
+			distinct += Long.bitCount(word);
+		}
+		if ((long)distinct * 4 < (long)bitmap.length * 8) {
+			// 범위에 비해 코드가 드물면 목록이 더 작음
+			int[] list = new int[distinct];
+			int n = 0;
+			for (int w = 0; w < bitmap.length; w++) {
+				for (long word = bitmap[w]; word != 0; word &= word - 1) {
+					list[n++] = ((base + w) << 6) + Long.numberOfTrailingZeros(word);
+				}
+			}
+			setCodeList(column, list);
+		} else {
+			setCodeBitmap(column, base, bitmap);
+		}
+	}
+
+	private void setCodeBitmap(SalesColumn column, int base, long[] bitmap) {
+		codeBitmaps[column.ordinal()] = bitmap;
+		codeBase[column.ordinal()] = base;
+		codeLists[column.ordinal()] = null;
+	}
+
+	private void setCodeList(SalesColumn column, int[] list) {
+		codeLists[column.ordinal()] = list;
+		codeBitmaps[column.ordinal()] = null;
+	}
+
+	/**
+	 * 블록의 값 범위가 [from, to] 와 겹치는지 (NaN 은 어떤 범위에도 들지 않으므로 무시)
+	 */
+	boolean mayContainRange(SalesColumn column, double from, double to) {
+		return max[column.ordinal()] >= from && min[column.ordinal()] <= to;
+	}
+
+	/**
+	 * 블록의 모든 행이 [from, to] 안인지 (NaN 이 있으면 그 행은 범위 밖이므로 false)
+	 */
+	boolean allInRange(SalesColumn column, double from, double to) {
+		return !containsNaN[column.ordinal()] && min[column.ordinal()] >= from && max[column.ordinal()] <= to;
+	}
+
+	/**
+	 * 블록에 codes(사전 코드 비트맵) 중 하나라도 등장하는지
+	 */
+	boolean mayContainAnyCode(SalesColumn column, long[] codes) {
+		int[] list = codeLists[column.ordinal()];
+		if (list != null) {
+			for (int code : list) {
+				if ((code >>> 6) < codes.length && (codes[code >>> 6] & (1L << code)) != 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+		long[] bitmap = codeBitmaps[column.ordinal()];
+		int base = codeBase[column.ordinal()];
+		int words = Math.min(bitmap.length, codes.length - base);
+		for (int i = 0; i < words; i++) {
+			if ((bitmap[i] & codes[base + i]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	void writeTo(ByteBuffer out) {
+		out.putLong(offset);
+		out.putInt(rows);
+		for (SalesColumn column : SalesColumn.values()) {
+			if (column.isDictionary()) {
+				// 양수: 비트맵 워드 수, 첫 워드 번호, 워드들 / 음수: -코드 수, 코드들
+				int[] list = codeLists[column.ordinal()];
+				if (list != null) {
+					out.putInt(-list.length);
+					for (int code : list) {
+						out.putInt(code);
+					}
+				} else {
+					long[] bitmap = codeBitmaps[column.ordinal()];
+					out.putInt(bitmap.length);
+					out.putInt(codeBase[column.ordinal()]);
+					for (long word : bitmap) {
+						out.putLong(word);
+					}
+				}
+			} else {
+				out.putDouble(min[column.ordinal()]);
+				out.putDouble(max[column.ordinal()]);
+				out.put((byte)(containsNaN[column.ordinal()] ? 1 : 0));
+			}
+		}
+	}
+
+	int serializedSize() {
+		int size = 12;
+		for (SalesColumn column : SalesColumn.values()) {
+			if (!column.isDictionary()) {
+				size += 17;
+			} else if (codeLists[column.ordinal()] != null) {
+				size += 4 + codeLists[column.ordinal()].length * 4;
+			} else {
+				size += 8 + codeBitmaps[column.ordinal()].length * 8;
+			}
+		}
+		return size;
+	}
+
+	static BlockStats readFrom(ByteBuffer in) {
+		BlockStats stats = new BlockStats(in.getLong(), in.getInt());
+		for (SalesColumn column : SalesColumn.values()) {
+			if (column.isDictionary()) {
+				int length = in.getInt();
+				if (length < 0) {
+					int[] list = new int[-length];
+					for (int i = 0; i < list.length; i++) {
+						list[i] = in.getInt();
+					}
+					stats.setCodeList(column, list);
+				} else {
+					int base = in.getInt();
+					long[] bitmap = new long[length];
+					for (int i = 0; i < bitmap.length; i++) {
+						bitmap[i] = in.getLong();
+					}
+					stats.setCodeBitmap(column, base, bitmap);
+				}
+			} else {
+				stats.setRange(column, in.getDouble(), in.getDouble(), in.get() != 0);
+			}
+		}
+		return stats;
+	}
+}
@@ -0,0 +1,74 @@
+package com.JavaCoreTil.io.common.columnar;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열 열의 사전 (값 ↔ 등장 순서 코드)
+ */
+final class Dictionary {
+
+	private final Map<String, Integer> codes = new HashMap<>();
+	private final List<String> values = new ArrayList<>();
+
+	/**
+	 * 값의 코드 (처음 보는 값이면 새 코드 부여)
+	 */
+	int encode(String value) {
+		Integer code = codes.get(value);
+		if (code == null) {
+			code = values.size();
+			codes.put(value, code);
+			values.add(value);
+		}
+		return code;
+	}
+
+	/**
+	 * 값의 코드 (사전에 없으면 -1)
+	 */
+	int codeOf(String value) {
+		Integer code = codes.get(value);
+		return code == null ? -1 : code;
+	}
+
+	String decode(int code) {
+		return values.get(code);
+	}
+
+	int size() {
+		return values.size();
+	}
+
+	int serializedSize() {
+		int size = 4;
+		for (String value : values) {
+			size += 4 + value.getBytes(StandardCharsets.UTF_8).length;
+		}
+		return size;
+	}
+
+	void writeTo(ByteBuffer out) {
+		out.putInt(values.size());
+		for (String value : values) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.putInt(bytes.length);
+			out.put(bytes);
+		}
+	}
+
+	static Dictionary readFrom(ByteBuffer in) {
+		Dictionary dictionary = new Dictionary();
+		int count = in.getInt();
+		for (int i = 0; i < count; i++) {
+			byte[] bytes = new byte[in.getInt()];
+			in.get(bytes);
+			dictionary.encode(new String(bytes, StandardCharsets.UTF_8));
+		}
+		return dictionary;
+	}
+}
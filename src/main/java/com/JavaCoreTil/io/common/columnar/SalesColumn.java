@@ -0,0 +1,52 @@
+package com.JavaCoreTil.io.common.columnar;
+
+/**
+ * 판매 컬럼 파일의 열 (블록 안에서 이 순서로 저장됨)
+ */
+public enum SalesColumn {
+
+	DATE(4, true),        // 날짜 사전 코드 (int)
+	PRODUCT(4, true),     // 제품 사전 코드 (int)
+	QUANTITY(4, false),   // 수량 (int)
+	UNIT_PRICE(8, false), // 단가 (double)
+	AMOUNT(8, false);     // 총액 (double)
+
+	// 한 행이 모든 열에서 차지하는 바이트 수
+	static final int ROW_BYTES = 28;
+
+	private final int width;
+	private final boolean dictionary;
+
+	SalesColumn(int width, boolean dictionary) {
+		this.width = width;
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * 값 하나의 바이트 크기
+	 */
+	public int width() {
+		return width;
+	}
+
+	/**
+	 * 사전 인코딩 열인지
+	 */
+	public boolean isDictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * rows 행짜리 블록 안에서 이 열 청크의 시작 오프셋
+	 */
+	long offsetInBlock(int rows) {
+		long offset = 0;
+		for (SalesColumn column : values()) {
+			if (column == this) {
+				return offset;
+			}
+			offset += (long)column.width * rows;
+		}
+		throw new AssertionError();
+	}
+}
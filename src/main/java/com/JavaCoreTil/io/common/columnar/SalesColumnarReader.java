@@ -0,0 +1,366 @@
+package com.JavaCoreTil.io.common.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리 맵핑 기반 판매 컬럼 파일 리더
+ * <p>
+ * 쿼리는 필요한 열(값 열과 조건 열)의 청크만 읽는다. 열 청크는 블록 안에서 연속되어 있으므로
+ * 다른 열의 페이지는 건드리지 않는다. 조건이 있으면 먼저 블록 통계(최소/최대, 사전 코드 비트맵)로
+ * 만족할 수 없는 블록을 건너뛰고, 블록 전체가 조건을 만족하면 행별 비교도 생략한다.
+ * <pre>
+ * try (SalesColumnarReader reader = SalesColumnarReader.open(path)) {
+ *     double total = reader.sum(SalesColumn.AMOUNT);
+ *     double bulk = reader.sumWhere(SalesColumn.AMOUNT, SalesColumn.QUANTITY, 10, Double.MAX_VALUE);
+ *     double january = reader.sumWhere(SalesColumn.AMOUNT, SalesColumn.DATE, "2024-01-01", "2024-01-31");
+ *     Map&lt;String, Double&gt; byProduct = reader.sumBy(SalesColumn.PRODUCT, SalesColumn.AMOUNT);
+ * }
+ * </pre>
+ * 맵핑은 읽기 전용이므로 여러 스레드에서 동시에 쿼리해도 되지만, getLastBlocksRead() 등 마지막 쿼리 통계는
+ * 스레드별로 구분되지 않는다.
+ */
+public class SalesColumnarReader implements AutoCloseable {
+
+	// FileChannel.map 은 한 번에 2GB 미만만 맵핑 가능
+	private static final long MAX_REGION_SIZE = SalesColumnarWriter.MAX_BLOCK_BYTES;
+
+	private final FileChannel channel;
+	private final Dictionary dates;
+	private final Dictionary products;
+	private final long rowCount;
+	private final BlockStats[] blocks;
+
+	// 블록 단위로 나눈 맵핑 영역과 각 블록의 위치
+	private final MappedByteBuffer[] regions;
+	private final int[] blockRegion;
+	private final int[] blockOffsetInRegion;
+
+	private volatile int lastBlocksRead;
+	private volatile int lastBlocksSkipped;
+
+	public static SalesColumnarReader open(Path file) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new SalesColumnarReader(channel);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private SalesColumnarReader(FileChannel channel) throws IOException {
+		this.channel = channel;
+		long size = channel.size();
+		int trailerSize = SalesColumnarWriter.TRAILER_SIZE;
+		if (size < SalesColumnarWriter.HEADER_SIZE + trailerSize) {
+			throw new IOException("컬럼 파일이 아닙니다 (크기 " + size + ")");
+		}
+
+		ByteBuffer header = readAt(0, SalesColumnarWriter.HEADER_SIZE);
+		if (header.getInt() != SalesColumnarWriter.MAGIC) {
+			throw new IOException("컬럼 파일이 아닙니다 (magic 불일치)");
+		}
+		int version = header.getInt();
+		if (version != SalesColumnarWriter.VERSION) {
+			throw new IOException("지원하지 않는 버전입니다: " + version);
+		}
+
+		ByteBuffer trailer = readAt(size - trailerSize, trailerSize);
+		long footerOffset = trailer.getLong();
+		if (trailer.getInt() != SalesColumnarWriter.MAGIC || footerOffset < SalesColumnarWriter.HEADER_SIZE
+			|| footerOffset > size - trailerSize) {
+			throw new IOException("푸터가 손상되었거나 작성이 완료되지 않은 파일입니다.");
+		}
+
+		ByteBuffer footer = readAt(footerOffset, (int)(size - trailerSize - footerOffset));
+		footer.getInt(); // 블록 행 수
+		this.dates = Dictionary.readFrom(footer);
+		this.products = Dictionary.readFrom(footer);
+		this.rowCount = footer.getLong();
+		this.blocks = new BlockStats[footer.getInt()];
+		for (int i = 0; i < blocks.length; i++) {
+			blocks[i] = BlockStats.readFrom(footer);
+			if ((long)blocks[i].rows() * SalesColumn.ROW_BYTES > MAX_REGION_SIZE) {
+				throw new IOException("블록 " + i + "이 너무 큽니다: " + blocks[i].rows() + "행");
+			}
+		}
+
+		// 블록이 영역 경계에 걸치지 않도록 블록 단위로 영역을 나눔
+		this.blockRegion = new int[blocks.length];
+		this.blockOffsetInRegion = new int[blocks.length];
+		List<MappedByteBuffer> mapped = new ArrayList<>();
+		int first = 0;
+		while (first < blocks.length) {
+			long regionStart = blocks[first].offset();
+			int last = first;
+			while (last < blocks.length && blockEnd(last) - regionStart <= MAX_REGION_SIZE) {
+				blockRegion[last] = mapped.size();
+				blockOffsetInRegion[last] = (int)(blocks[last].offset() - regionStart);
+				last++;
+			}
+			MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, blockEnd(last - 1) - regionStart);
+			region.order(ByteOrder.LITTLE_ENDIAN);
+			mapped.add(region);
+			first = last;
+		}
+		this.regions = mapped.toArray(new MappedByteBuffer[0]);
+	}
+
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	public int getBlockCount() {
+		return blocks.length;
+	}
+
+	/**
+	 * 사전 열의 서로 다른 값 개수
+	 */
+	public int dictionarySize(SalesColumn column) {
+		return dictionary(column).size();
+	}
+
+	/**
+	 * 마지막 쿼리에서 실제로 읽은 블록 수
+	 */
+	public int getLastBlocksRead() {
+		return lastBlocksRead;
+	}
+
+	/**
+	 * 마지막 쿼리에서 통계만 보고 건너뛴 블록 수
+	 */
+	public int getLastBlocksSkipped() {
+		return lastBlocksSkipped;
+	}
+
+	/**
+	 * 숫자 열의 최소값 (NaN 제외, 블록 통계만 사용, 데이터를 읽지 않음)
+	 */
+	public double min(SalesColumn column) {
+		requireNumeric(column);
+		double min = Double.NaN;
+		for (BlockStats stats : blocks) {
+			if (stats.min(column) > stats.max(column)) {
+				continue; // NaN 만 있는 블록
+			}
+			min = Double.isNaN(min) ? stats.min(column) : Math.min(min, stats.min(column));
+		}
+		return min;
+	}
+
+	/**
+	 * 숫자 열의 최대값 (NaN 제외, 블록 통계만 사용, 데이터를 읽지 않음)
+	 */
+	public double max(SalesColumn column) {
+		requireNumeric(column);
+		double max = Double.NaN;
+		for (BlockStats stats : blocks) {
+			if (stats.min(column) > stats.max(column)) {
+				continue; // NaN 만 있는 블록
+			}
+			max = Double.isNaN(max) ? stats.max(column) : Math.max(max, stats.max(column));
+		}
+		return max;
+	}
+
+	public double sum(SalesColumn value) {
+		requireNumeric(value);
+		return scan(value, null, 0, 0, null)[0];
+	}
+
+	/**
+	 * filter 열 값이 [from, to] 인 행의 value 합계
+	 */
+	public double sumWhere(SalesColumn value, SalesColumn filter, double from, double to) {
+		requireNumeric(value);
+		requireNumeric(filter);
+		return scan(value, filter, from, to, null)[0];
+	}
+
+	/**
+	 * 사전 열(filter) 값이 문자열 범위 [from, to] 인 행의 value 합계 (from == to 이면 일치 조건)
+	 */
+	public double sumWhere(SalesColumn value, SalesColumn filter, String from, String to) {
+		requireNumeric(value);
+		return scan(value, filter, 0, 0, codeSet(filter, from, to))[0];
+	}
+
+	public long countWhere(SalesColumn filter, double from, double to) {
+		requireNumeric(filter);
+		return (long)scan(null, filter, from, to, null)[1];
+	}
+
+	public long countWhere(SalesColumn filter, String from, String to) {
+		return (long)scan(null, filter, 0, 0, codeSet(filter, from, to))[1];
+	}
+
+	/**
+	 * 사전 열 값별 value 합계 (사전 순서 = 처음 등장 순서)
+	 * <p>
+	 * 코드를 배열 인덱스로 바로 쓰므로 해시 조회가 없다.
+	 */
+	public Map<String, Double> sumBy(SalesColumn key, SalesColumn value) {
+		requireNumeric(value);
+		Dictionary dictionary = dictionary(key);
+		double[] sums = new double[dictionary.size()];
+		boolean[] seen = new boolean[dictionary.size()];
+
+		for (int b = 0; b < blocks.length; b++) {
+			ByteBuffer region = regions[blockRegion[b]];
+			int rows = blocks[b].rows();
+			int keyBase = blockOffsetInRegion[b] + (int)key.offsetInBlock(rows);
+			int valueBase = blockOffsetInRegion[b] + (int)value.offsetInBlock(rows);
+			for (int i = 0; i < rows; i++) {
+				int code = region.getInt(keyBase + i * 4);
+				sums[code] += valueAt(region, value, valueBase, i);
+				seen[code] = true;
+			}
+		}
+		lastBlocksRead = blocks.length;
+		lastBlocksSkipped = 0;
+
+		Map<String, Double> result = new LinkedHashMap<>();
+		for (int code = 0; code < sums.length; code++) {
+			if (seen[code]) {
+				result.put(dictionary.decode(code), sums[code]);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * 조건에 맞는 행의 value 합계와 행 수
+	 * @param value 합계를 낼 열 (null 이면 개수만)
+	 * @param filter 조건 열 (null 이면 전체)
+	 * @param codes 사전 열 조건일 때 허용 코드 비트맵 (숫자 조건이면 null)
+	 * @return {합계, 행 수}
+	 */
+	private double[] scan(SalesColumn value, SalesColumn filter, double from, double to, long[] codes) {
+		double sum = 0;
+		long count = 0;
+		int read = 0;
+		int skipped = 0;
+
+		for (int b = 0; b < blocks.length; b++) {
+			BlockStats stats = blocks[b];
+			int rows = stats.rows();
+
+			// 통계로 블록 건너뛰기 판단
+			boolean checkRows = filter != null;
+			if (filter != null) {
+				boolean mayMatch = codes != null ? stats.mayContainAnyCode(filter, codes)
+					: stats.mayContainRange(filter, from, to);
+				if (!mayMatch) {
+					skipped++;
+					continue;
+				}
+				// 블록 전체가 범위 안이면 행별 비교 불필요
+				if (codes == null && stats.allInRange(filter, from, to)) {
+					checkRows = false;
+				}
+			}
+
+			if (value == null && !checkRows) {
+				count += rows;
+				skipped++; // 개수는 통계만으로 충분
+				continue;
+			}
+			read++;
+
+			ByteBuffer region = regions[blockRegion[b]];
+			int valueBase = value == null ? 0 : blockOffsetInRegion[b] + (int)value.offsetInBlock(rows);
+			int filterBase = filter == null ? 0 : blockOffsetInRegion[b] + (int)filter.offsetInBlock(rows);
+
+			for (int i = 0; i < rows; i++) {
+				if (checkRows) {
+					boolean match;
+					if (codes != null) {
+						int code = region.getInt(filterBase + i * 4);
+						match = (codes[code >>> 6] & (1L << code)) != 0;
+					} else {
+						double v = valueAt(region, filter, filterBase, i);
+						match = v >= from && v <= to;
+					}
+					if (!match) {
+						continue;
+					}
+				}
+				if (value != null) {
+					sum += valueAt(region, value, valueBase, i);
+				}
+				count++;
+			}
+		}
+
+		lastBlocksRead = read;
+		lastBlocksSkipped = skipped;
+		return new double[] {sum, count};
+	}
+
+	private static double valueAt(ByteBuffer region, SalesColumn column, int base, int row) {
+		return column.width() == 4 ? region.getInt(base + row * 4) : region.getDouble(base + row * 8);
+	}
+
+	/**
+	 * 문자열 범위 [from, to] 에 드는 사전 코드 비트맵
+	 */
+	private long[] codeSet(SalesColumn column, String from, String to) {
+		Dictionary dictionary = dictionary(column);
+		long[] codes = new long[(dictionary.size() + 63) / 64];
+		for (int code = 0; code < dictionary.size(); code++) {
+			String value = dictionary.decode(code);
+			if (value.compareTo(from) >= 0 && value.compareTo(to) <= 0) {
+				codes[code >>> 6] |= 1L << code;
+			}
+		}
+		return codes;
+	}
+
+	private Dictionary dictionary(SalesColumn column) {
+		switch (column) {
+			case DATE:
+				return dates;
+			case PRODUCT:
+				return products;
+			default:
+				throw new IllegalArgumentException("사전 열이 아닙니다: " + column);
+		}
+	}
+
+	private static void requireNumeric(SalesColumn column) {
+		if (column.isDictionary()) {
+			throw new IllegalArgumentException("숫자 열이 아닙니다: " + column);
+		}
+	}
+
+	private long blockEnd(int block) {
+		return blocks[block].offset() + (long)blocks[block].rows() * SalesColumn.ROW_BYTES;
+	}
+
+	private ByteBuffer readAt(long offset, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, offset + buffer.position()) < 0) {
+				throw new IOException("파일이 예상보다 짧습니다.");
+			}
+		}
+		return buffer.flip();
+	}
+}
@@ -0,0 +1,231 @@
+package com.JavaCoreTil.io.common.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.JavaCoreTil.io.common.buffer.DirectBufferPool;
+import com.JavaCoreTil.io.common.buffer.PooledBuffer;
+import com.JavaCoreTil.io.common.csv.CsvReader;
+
+/**
+ * 판매 데이터 컬럼 파일 작성기
+ * <p>
+ * 파일 구조 (리틀 엔디언):
+ * <pre>
+ * [헤더: magic, version]
+ * [블록 0][블록 1]...            블록 = 열 순서대로 이어 붙인 열 청크 (DATE, PRODUCT, QUANTITY, UNIT_PRICE, AMOUNT)
+ * [푸터: 블록 행 수, DATE 사전, PRODUCT 사전, 전체 행 수, 블록 수, 블록별 위치/통계]
+ * [트레일러: 푸터 오프셋, magic]
+ * </pre>
+ * 날짜/제품은 사전 코드(int)로, 수량은 int, 단가/총액은 double 배열 그대로 저장한다.
+ * 사전과 통계는 모든 블록을 쓴 뒤 푸터에 기록하므로 행 수를 미리 몰라도 한 번에 스트리밍으로 쓸 수 있다.
+ */
+public class SalesColumnarWriter implements AutoCloseable {
+
+	static final int MAGIC = 0x53434F4C; // "SCOL"
+	static final int VERSION = 2;
+	static final int HEADER_SIZE = 8;
+	static final int TRAILER_SIZE = 12;
+	// 리더는 블록 하나를 한 맵핑 영역에 담으므로 블록 크기는 이 이하여야 함
+	static final long MAX_BLOCK_BYTES = 1L << 30; // 1GB
+
+	public static final int DEFAULT_BLOCK_ROWS = 64 * 1024;
+
+	private final FileChannel channel;
+	private final int blockRows;
+
+	private final Dictionary dates = new Dictionary();
+	private final Dictionary products = new Dictionary();
+	private final List<BlockStats> blocks = new ArrayList<>();
+
+	// 현재 블록의 열 값
+	private final int[] dateCodes;
+	private final int[] productCodes;
+	private final int[] quantities;
+	private final double[] unitPrices;
+	private final double[] amounts;
+	private int rowsInBlock;
+
+	private long rowCount;
+	private long position; // 다음에 쓸 파일 오프셋
+	private boolean closed;
+
+	public SalesColumnarWriter(Path file) throws IOException {
+		this(file, DEFAULT_BLOCK_ROWS);
+	}
+
+	/**
+	 * @param blockRows 블록당 행 수 (통계 단위, 작을수록 건너뛰기가 세밀하지만 푸터가 커짐)
+	 */
+	public SalesColumnarWriter(Path file, int blockRows) throws IOException {
+		if (blockRows <= 0 || (long)blockRows * SalesColumn.ROW_BYTES > MAX_BLOCK_BYTES) {
+			throw new IllegalArgumentException("blockRows는 1 ~ " + MAX_BLOCK_BYTES / SalesColumn.ROW_BYTES
+				+ " 이어야 합니다: " + blockRows);
+		}
+		this.blockRows = blockRows;
+		this.dateCodes = new int[blockRows];
+		this.productCodes = new int[blockRows];
+		this.quantities = new int[blockRows];
+		this.unitPrices = new double[blockRows];
+		this.amounts = new double[blockRows];
+
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING);
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC).putInt(VERSION).flip();
+		writeFully(header);
+	}
+
+	/**
+	 * 판매 CSV(날짜,제품,수량,단가,총액 + 헤더)를 컬럼 파일로 변환
+	 * @return 변환된 행 수 (필드 수 부족이나 숫자 형식 오류 행은 건너뜀)
+	 */
+	public static long convertCsv(Path csvFile, Path target) throws IOException {
+		try (CsvReader reader = CsvReader.open(csvFile);
+			 SalesColumnarWriter writer = new SalesColumnarWriter(target)) {
+
+			reader.next(); // 헤더 건너뛰기
+			while (reader.next()) {
+				if (reader.fieldCount() < 5) {
+					continue;
+				}
+				try {
+					int quantity = reader.getInt(2);
+					double unitPrice = reader.getDouble(3);
+					double amount = reader.getDouble(4);
+					writer.append(reader.getString(0), reader.getString(1), quantity, unitPrice, amount);
+				} catch (NumberFormatException e) {
+					// 파싱 실패 시 무시
+				}
+			}
+			return writer.rowCount;
+		}
+	}
+
+	public void append(String date, String product, int quantity, double unitPrice, double amount) throws IOException {
+		if (closed) {
+			throw new IOException("이미 닫힌 작성기입니다.");
+		}
+		dateCodes[rowsInBlock] = dates.encode(date);
+		productCodes[rowsInBlock] = products.encode(product);
+		quantities[rowsInBlock] = quantity;
+		unitPrices[rowsInBlock] = unitPrice;
+		amounts[rowsInBlock] = amount;
+		rowsInBlock++;
+		rowCount++;
+
+		if (rowsInBlock == blockRows) {
+			flushBlock();
+		}
+	}
+
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			if (rowsInBlock > 0) {
+				flushBlock();
+			}
+			writeFooter();
+			channel.force(false);
+		} finally {
+			channel.close();
+		}
+	}
+
+	private void flushBlock() throws IOException {
+		int rows = rowsInBlock;
+		BlockStats stats = new BlockStats(position, rows);
+
+		try (PooledBuffer pooled = DirectBufferPool.shared().acquire(rows * SalesColumn.ROW_BYTES)) {
+			ByteBuffer buffer = pooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
+
+			for (int i = 0; i < rows; i++) {
+				buffer.putInt(dateCodes[i]);
+			}
+			for (int i = 0; i < rows; i++) {
+				buffer.putInt(productCodes[i]);
+			}
+
+			int minQuantity = Integer.MAX_VALUE;
+			int maxQuantity = Integer.MIN_VALUE;
+			for (int i = 0; i < rows; i++) {
+				buffer.putInt(quantities[i]);
+				minQuantity = Math.min(minQuantity, quantities[i]);
+				maxQuantity = Math.max(maxQuantity, quantities[i]);
+			}
+			stats.setRange(SalesColumn.QUANTITY, minQuantity, maxQuantity, false);
+
+			putDoubles(buffer, unitPrices, rows, SalesColumn.UNIT_PRICE, stats);
+			putDoubles(buffer, amounts, rows, SalesColumn.AMOUNT, stats);
+
+			buffer.flip();
+			writeFully(buffer);
+		}
+
+		stats.setCodes(SalesColumn.DATE, dateCodes, rows);
+		stats.setCodes(SalesColumn.PRODUCT, productCodes, rows);
+		blocks.add(stats);
+		rowsInBlock = 0;
+	}
+
+	private static void putDoubles(ByteBuffer buffer, double[] values, int rows, SalesColumn column, BlockStats stats) {
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		boolean hasNaN = false;
+		for (int i = 0; i < rows; i++) {
+			buffer.putDouble(values[i]);
+			// NaN 이 min/max 에 섞이면 모든 범위 비교가 false 가 되어 블록이 잘못 건너뛰어짐
+			if (Double.isNaN(values[i])) {
+				hasNaN = true;
+			} else {
+				min = Math.min(min, values[i]);
+				max = Math.max(max, values[i]);
+			}
+		}
+		stats.setRange(column, min, max, hasNaN);
+	}
+
+	private void writeFooter() throws IOException {
+		long footerOffset = position;
+
+		int size = 4 + dates.serializedSize() + products.serializedSize() + 8 + 4 + TRAILER_SIZE;
+		for (BlockStats stats : blocks) {
+			size += stats.serializedSize();
+		}
+
+		ByteBuffer footer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+		footer.putInt(blockRows);
+		dates.writeTo(footer);
+		products.writeTo(footer);
+		footer.putLong(rowCount);
+		footer.putInt(blocks.size());
+		for (BlockStats stats : blocks) {
+			stats.writeTo(footer);
+		}
+		footer.putLong(footerOffset);
+		footer.putInt(MAGIC);
+		footer.flip();
+		writeFully(footer);
+	}
+
+	private void writeFully(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer);
+		}
+	}
+}
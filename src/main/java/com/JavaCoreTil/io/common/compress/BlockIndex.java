@@ -0,0 +1,89 @@
+package com.JavaCoreTil.io.common.compress;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 블록 압축 파일의 체크포인트 (블록별 압축 오프셋 ↔ 원본 오프셋)
+ * <p>
+ * 저장 형식은 bgzip 의 .gzi 와 같다: 항목 수(uint64 LE) 뒤에 첫 블록을 제외한 블록마다
+ * (압축 오프셋, 원본 오프셋) uint64 LE 쌍.
+ */
+final class BlockIndex {
+
+	private long[] compressedOffsets = new long[64];
+	private long[] uncompressedOffsets = new long[64];
+	private int size;
+
+	void add(long compressedOffset, long uncompressedOffset) {
+		if (size == compressedOffsets.length) {
+			compressedOffsets = Arrays.copyOf(compressedOffsets, size * 2);
+			uncompressedOffsets = Arrays.copyOf(uncompressedOffsets, size * 2);
+		}
+		compressedOffsets[size] = compressedOffset;
+		uncompressedOffsets[size] = uncompressedOffset;
+		size++;
+	}
+
+	int size() {
+		return size;
+	}
+
+	long compressedOffset(int block) {
+		return compressedOffsets[block];
+	}
+
+	long uncompressedOffset(int block) {
+		return uncompressedOffsets[block];
+	}
+
+	/**
+	 * 원본 오프셋을 포함하는 블록 번호 (블록 시작 오프셋이 offset 이하인 마지막 블록)
+	 */
+	int find(long uncompressedOffset) {
+		int found = Arrays.binarySearch(uncompressedOffsets, 0, size, uncompressedOffset);
+		return found >= 0 ? found : -found - 2;
+	}
+
+	void save(Path file) throws IOException {
+		int entries = Math.max(0, size - 1);
+		ByteBuffer buffer = ByteBuffer.allocate(8 + entries * 16).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putLong(entries);
+		for (int i = 1; i < size; i++) {
+			buffer.putLong(compressedOffsets[i]).putLong(uncompressedOffsets[i]);
+		}
+		buffer.flip();
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	static BlockIndex load(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer buffer = ByteBuffer.allocate((int)channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				// 끝까지 읽음
+			}
+			buffer.flip();
+			long entries = buffer.getLong();
+			if (entries < 0 || buffer.remaining() != entries * 16) {
+				throw new IOException("잘못된 블록 색인 파일: " + file);
+			}
+
+			BlockIndex index = new BlockIndex();
+			index.add(0, 0);
+			for (long i = 0; i < entries; i++) {
+				index.add(buffer.getLong(), buffer.getLong());
+			}
+			return index;
+		}
+	}
+}
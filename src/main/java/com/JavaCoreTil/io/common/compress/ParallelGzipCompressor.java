@@ -0,0 +1,193 @@
+package com.JavaCoreTil.io.common.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 블록 단위 병렬 gzip 압축기 (pigz 방식)
+ * <p>
+ * 입력을 blockSize 블록으로 나누고 각 블록을 독립된 gzip 멤버로 동시에 압축한 뒤, 입력 순서대로 이어 붙인다.
+ * 여러 멤버를 이어 붙인 파일은 표준 gzip(RFC 1952)이므로 GZIPInputStream, gunzip 으로 그대로 풀린다.
+ * 블록마다 사전이 초기화되어 단일 스트림보다 압축률이 조금 낮지만(1MB 블록 기준 1% 미만) 코어 수만큼 빨라진다.
+ * <p>
+ * Deflater 는 작업 스레드 수만큼만 만들어 재사용하고, 압축이 끝나지 않은 블록은 최대 parallelism x 2 개까지만
+ * 메모리에 두어 입력 읽기가 압축보다 앞서 나가지 않게 한다.
+ */
+public class ParallelGzipCompressor {
+
+	public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+	private static final int HEADER_SIZE = 10;
+	private static final int TRAILER_SIZE = 8;
+
+	private final int blockSize;
+	private final int parallelism;
+	private final int level;
+
+	public ParallelGzipCompressor() {
+		this(DEFAULT_BLOCK_SIZE, Runtime.getRuntime().availableProcessors(), Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * @param blockSize 멤버 하나에 담을 원본 바이트 수
+	 * @param parallelism 압축 스레드 수
+	 * @param level Deflater 압축 레벨 (0~9, -1 = 기본값)
+	 */
+	public ParallelGzipCompressor(int blockSize, int parallelism, int level) {
+		if (blockSize <= 0 || parallelism <= 0) {
+			throw new IllegalArgumentException("blockSize와 parallelism은 0보다 커야 합니다.");
+		}
+		if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+			throw new IllegalArgumentException("잘못된 압축 레벨: " + level);
+		}
+		this.blockSize = blockSize;
+		this.parallelism = parallelism;
+		this.level = level;
+	}
+
+	/**
+	 * @return 압축한 원본 바이트 수
+	 */
+	public long compress(Path source, Path target) throws IOException {
+		try (InputStream in = Files.newInputStream(source);
+			 OutputStream out = Files.newOutputStream(target)) {
+			return compress(in, out);
+		}
+	}
+
+	/**
+	 * in 을 끝까지 읽어 out 에 gzip 으로 씀 (스트림은 닫지 않음)
+	 * @return 압축한 원본 바이트 수
+	 */
+	public long compress(InputStream in, OutputStream out) throws IOException {
+		BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(parallelism);
+		for (int i = 0; i < parallelism; i++) {
+			deflaters.add(new Deflater(level, true)); // 헤더 없는 raw deflate (gzip 헤더는 직접 씀)
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+		Deque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+		long total = 0;
+		try {
+			while (true) {
+				byte[] block = new byte[blockSize];
+				int length = readBlock(in, block);
+				if (length == 0 && total > 0) {
+					break;
+				}
+				total += length;
+				pending.add(pool.submit(() -> compressMember(block, length, deflaters)));
+
+				// 앞선 블록부터 순서대로 내보내며 대기 중인 블록 수를 제한
+				if (pending.size() >= parallelism * 2) {
+					writeMember(out, pending.removeFirst().get());
+				}
+				if (length < blockSize) {
+					break; // 입력 끝 (빈 입력도 빈 멤버 하나를 씀)
+				}
+			}
+			while (!pending.isEmpty()) {
+				writeMember(out, pending.removeFirst().get());
+			}
+			out.flush();
+			return total;
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("압축이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		} finally {
+			pool.shutdownNow();
+			// 반납된 Deflater 만 해제 (실패 시 사용 중이던 것은 GC 가 정리)
+			Deflater deflater;
+			while ((deflater = deflaters.poll()) != null) {
+				deflater.end();
+			}
+		}
+	}
+
+	/**
+	 * block 을 가득 채울 때까지 읽음
+	 * @return 읽은 바이트 수 (blockSize 보다 작으면 입력 끝)
+	 */
+	private static int readBlock(InputStream in, byte[] block) throws IOException {
+		int length = 0;
+		while (length < block.length) {
+			int bytesRead = in.read(block, length, block.length - length);
+			if (bytesRead < 0) {
+				break;
+			}
+			length += bytesRead;
+		}
+		return length;
+	}
+
+	private static void writeMember(OutputStream out, ByteBuffer member) throws IOException {
+		out.write(member.array(), 0, member.limit());
+	}
+
+	/**
+	 * 블록 하나를 완전한 gzip 멤버(헤더 + deflate + CRC32 + 원본 크기)로 압축
+	 */
+	private static ByteBuffer compressMember(byte[] block, int length, BlockingQueue<Deflater> deflaters)
+		throws InterruptedException {
+		Deflater deflater = deflaters.take();
+		try {
+			deflater.reset();
+			deflater.setInput(block, 0, length);
+			deflater.finish();
+
+			// 압축되지 않는 데이터도 대부분 한 번에 들어가도록 원본보다 조금 크게 잡음
+			byte[] member = new byte[HEADER_SIZE + length + (length >> 10) + 64 + TRAILER_SIZE];
+			member[0] = (byte)0x1f;
+			member[1] = (byte)0x8b;
+			member[2] = Deflater.DEFLATED;
+			member[9] = (byte)0xff; // OS: 알 수 없음
+
+			int position = HEADER_SIZE;
+			while (!deflater.finished()) {
+				if (position == member.length) {
+					member = Arrays.copyOf(member, member.length * 2);
+				}
+				position += deflater.deflate(member, position, member.length - position);
+			}
+
+			CRC32 crc = new CRC32();
+			crc.update(block, 0, length);
+			if (member.length - position < TRAILER_SIZE) {
+				member = Arrays.copyOf(member, position + TRAILER_SIZE);
+			}
+			position = putIntLE(member, position, (int)crc.getValue());
+			position = putIntLE(member, position, length);
+
+			return ByteBuffer.wrap(member, 0, position);
+		} finally {
+			deflaters.add(deflater);
+		}
+	}
+
+	private static int putIntLE(byte[] buffer, int position, int value) {
+		buffer[position] = (byte)value;
+		buffer[position + 1] = (byte)(value >>> 8);
+		buffer[position + 2] = (byte)(value >>> 16);
+		buffer[position + 3] = (byte)(value >>> 24);
+		return position + 4;
+	}
+}
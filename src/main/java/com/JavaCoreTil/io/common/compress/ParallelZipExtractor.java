@@ -0,0 +1,336 @@
+package com.JavaCoreTil.io.common.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 중앙 디렉토리 기반 병렬 ZIP 해제기
+ * <p>
+ * 파일 끝의 중앙 디렉토리(ZIP64 포함)만 읽어 엔트리 목록과 로컬 헤더 위치를 얻은 뒤,
+ * 엔트리마다 하나의 FileChannel 에서 위치 지정 읽기로 데이터를 가져와 동시에 풀어 쓴다.
+ * ZipInputStream 처럼 앞에서부터 순서대로 훑지 않으므로 엔트리 수만큼 병렬화된다.
+ * 풀어 쓴 데이터는 CRC32 와 크기로 검증하고, 대상 디렉토리 밖을 가리키는 엔트리(zip slip)는 거부한다.
+ */
+public class ParallelZipExtractor {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final int parallelism;
+
+	public ParallelZipExtractor() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public ParallelZipExtractor(int parallelism) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism은 0보다 커야 합니다.");
+		}
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * @return 풀어 쓴 파일 수 (디렉토리 엔트리 제외)
+	 */
+	public int extract(Path zipFile, Path targetDirectory) throws IOException {
+		Path target = targetDirectory.toAbsolutePath().normalize();
+		try (FileChannel channel = FileChannel.open(zipFile, StandardOpenOption.READ)) {
+			List<Entry> entries = readCentralDirectory(channel);
+
+			// 디렉토리는 미리 만들어 두고 파일만 병렬로 해제
+			List<Entry> files = new ArrayList<>(entries.size());
+			for (Entry entry : entries) {
+				entry.target = resolve(target, entry.name);
+				if (entry.name.endsWith("/")) {
+					Files.createDirectories(entry.target);
+				} else {
+					Files.createDirectories(entry.target.getParent());
+					files.add(entry);
+				}
+			}
+
+			ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+			try {
+				List<Future<?>> futures = new ArrayList<>(files.size());
+				for (Entry entry : files) {
+					futures.add(pool.submit(() -> {
+						extractEntry(channel, entry);
+						return null;
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+				return files.size();
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("ZIP 압축 해제가 중단되었습니다.", e);
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+			} finally {
+				pool.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * 엔트리 목록만 읽음 (압축은 풀지 않음)
+	 */
+	public List<String> list(Path zipFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(zipFile, StandardOpenOption.READ)) {
+			List<String> names = new ArrayList<>();
+			for (Entry entry : readCentralDirectory(channel)) {
+				names.add(entry.name);
+			}
+			return names;
+		}
+	}
+
+	private static Path resolve(Path target, String name) throws IOException {
+		Path resolved = target.resolve(name).normalize();
+		if (!resolved.startsWith(target) || resolved.equals(target)) {
+			throw new IOException("대상 디렉토리 밖을 가리키는 엔트리입니다: " + name);
+		}
+		return resolved;
+	}
+
+	private static void extractEntry(FileChannel channel, Entry entry) throws IOException {
+		ByteBuffer local = readFully(channel, entry.localHeaderOffset, ZipFormat.LOCAL_HEADER_SIZE);
+		if (local.getInt(0) != ZipFormat.LOCAL_HEADER_SIGNATURE) {
+			throw new IOException("로컬 헤더가 잘못되었습니다: " + entry.name);
+		}
+		long dataOffset = entry.localHeaderOffset + ZipFormat.LOCAL_HEADER_SIZE
+			+ (local.getShort(26) & 0xFFFF) + (local.getShort(28) & 0xFFFF);
+
+		InputStream data = new RangeInputStream(channel, dataOffset, entry.compressedSize);
+		Inflater inflater = null;
+		if (entry.method == ZipFormat.METHOD_DEFLATED) {
+			inflater = new Inflater(true);
+			data = new InflaterInputStream(data, inflater, BUFFER_SIZE);
+		}
+		try (CheckedInputStream in = new CheckedInputStream(data, new CRC32())) {
+			long size = Files.copy(in, entry.target, StandardCopyOption.REPLACE_EXISTING);
+			if (size != entry.uncompressedSize || in.getChecksum().getValue() != entry.crc) {
+				throw new IOException("엔트리가 손상되었습니다 (CRC 또는 크기 불일치): " + entry.name);
+			}
+		} finally {
+			if (inflater != null) {
+				inflater.end();
+			}
+		}
+		FileTime modified = ZipFormat.fromDosDateTime(entry.dosTime);
+		if (modified != null) {
+			Files.setLastModifiedTime(entry.target, modified);
+		}
+	}
+
+	private static List<Entry> readCentralDirectory(FileChannel channel) throws IOException {
+		long fileSize = channel.size();
+		if (fileSize < ZipFormat.END_SIZE) {
+			throw new IOException("ZIP 파일이 아닙니다.");
+		}
+
+		// 끝 레코드는 주석(최대 65535 바이트) 앞에 있으므로 뒤에서부터 시그니처를 찾음
+		int tailLength = (int)Math.min(fileSize, ZipFormat.END_SIZE + 0xFFFF);
+		long tailOffset = fileSize - tailLength;
+		ByteBuffer tail = readFully(channel, tailOffset, tailLength);
+		int end = -1;
+		for (int i = tailLength - ZipFormat.END_SIZE; i >= 0; i--) {
+			if (tail.getInt(i) == ZipFormat.END_SIGNATURE) {
+				end = i;
+				break;
+			}
+		}
+		if (end < 0) {
+			throw new IOException("중앙 디렉토리 끝 레코드를 찾을 수 없습니다.");
+		}
+		if ((tail.getShort(end + 4) & 0xFFFF) != 0 || (tail.getShort(end + 6) & 0xFFFF) != 0) {
+			throw new IOException("분할 ZIP 은 지원하지 않습니다.");
+		}
+
+		long count = tail.getShort(end + 10) & 0xFFFF;
+		long centralSize = Integer.toUnsignedLong(tail.getInt(end + 12));
+		long centralOffset = Integer.toUnsignedLong(tail.getInt(end + 16));
+
+		long endOffset = tailOffset + end;
+		if (endOffset >= ZipFormat.ZIP64_LOCATOR_SIZE) {
+			ByteBuffer locator = readFully(channel, endOffset - ZipFormat.ZIP64_LOCATOR_SIZE,
+				ZipFormat.ZIP64_LOCATOR_SIZE);
+			if (locator.getInt(0) == ZipFormat.ZIP64_LOCATOR_SIGNATURE) {
+				ByteBuffer zip64End = readFully(channel, locator.getLong(8), ZipFormat.ZIP64_END_SIZE);
+				if (zip64End.getInt(0) != ZipFormat.ZIP64_END_SIGNATURE) {
+					throw new IOException("ZIP64 끝 레코드가 잘못되었습니다.");
+				}
+				count = zip64End.getLong(32);
+				centralSize = zip64End.getLong(40);
+				centralOffset = zip64End.getLong(48);
+			}
+		}
+		if (centralSize > Integer.MAX_VALUE || centralOffset + centralSize > fileSize) {
+			throw new IOException("중앙 디렉토리 위치가 잘못되었습니다.");
+		}
+
+		ByteBuffer central = readFully(channel, centralOffset, (int)centralSize);
+		List<Entry> entries = new ArrayList<>((int)Math.min(count, 1 << 20));
+		for (long i = 0; i < count; i++) {
+			int position = central.position();
+			if (central.remaining() < ZipFormat.CENTRAL_HEADER_SIZE
+				|| central.getInt(position) != ZipFormat.CENTRAL_HEADER_SIGNATURE) {
+				throw new IOException("중앙 디렉토리 엔트리가 잘못되었습니다.");
+			}
+			int flags = central.getShort(position + 8) & 0xFFFF;
+			if ((flags & ZipFormat.FLAG_ENCRYPTED) != 0) {
+				throw new IOException("암호화된 엔트리는 지원하지 않습니다.");
+			}
+			Entry entry = new Entry();
+			entry.method = central.getShort(position + 10) & 0xFFFF;
+			entry.dosTime = central.getInt(position + 12);
+			entry.crc = Integer.toUnsignedLong(central.getInt(position + 16));
+			entry.compressedSize = Integer.toUnsignedLong(central.getInt(position + 20));
+			entry.uncompressedSize = Integer.toUnsignedLong(central.getInt(position + 24));
+			int nameLength = central.getShort(position + 28) & 0xFFFF;
+			int extraLength = central.getShort(position + 30) & 0xFFFF;
+			int commentLength = central.getShort(position + 32) & 0xFFFF;
+			entry.localHeaderOffset = Integer.toUnsignedLong(central.getInt(position + 42));
+
+			byte[] name = new byte[nameLength];
+			central.position(position + ZipFormat.CENTRAL_HEADER_SIZE);
+			central.get(name);
+			// UTF-8 플래그가 없어도 대부분의 도구가 UTF-8 로 기록하므로 UTF-8 로 해석
+			entry.name = new String(name, StandardCharsets.UTF_8);
+
+			int extraEnd = central.position() + extraLength;
+			readZip64Extra(central, extraEnd, entry);
+			central.position(extraEnd + commentLength);
+
+			if (entry.method != ZipFormat.METHOD_STORED && entry.method != ZipFormat.METHOD_DEFLATED) {
+				throw new IOException("지원하지 않는 압축 방식(" + entry.method + "): " + entry.name);
+			}
+			entries.add(entry);
+		}
+		return entries;
+	}
+
+	/**
+	 * ZIP64 확장 필드에서 32비트 필드가 넘친 값만 순서대로 읽음
+	 */
+	private static void readZip64Extra(ByteBuffer central, int extraEnd, Entry entry) {
+		while (central.position() + 4 <= extraEnd) {
+			int id = central.getShort() & 0xFFFF;
+			int size = central.getShort() & 0xFFFF;
+			int next = central.position() + size;
+			if (id == ZipFormat.ZIP64_EXTRA_ID) {
+				if (entry.uncompressedSize == ZipFormat.ZIP64_MAGIC && central.position() + 8 <= next) {
+					entry.uncompressedSize = central.getLong();
+				}
+				if (entry.compressedSize == ZipFormat.ZIP64_MAGIC && central.position() + 8 <= next) {
+					entry.compressedSize = central.getLong();
+				}
+				if (entry.localHeaderOffset == ZipFormat.ZIP64_MAGIC && central.position() + 8 <= next) {
+					entry.localHeaderOffset = central.getLong();
+				}
+			}
+			central.position(next);
+		}
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			int bytesRead = channel.read(buffer, position + buffer.position());
+			if (bytesRead < 0) {
+				throw new IOException("ZIP 파일이 잘렸습니다.");
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	private static final class Entry {
+		String name;
+		int method;
+		int dosTime;
+		long crc;
+		long compressedSize;
+		long uncompressedSize;
+		long localHeaderOffset;
+		Path target;
+	}
+
+	/**
+	 * 채널의 [offset, offset + length) 구간을 위치 지정 읽기로 읽는 스트림 (채널 위치를 공유하지 않음)
+	 */
+	private static final class RangeInputStream extends InputStream {
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		private long position;
+		private long remaining;
+
+		RangeInputStream(FileChannel channel, long offset, long length) {
+			this.channel = channel;
+			this.position = offset;
+			this.remaining = length;
+			buffer.limit(0);
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (!fill()) {
+				return -1;
+			}
+			return buffer.get() & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			if (length == 0) {
+				return 0;
+			}
+			if (!fill()) {
+				return -1;
+			}
+			int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		private boolean fill() throws IOException {
+			if (buffer.hasRemaining()) {
+				return true;
+			}
+			if (remaining == 0) {
+				return false;
+			}
+			buffer.clear();
+			buffer.limit((int)Math.min(buffer.capacity(), remaining));
+			int bytesRead = channel.read(buffer, position);
+			if (bytesRead < 0) {
+				throw new IOException("ZIP 파일이 잘렸습니다.");
+			}
+			buffer.flip();
+			position += bytesRead;
+			remaining -= bytesRead;
+			return true;
+		}
+	}
+}
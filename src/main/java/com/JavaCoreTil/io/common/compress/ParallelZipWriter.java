@@ -0,0 +1,374 @@
+package com.JavaCoreTil.io.common.compress;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 엔트리 단위 병렬 ZIP 작성기
+ * <p>
+ * 파일마다 압축(raw deflate)과 CRC32 계산을 작업 스레드에서 동시에 수행하고, 결과를 입력 순서대로
+ * 로컬 헤더 + 데이터로 이어 붙인 뒤 마지막에 중앙 디렉토리를 쓴다. 크기와 CRC 를 미리 알기 때문에
+ * 데이터 디스크립터 없이 기록하며, 4GB 이상 엔트리나 65535개 이상 엔트리는 ZIP64 로 기록한다.
+ * <p>
+ * 압축 결과는 SPILL_THRESHOLD 이하면 메모리에, 그보다 크면 ZIP 파일 옆 임시 파일에 두며,
+ * 압축해도 작아지지 않는 파일은 원본을 그대로 저장(STORED)한다.
+ * 압축이 끝나고 아직 쓰이지 않은 엔트리는 최대 parallelism x 2 개로 제한한다.
+ */
+public class ParallelZipWriter {
+
+	public static final long SPILL_THRESHOLD = 4 * 1024 * 1024;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final int parallelism;
+	private final int level;
+
+	public ParallelZipWriter() {
+		this(Runtime.getRuntime().availableProcessors(), Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * @param parallelism 압축 스레드 수
+	 * @param level Deflater 압축 레벨 (0~9, -1 = 기본값)
+	 */
+	public ParallelZipWriter(int parallelism, int level) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism은 0보다 커야 합니다.");
+		}
+		if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+			throw new IllegalArgumentException("잘못된 압축 레벨: " + level);
+		}
+		this.parallelism = parallelism;
+		this.level = level;
+	}
+
+	/**
+	 * 디렉토리 아래 모든 일반 파일을 압축 (엔트리 이름은 디렉토리 기준 상대 경로, 이름순)
+	 * @return 엔트리 수
+	 */
+	public int zipDirectory(Path directory, Path zipFile) throws IOException {
+		List<Path> files;
+		try (Stream<Path> stream = Files.walk(directory)) {
+			files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+		return zip(directory, files, zipFile);
+	}
+
+	/**
+	 * @param baseDirectory 엔트리 이름을 만들 기준 디렉토리 (files 는 모두 이 아래에 있어야 함)
+	 * @return 엔트리 수
+	 */
+	public int zip(Path baseDirectory, List<Path> files, Path zipFile) throws IOException {
+		Path base = baseDirectory.toAbsolutePath().normalize();
+		List<String> names = new ArrayList<>(files.size());
+		for (Path file : files) {
+			Path absolute = file.toAbsolutePath().normalize();
+			if (!absolute.startsWith(base) || absolute.equals(base)) {
+				throw new IllegalArgumentException("기준 디렉토리 밖의 파일입니다: " + file);
+			}
+			names.add(base.relativize(absolute).toString().replace(absolute.getFileSystem().getSeparator(), "/"));
+		}
+
+		Path spillDirectory = zipFile.toAbsolutePath().getParent();
+		BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(parallelism);
+		for (int i = 0; i < parallelism; i++) {
+			deflaters.add(new Deflater(level, true));
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+		Deque<Future<CompressedEntry>> pending = new ArrayDeque<>();
+		List<CompressedEntry> written = new ArrayList<>(files.size());
+		try (ZipSink sink = new ZipSink(zipFile)) {
+			for (int i = 0; i < files.size(); i++) {
+				String name = names.get(i);
+				Path file = files.get(i);
+				pending.add(pool.submit(() -> compress(name, file, deflaters, spillDirectory)));
+
+				// 먼저 제출한 엔트리부터 순서대로 기록하며 대기 중인 엔트리 수를 제한
+				if (pending.size() >= parallelism * 2) {
+					written.add(sink.writeEntry(pending.removeFirst().get()));
+				}
+			}
+			while (!pending.isEmpty()) {
+				written.add(sink.writeEntry(pending.removeFirst().get()));
+			}
+			sink.writeCentralDirectory(written);
+			return written.size();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("ZIP 압축이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		} finally {
+			pool.shutdownNow();
+			// 기록하지 못한 엔트리의 임시 파일 정리 (실행 중이던 작업은 스스로 정리)
+			for (Future<CompressedEntry> future : pending) {
+				if (future.isDone() && !future.isCancelled()) {
+					try {
+						future.get().discard();
+					} catch (InterruptedException | ExecutionException | IOException ignored) {
+						// 이미 실패한 엔트리
+					}
+				}
+			}
+			Deflater deflater;
+			while ((deflater = deflaters.poll()) != null) {
+				deflater.end();
+			}
+		}
+	}
+
+	/**
+	 * 파일 하나를 압축하고 CRC32 를 계산 (작업 스레드)
+	 */
+	private static CompressedEntry compress(String name, Path file, BlockingQueue<Deflater> deflaters,
+		Path spillDirectory) throws IOException, InterruptedException {
+		long size = Files.size(file);
+		int dosTime = ZipFormat.toDosDateTime(Files.getLastModifiedTime(file));
+		Deflater deflater = deflaters.take();
+		Path spillFile = null;
+		try {
+			if (size > SPILL_THRESHOLD) {
+				spillFile = Files.createTempFile(spillDirectory, "zip-entry", ".part");
+			}
+			deflater.reset();
+			CRC32 crc = new CRC32();
+			ByteArrayOutputStream memory = spillFile == null ? new ByteArrayOutputStream((int)size / 2 + 64) : null;
+			long uncompressedSize = 0;
+			try (InputStream in = Files.newInputStream(file);
+				 OutputStream target = spillFile == null ? memory : Files.newOutputStream(spillFile);
+				 DeflaterOutputStream out = new DeflaterOutputStream(target, deflater, BUFFER_SIZE)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int bytesRead;
+				while ((bytesRead = in.read(buffer)) != -1) {
+					crc.update(buffer, 0, bytesRead);
+					out.write(buffer, 0, bytesRead);
+					uncompressedSize += bytesRead;
+				}
+			}
+
+			long compressedSize = deflater.getBytesWritten();
+			if (compressedSize >= uncompressedSize) {
+				// 압축 이득이 없으면 원본을 그대로 저장
+				if (spillFile != null) {
+					Files.deleteIfExists(spillFile);
+				}
+				return new CompressedEntry(name, dosTime, ZipFormat.METHOD_STORED, crc.getValue(),
+					uncompressedSize, uncompressedSize, null, file);
+			}
+			return new CompressedEntry(name, dosTime, ZipFormat.METHOD_DEFLATED, crc.getValue(),
+				compressedSize, uncompressedSize, memory == null ? null : memory.toByteArray(),
+				spillFile);
+
+		} catch (IOException | RuntimeException e) {
+			if (spillFile != null) {
+				Files.deleteIfExists(spillFile);
+			}
+			throw e;
+		} finally {
+			deflaters.add(deflater);
+		}
+	}
+
+	/**
+	 * 압축이 끝난 엔트리 (데이터는 메모리, 임시 파일, 원본 파일 중 하나)
+	 */
+	private static final class CompressedEntry {
+		final byte[] name;
+		final int dosTime;
+		final int method;
+		final long crc;
+		final long compressedSize;
+		final long uncompressedSize;
+		final byte[] data;
+		final Path dataFile;
+		long localHeaderOffset;
+
+		CompressedEntry(String name, int dosTime, int method, long crc, long compressedSize, long uncompressedSize,
+			byte[] data, Path dataFile) {
+			this.name = name.getBytes(StandardCharsets.UTF_8);
+			this.dosTime = dosTime;
+			this.method = method;
+			this.crc = crc;
+			this.compressedSize = compressedSize;
+			this.uncompressedSize = uncompressedSize;
+			this.data = data;
+			this.dataFile = dataFile;
+		}
+
+		boolean isSpilled() {
+			return method == ZipFormat.METHOD_DEFLATED && dataFile != null;
+		}
+
+		boolean needsZip64Sizes() {
+			return compressedSize >= ZipFormat.ZIP64_MAGIC || uncompressedSize >= ZipFormat.ZIP64_MAGIC;
+		}
+
+		void discard() throws IOException {
+			if (isSpilled()) {
+				Files.deleteIfExists(dataFile);
+			}
+		}
+	}
+
+	/**
+	 * 엔트리를 순서대로 기록하며 현재 오프셋을 추적하는 출력
+	 */
+	private static final class ZipSink implements AutoCloseable {
+		private final OutputStream out;
+		private final ByteBuffer header = ByteBuffer.allocate(ZipFormat.CENTRAL_HEADER_SIZE + 0xFFFF + 32)
+			.order(ByteOrder.LITTLE_ENDIAN);
+		private long offset;
+
+		ZipSink(Path zipFile) throws IOException {
+			this.out = new BufferedOutputStream(Files.newOutputStream(zipFile), BUFFER_SIZE);
+		}
+
+		CompressedEntry writeEntry(CompressedEntry entry) throws IOException {
+			if (entry.name.length > 0xFFFF) {
+				entry.discard();
+				throw new IOException("엔트리 이름이 너무 깁니다.");
+			}
+			entry.localHeaderOffset = offset;
+			boolean zip64 = entry.needsZip64Sizes();
+
+			header.clear();
+			header.putInt(ZipFormat.LOCAL_HEADER_SIGNATURE);
+			header.putShort((short)(zip64 ? ZipFormat.VERSION_ZIP64 : ZipFormat.VERSION_DEFAULT));
+			header.putShort((short)ZipFormat.FLAG_UTF8);
+			header.putShort((short)entry.method);
+			header.putInt(entry.dosTime);
+			header.putInt((int)entry.crc);
+			header.putInt(zip64 ? (int)ZipFormat.ZIP64_MAGIC : (int)entry.compressedSize);
+			header.putInt(zip64 ? (int)ZipFormat.ZIP64_MAGIC : (int)entry.uncompressedSize);
+			header.putShort((short)entry.name.length);
+			header.putShort((short)(zip64 ? 20 : 0));
+			header.put(entry.name);
+			if (zip64) {
+				header.putShort((short)ZipFormat.ZIP64_EXTRA_ID).putShort((short)16);
+				header.putLong(entry.uncompressedSize).putLong(entry.compressedSize);
+			}
+			write(header);
+
+			try {
+				long copied = entry.data != null ? writeBytes(entry.data) : Files.copy(entry.dataFile, out);
+				if (copied != entry.compressedSize) {
+					// 저장(STORED) 엔트리는 원본을 다시 읽으므로 그 사이 파일이 바뀌면 헤더와 맞지 않음
+					throw new IOException("압축 중 파일이 변경되었습니다: " + new String(entry.name, StandardCharsets.UTF_8));
+				}
+			} finally {
+				entry.discard();
+			}
+			offset += entry.compressedSize;
+			return entry;
+		}
+
+		void writeCentralDirectory(List<CompressedEntry> entries) throws IOException {
+			long centralOffset = offset;
+			for (CompressedEntry entry : entries) {
+				boolean largeSizes = entry.needsZip64Sizes();
+				boolean largeOffset = entry.localHeaderOffset >= ZipFormat.ZIP64_MAGIC;
+				int extraLength = (largeSizes ? 16 : 0) + (largeOffset ? 8 : 0);
+
+				header.clear();
+				header.putInt(ZipFormat.CENTRAL_HEADER_SIGNATURE);
+				header.putShort((short)(extraLength > 0 ? ZipFormat.VERSION_ZIP64 : ZipFormat.VERSION_DEFAULT));
+				header.putShort((short)(extraLength > 0 ? ZipFormat.VERSION_ZIP64 : ZipFormat.VERSION_DEFAULT));
+				header.putShort((short)ZipFormat.FLAG_UTF8);
+				header.putShort((short)entry.method);
+				header.putInt(entry.dosTime);
+				header.putInt((int)entry.crc);
+				header.putInt(largeSizes ? (int)ZipFormat.ZIP64_MAGIC : (int)entry.compressedSize);
+				header.putInt(largeSizes ? (int)ZipFormat.ZIP64_MAGIC : (int)entry.uncompressedSize);
+				header.putShort((short)entry.name.length);
+				header.putShort((short)(extraLength > 0 ? extraLength + 4 : 0));
+				header.putShort((short)0); // 주석 길이
+				header.putShort((short)0); // 디스크 번호
+				header.putShort((short)0); // 내부 속성
+				header.putInt(0); // 외부 속성
+				header.putInt(largeOffset ? (int)ZipFormat.ZIP64_MAGIC : (int)entry.localHeaderOffset);
+				header.put(entry.name);
+				if (extraLength > 0) {
+					// ZIP64 필드는 32비트 필드가 넘친 것만 정해진 순서로 기록
+					header.putShort((short)ZipFormat.ZIP64_EXTRA_ID).putShort((short)extraLength);
+					if (largeSizes) {
+						header.putLong(entry.uncompressedSize).putLong(entry.compressedSize);
+					}
+					if (largeOffset) {
+						header.putLong(entry.localHeaderOffset);
+					}
+				}
+				write(header);
+			}
+
+			long centralSize = offset - centralOffset;
+			int count = entries.size();
+			boolean zip64 = count >= ZipFormat.ZIP64_MAGIC_COUNT || centralOffset >= ZipFormat.ZIP64_MAGIC
+				|| centralSize >= ZipFormat.ZIP64_MAGIC;
+			header.clear();
+			if (zip64) {
+				long zip64EndOffset = offset;
+				header.putInt(ZipFormat.ZIP64_END_SIGNATURE);
+				header.putLong(ZipFormat.ZIP64_END_SIZE - 12);
+				header.putShort((short)ZipFormat.VERSION_ZIP64);
+				header.putShort((short)ZipFormat.VERSION_ZIP64);
+				header.putInt(0).putInt(0);
+				header.putLong(count).putLong(count);
+				header.putLong(centralSize).putLong(centralOffset);
+
+				header.putInt(ZipFormat.ZIP64_LOCATOR_SIGNATURE);
+				header.putInt(0);
+				header.putLong(zip64EndOffset);
+				header.putInt(1);
+			}
+			header.putInt(ZipFormat.END_SIGNATURE);
+			header.putShort((short)0).putShort((short)0);
+			short shortCount = (short)(zip64 ? ZipFormat.ZIP64_MAGIC_COUNT : count);
+			header.putShort(shortCount).putShort(shortCount);
+			header.putInt(zip64 ? (int)ZipFormat.ZIP64_MAGIC : (int)centralSize);
+			header.putInt(zip64 ? (int)ZipFormat.ZIP64_MAGIC : (int)centralOffset);
+			header.putShort((short)0); // 주석 길이
+			write(header);
+		}
+
+		private long writeBytes(byte[] bytes) throws IOException {
+			out.write(bytes);
+			return bytes.length;
+		}
+
+		private void write(ByteBuffer buffer) throws IOException {
+			out.write(buffer.array(), 0, buffer.position());
+			offset += buffer.position();
+		}
+
+		@Override
+		public void close() throws IOException {
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,270 @@
+package com.JavaCoreTil.io.common.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * SeekableGzipWriter(또는 bgzip) 로 만든 블록 gzip 을 원본 오프셋 기준으로 읽는 읽기 전용 채널
+ * <p>
+ * position() 은 원본(압축 전) 오프셋이다. 읽을 때 해당 오프셋이 든 블록 하나(최대 64KB)만 풀어 캐시하므로,
+ * 아카이브 크기와 상관없이 임의 위치 읽기 비용이 일정하다.
+ * 옆에 ".gzi" 색인이 있으면 그대로 쓰고, 없으면 블록 헤더의 크기 필드만 따라가며 색인을 만든다(압축은 풀지 않음).
+ */
+public class SeekableGzipChannel implements SeekableByteChannel {
+
+	private final FileChannel channel;
+	private final BlockIndex index;
+	private final long size;
+
+	private final Inflater inflater = new Inflater(true);
+	private final CRC32 crc = new CRC32();
+	private final ByteBuffer compressed = ByteBuffer.allocate(SeekableGzipWriter.MAX_BLOCK_SIZE)
+		.order(ByteOrder.LITTLE_ENDIAN);
+	private final byte[] block = new byte[SeekableGzipWriter.MAX_BLOCK_SIZE];
+	private int cachedBlock = -1;
+	private int cachedLength;
+
+	private long position;
+	private long blocksInflated;
+	private boolean open = true;
+
+	private SeekableGzipChannel(FileChannel channel, BlockIndex index, long size) {
+		this.channel = channel;
+		this.index = index;
+		this.size = size;
+	}
+
+	/**
+	 * @throws IOException 블록 gzip 형식이 아닐 때
+	 */
+	public static SeekableGzipChannel open(Path archive) throws IOException {
+		FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ);
+		try {
+			Path indexFile = SeekableGzipWriter.indexFileFor(archive);
+			BlockIndex index = Files.exists(indexFile) ? BlockIndex.load(indexFile) : scan(channel);
+
+			// 전체 크기 = 마지막 블록 시작 + 마지막 블록 원본 크기(ISIZE)
+			long size = 0;
+			if (index.size() > 0) {
+				int last = index.size() - 1;
+				long start = index.compressedOffset(last);
+				int blockSize = readBlockSize(channel, start);
+				size = index.uncompressedOffset(last) + Integer.toUnsignedLong(readIntLE(channel, start + blockSize - 4));
+			}
+			return new SeekableGzipChannel(channel, index, size);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 블록 헤더를 따라가며 색인을 만듦 (빈 블록은 건너뜀)
+	 */
+	private static BlockIndex scan(FileChannel channel) throws IOException {
+		BlockIndex index = new BlockIndex();
+		long fileSize = channel.size();
+		long compressedOffset = 0;
+		long uncompressedOffset = 0;
+		while (compressedOffset < fileSize) {
+			int blockSize = readBlockSize(channel, compressedOffset);
+			long length = Integer.toUnsignedLong(readIntLE(channel, compressedOffset + blockSize - 4));
+			if (length > 0) {
+				index.add(compressedOffset, uncompressedOffset);
+				uncompressedOffset += length;
+			}
+			compressedOffset += blockSize;
+		}
+		return index;
+	}
+
+	/**
+	 * 블록 gzip 헤더를 검사하고 블록 전체 크기(BSIZE + 1)를 돌려줌
+	 */
+	private static int readBlockSize(FileChannel channel, long offset) throws IOException {
+		ByteBuffer header = readFully(channel, offset, SeekableGzipWriter.HEADER_SIZE);
+		return parseBlockSize(header, offset);
+	}
+
+	private static int parseBlockSize(ByteBuffer header, long offset) throws IOException {
+		if ((header.get(0) & 0xff) != 0x1f || (header.get(1) & 0xff) != 0x8b || header.get(2) != 8
+			|| (header.get(3) & 4) == 0 || header.getShort(10) != 6
+			|| header.get(12) != 'B' || header.get(13) != 'C' || header.getShort(14) != 2) {
+			throw new IOException("블록 gzip 형식이 아닙니다 (오프셋 " + offset + ")");
+		}
+		return (header.getShort(16) & 0xffff) + 1;
+	}
+
+	private static int readIntLE(FileChannel channel, long offset) throws IOException {
+		return readFully(channel, offset, 4).getInt(0);
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			int bytesRead = channel.read(buffer, position + buffer.position());
+			if (bytesRead < 0) {
+				throw new IOException("압축 파일이 잘렸습니다.");
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * 현재 위치부터 읽는 InputStream (스트림을 닫으면 채널도 닫힘)
+	 */
+	public InputStream newInputStream() {
+		return Channels.newInputStream(this);
+	}
+
+	@Override
+	public int read(ByteBuffer dst) throws IOException {
+		ensureOpen();
+		if (position >= size) {
+			return -1;
+		}
+		int total = 0;
+		while (dst.hasRemaining() && position < size) {
+			int blockNumber = index.find(position);
+			if (blockNumber != cachedBlock) {
+				inflateBlock(blockNumber);
+			}
+			int offsetInBlock = (int)(position - index.uncompressedOffset(blockNumber));
+			int count = Math.min(dst.remaining(), cachedLength - offsetInBlock);
+			dst.put(block, offsetInBlock, count);
+			position += count;
+			total += count;
+		}
+		return total;
+	}
+
+	private void inflateBlock(int blockNumber) throws IOException {
+		long start = index.compressedOffset(blockNumber);
+		compressed.clear();
+		compressed.limit((int)Math.min(compressed.capacity(), channel.size() - start));
+		while (compressed.hasRemaining()) {
+			if (channel.read(compressed, start + compressed.position()) < 0) {
+				break;
+			}
+		}
+		if (compressed.position() < SeekableGzipWriter.HEADER_SIZE) {
+			throw new IOException("압축 파일이 잘렸습니다.");
+		}
+		int blockSize = parseBlockSize(compressed, start);
+		if (blockSize > compressed.position()) {
+			throw new IOException("압축 파일이 잘렸습니다.");
+		}
+
+		int cdataLength = blockSize - SeekableGzipWriter.HEADER_SIZE - SeekableGzipWriter.TRAILER_SIZE;
+		int expectedCrc = compressed.getInt(blockSize - 8);
+		int expectedLength = compressed.getInt(blockSize - 4);
+
+		cachedBlock = -1;
+		inflater.reset();
+		inflater.setInput(compressed.array(), SeekableGzipWriter.HEADER_SIZE, cdataLength);
+		int length = 0;
+		try {
+			while (!inflater.finished() && length < block.length) {
+				int inflated = inflater.inflate(block, length, block.length - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += inflated;
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("블록을 풀 수 없습니다 (오프셋 " + start + ")", e);
+		}
+
+		crc.reset();
+		crc.update(block, 0, length);
+		if (!inflater.finished() || length != expectedLength || (int)crc.getValue() != expectedCrc) {
+			throw new IOException("블록이 손상되었습니다 (오프셋 " + start + ")");
+		}
+		cachedBlock = blockNumber;
+		cachedLength = length;
+		blocksInflated++;
+	}
+
+	@Override
+	public long position() throws IOException {
+		ensureOpen();
+		return position;
+	}
+
+	/**
+	 * @param newPosition 원본(압축 전) 오프셋
+	 */
+	@Override
+	public SeekableGzipChannel position(long newPosition) throws IOException {
+		ensureOpen();
+		if (newPosition < 0) {
+			throw new IllegalArgumentException("위치는 0 이상이어야 합니다: " + newPosition);
+		}
+		position = newPosition;
+		return this;
+	}
+
+	/**
+	 * 원본(압축 전) 크기
+	 */
+	@Override
+	public long size() throws IOException {
+		ensureOpen();
+		return size;
+	}
+
+	public int getBlockCount() {
+		return index.size();
+	}
+
+	/**
+	 * 지금까지 압축을 푼 블록 수
+	 */
+	public long getBlocksInflated() {
+		return blocksInflated;
+	}
+
+	@Override
+	public int write(ByteBuffer src) {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public SeekableByteChannel truncate(long size) {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return open;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (open) {
+			open = false;
+			inflater.end();
+			channel.close();
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if (!open) {
+			throw new ClosedChannelException();
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package com.JavaCoreTil.io.common.compress;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 임의 접근 가능한 블록 gzip(BGZF 호환) 작성 스트림
+ * <p>
+ * 원본을 최대 65280 바이트 블록으로 잘라 각각 독립된 gzip 멤버로 압축하고, 멤버 헤더의 추가 필드("BC")에
+ * 블록 압축 크기를 기록한다. 파일 끝에는 빈 EOF 블록을 두며, 닫을 때 블록 체크포인트를
+ * 아카이브 옆 ".gzi" 파일로 저장한다. 결과는 표준 gzip 이라 GZIPInputStream, gunzip, bgzip 모두 읽을 수 있고,
+ * SeekableGzipChannel 은 색인을 이용해 원하는 원본 오프셋의 블록 하나만 풀어 읽는다.
+ */
+public class SeekableGzipWriter extends OutputStream {
+
+	// 압축이 안 되는 데이터도 멤버 하나가 64KB 를 넘지 않도록 하는 원본 블록 크기 (BGZF 와 같음)
+	public static final int MAX_BLOCK_INPUT = 0xff00;
+	public static final String INDEX_SUFFIX = ".gzi";
+
+	static final int MAX_BLOCK_SIZE = 64 * 1024;
+	static final int HEADER_SIZE = 18;
+	static final int TRAILER_SIZE = 8;
+
+	// 원본 0바이트 블록 (파일 끝 표시)
+	static final byte[] EOF_BLOCK = {
+		0x1f, (byte)0x8b, 8, 4, 0, 0, 0, 0, 0, (byte)0xff, 6, 0, 'B', 'C', 2, 0, 0x1b, 0, 3, 0, 0, 0, 0, 0, 0, 0, 0, 0
+	};
+
+	private final OutputStream out;
+	private final Path indexFile;
+	private final int level;
+	private final Deflater deflater;
+	private final CRC32 crc = new CRC32();
+	private final BlockIndex index = new BlockIndex();
+
+	private final byte[] block = new byte[MAX_BLOCK_INPUT];
+	private final byte[] member = new byte[MAX_BLOCK_SIZE];
+	private int blockLength;
+
+	private long compressedOffset;
+	private long uncompressedOffset;
+	private boolean closed;
+
+	public SeekableGzipWriter(Path archive) throws IOException {
+		this(archive, Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * @param level Deflater 압축 레벨 (0~9, -1 = 기본값)
+	 */
+	public SeekableGzipWriter(Path archive, int level) throws IOException {
+		this.out = new BufferedOutputStream(Files.newOutputStream(archive), MAX_BLOCK_SIZE);
+		this.indexFile = indexFileFor(archive);
+		this.level = level;
+		this.deflater = new Deflater(level, true);
+	}
+
+	/**
+	 * 파일 전체를 압축
+	 * @return 원본 바이트 수
+	 */
+	public static long compress(Path source, Path archive) throws IOException {
+		try (InputStream in = Files.newInputStream(source);
+			 SeekableGzipWriter writer = new SeekableGzipWriter(archive)) {
+			return in.transferTo(writer);
+		}
+	}
+
+	/**
+	 * 아카이브의 블록 색인 파일 경로 (archive + ".gzi")
+	 */
+	public static Path indexFileFor(Path archive) {
+		return archive.resolveSibling(archive.getFileName() + INDEX_SUFFIX);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		ensureOpen();
+		block[blockLength++] = (byte)b;
+		if (blockLength == block.length) {
+			writeBlock();
+		}
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		ensureOpen();
+		while (length > 0) {
+			int count = Math.min(length, block.length - blockLength);
+			System.arraycopy(bytes, offset, block, blockLength, count);
+			blockLength += count;
+			offset += count;
+			length -= count;
+			if (blockLength == block.length) {
+				writeBlock();
+			}
+		}
+	}
+
+	/**
+	 * 모은 데이터를 블록으로 내보냄 (자주 부르면 블록이 작아져 압축률이 떨어짐)
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		if (blockLength > 0) {
+			writeBlock();
+		}
+		out.flush();
+	}
+
+	/**
+	 * 원본에서 지금까지 쓴 바이트 수 (다음 write 의 원본 오프셋)
+	 */
+	public long getUncompressedOffset() {
+		return uncompressedOffset + blockLength;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			if (blockLength > 0) {
+				writeBlock();
+			}
+			out.write(EOF_BLOCK);
+			out.close();
+			index.save(indexFile);
+		} finally {
+			closed = true;
+			deflater.end();
+		}
+	}
+
+	private void writeBlock() throws IOException {
+		int cdataLimit = MAX_BLOCK_SIZE - HEADER_SIZE - TRAILER_SIZE;
+		int cdataLength = deflate(cdataLimit);
+		if (cdataLength < 0) {
+			// 압축해도 64KB 를 넘으면 저장(무압축) 블록으로
+			deflater.setLevel(Deflater.NO_COMPRESSION);
+			cdataLength = deflate(cdataLimit);
+			deflater.setLevel(level);
+			if (cdataLength < 0) {
+				throw new IOException("블록이 최대 크기를 넘었습니다.");
+			}
+		}
+
+		int blockSize = HEADER_SIZE + cdataLength + TRAILER_SIZE;
+		member[0] = (byte)0x1f;
+		member[1] = (byte)0x8b;
+		member[2] = Deflater.DEFLATED;
+		member[3] = 4; // FEXTRA
+		member[4] = member[5] = member[6] = member[7] = 0; // MTIME
+		member[8] = 0;
+		member[9] = (byte)0xff; // OS: 알 수 없음
+		putShortLE(member, 10, 6); // XLEN
+		member[12] = 'B';
+		member[13] = 'C';
+		putShortLE(member, 14, 2);
+		putShortLE(member, 16, blockSize - 1); // BSIZE
+
+		crc.reset();
+		crc.update(block, 0, blockLength);
+		int trailer = HEADER_SIZE + cdataLength;
+		putIntLE(member, trailer, (int)crc.getValue());
+		putIntLE(member, trailer + 4, blockLength);
+
+		index.add(compressedOffset, uncompressedOffset);
+		out.write(member, 0, blockSize);
+		compressedOffset += blockSize;
+		uncompressedOffset += blockLength;
+		blockLength = 0;
+	}
+
+	/**
+	 * 현재 블록을 member[HEADER_SIZE..] 에 raw deflate
+	 * @return 압축 길이 (limit 안에 다 들어가지 않으면 -1)
+	 */
+	private int deflate(int limit) {
+		deflater.reset();
+		deflater.setInput(block, 0, blockLength);
+		deflater.finish();
+		int length = 0;
+		while (!deflater.finished() && length < limit) {
+			length += deflater.deflate(member, HEADER_SIZE + length, limit - length);
+		}
+		return deflater.finished() ? length : -1;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("이미 닫힌 스트림입니다.");
+		}
+	}
+
+	private static void putShortLE(byte[] buffer, int position, int value) {
+		buffer[position] = (byte)value;
+		buffer[position + 1] = (byte)(value >>> 8);
+	}
+
+	private static void putIntLE(byte[] buffer, int position, int value) {
+		buffer[position] = (byte)value;
+		buffer[position + 1] = (byte)(value >>> 8);
+		buffer[position + 2] = (byte)(value >>> 16);
+		buffer[position + 3] = (byte)(value >>> 24);
+	}
+}
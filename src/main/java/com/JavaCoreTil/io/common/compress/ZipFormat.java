@@ -0,0 +1,68 @@
+package com.JavaCoreTil.io.common.compress;
+
+import java.nio.file.attribute.FileTime;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * ZIP 파일 형식 상수와 도우미 (PKWARE APPNOTE 기준)
+ */
+final class ZipFormat {
+
+	static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	static final int END_SIGNATURE = 0x06054b50;
+	static final int ZIP64_END_SIGNATURE = 0x06064b50;
+	static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+	static final int LOCAL_HEADER_SIZE = 30;
+	static final int CENTRAL_HEADER_SIZE = 46;
+	static final int END_SIZE = 22;
+	static final int ZIP64_END_SIZE = 56;
+	static final int ZIP64_LOCATOR_SIZE = 20;
+	static final int ZIP64_EXTRA_ID = 0x0001;
+
+	static final int METHOD_STORED = 0;
+	static final int METHOD_DEFLATED = 8;
+
+	static final int VERSION_DEFAULT = 20;
+	static final int VERSION_ZIP64 = 45;
+	static final int FLAG_ENCRYPTED = 0x0001;
+	static final int FLAG_UTF8 = 0x0800;
+
+	// 이 값 이상이면 ZIP64 확장 필드로 기록
+	static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+	static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+	private ZipFormat() {
+	}
+
+	/**
+	 * 수정 시각을 MS-DOS 날짜(상위 16비트)/시간(하위 16비트)으로 변환 (1980년 이전은 1980-01-01)
+	 */
+	static int toDosDateTime(FileTime time) {
+		LocalDateTime local = LocalDateTime.ofInstant(time.toInstant(), ZoneId.systemDefault());
+		if (local.getYear() < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		int date = ((local.getYear() - 1980) << 9) | (local.getMonthValue() << 5) | local.getDayOfMonth();
+		int dosTime = (local.getHour() << 11) | (local.getMinute() << 5) | (local.getSecond() >> 1);
+		return (date << 16) | dosTime;
+	}
+
+	/**
+	 * @return 변환한 시각 (날짜 필드가 잘못되었으면 null)
+	 */
+	static FileTime fromDosDateTime(int dateTime) {
+		int date = dateTime >>> 16;
+		int time = dateTime & 0xFFFF;
+		try {
+			LocalDateTime local = LocalDateTime.of(((date >> 9) & 0x7F) + 1980, (date >> 5) & 0x0F, date & 0x1F,
+				(time >> 11) & 0x1F, (time >> 5) & 0x3F, (time & 0x1F) << 1);
+			return FileTime.from(local.atZone(ZoneId.systemDefault()).toInstant());
+		} catch (DateTimeException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,260 @@
+package com.JavaCoreTil.io.common.config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import com.JavaCoreTil.io.common.json.JsonBinder;
+import com.JavaCoreTil.io.common.json.JsonParseException;
+import com.JavaCoreTil.io.common.json.JsonToken;
+import com.JavaCoreTil.io.common.json.JsonTokenizer;
+
+/**
+ * 파일 변경을 감시해 자동으로 다시 읽는 설정 관리자
+ * <p>
+ * .properties 와 .json 파일을 순서대로 읽어 하나의 ConfigSnapshot 으로 합친다(뒤 파일이 앞 파일을 덮어씀).
+ * 스냅샷은 volatile 참조 하나로 공개하므로 current() 는 잠금 없이 읽고, 다시 읽기는 새 스냅샷을 완성한 뒤
+ * 참조만 바꾸어 읽는 쪽이 반쯤 바뀐 설정을 보는 일이 없다.
+ * <p>
+ * 감시 스레드는 WatchService 이벤트를 받은 뒤 debounceMillis 동안 이벤트가 더 없을 때 한 번만 다시 읽는다
+ * (편집기가 저장할 때 여러 번 나오는 이벤트를 묶음). 파싱이나 검증에 실패하면 이전 스냅샷을 유지한다.
+ */
+public class ConfigManager implements AutoCloseable {
+
+	/**
+	 * 새 스냅샷 검증 (IllegalArgumentException 등 런타임 예외를 던지면 적용하지 않음)
+	 */
+	@FunctionalInterface
+	public interface Validator {
+		void validate(ConfigSnapshot snapshot);
+	}
+
+	public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+	private final List<Path> files;
+	private final long debounceMillis;
+	private final Validator validator;
+	private final List<Consumer<ConfigSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+	private volatile ConfigSnapshot current;
+	private volatile String lastError;
+	private final AtomicLong reloadCount = new AtomicLong();
+	private final AtomicLong failedReloadCount = new AtomicLong();
+
+	private WatchService watchService;
+	private Thread watcher;
+
+	public ConfigManager(List<Path> files) {
+		this(files, DEFAULT_DEBOUNCE_MILLIS, snapshot -> {
+		});
+	}
+
+	/**
+	 * @param files 읽을 설정 파일 (.properties 또는 .json, 뒤 파일이 우선)
+	 */
+	public ConfigManager(List<Path> files, long debounceMillis, Validator validator) {
+		if (files.isEmpty()) {
+			throw new IllegalArgumentException("설정 파일이 없습니다.");
+		}
+		this.files = new ArrayList<>();
+		for (Path file : files) {
+			this.files.add(file.toAbsolutePath().normalize());
+		}
+		this.debounceMillis = debounceMillis;
+		this.validator = validator;
+	}
+
+	/**
+	 * 처음 읽고 감시를 시작
+	 * @throws IOException 처음 읽기에 실패하거나 검증을 통과하지 못했을 때
+	 */
+	public synchronized void start() throws IOException {
+		if (watcher != null) {
+			throw new IllegalStateException("이미 시작되었습니다.");
+		}
+		Map<String, String> values = load();
+		ConfigSnapshot snapshot = new ConfigSnapshot(1, System.currentTimeMillis(), values);
+		try {
+			validator.validate(snapshot);
+		} catch (RuntimeException e) {
+			throw new IOException("설정 검증 실패: " + e.getMessage(), e);
+		}
+		current = snapshot;
+
+		// 파일이 아니라 디렉토리를 감시 (편집기가 새 파일로 바꿔치기해도 이벤트를 받음)
+		watchService = FileSystems.getDefault().newWatchService();
+		Map<Path, Set<Path>> watched = new HashMap<>();
+		for (Path file : files) {
+			watched.computeIfAbsent(file.getParent(), dir -> new HashSet<>()).add(file.getFileName());
+		}
+		for (Path directory : watched.keySet()) {
+			directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+				StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+		}
+
+		watcher = new Thread(() -> watchLoop(watched), "config-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	/**
+	 * 현재 설정 (잠금 없음)
+	 */
+	public ConfigSnapshot current() {
+		ConfigSnapshot snapshot = current;
+		if (snapshot == null) {
+			throw new IllegalStateException("start() 를 먼저 호출하세요.");
+		}
+		return snapshot;
+	}
+
+	/**
+	 * 새 스냅샷이 적용될 때마다 감시 스레드에서 호출 (리스너의 예외는 기록만 하고 무시)
+	 */
+	public void addListener(Consumer<ConfigSnapshot> listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * 즉시 다시 읽음
+	 * @return 새 스냅샷을 적용했으면 true (내용이 같거나 실패하면 false)
+	 */
+	public synchronized boolean reload() {
+		ConfigSnapshot previous = current;
+		ConfigSnapshot next;
+		try {
+			Map<String, String> values = load();
+			if (previous != null && previous.sameValues(values)) {
+				return false;
+			}
+			next = new ConfigSnapshot(previous == null ? 1 : previous.getVersion() + 1, System.currentTimeMillis(),
+				values);
+			validator.validate(next);
+		} catch (IOException | RuntimeException e) {
+			// 검증기의 예상 못한 예외(NPE 등)도 실패한 다시 읽기로 처리해 감시 스레드가 죽지 않게 함
+			failedReloadCount.incrementAndGet();
+			lastError = e.getMessage() != null ? e.getMessage() : e.toString();
+			return false;
+		}
+
+		current = next;
+		reloadCount.incrementAndGet();
+		for (Consumer<ConfigSnapshot> listener : listeners) {
+			// 리스너 하나가 실패해도 나머지 리스너와 감시 스레드는 계속
+			try {
+				listener.accept(next);
+			} catch (RuntimeException e) {
+				System.err.println("설정 리스너 실패 (버전 " + next.getVersion() + "): " + e);
+			}
+		}
+		return true;
+	}
+
+	public long getReloadCount() {
+		return reloadCount.get();
+	}
+
+	public long getFailedReloadCount() {
+		return failedReloadCount.get();
+	}
+
+	/**
+	 * 마지막으로 실패한 다시 읽기의 오류 메시지 (없으면 null)
+	 */
+	public String getLastError() {
+		return lastError;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (watchService != null) {
+			watchService.close();
+		}
+		if (watcher != null) {
+			watcher.interrupt();
+		}
+	}
+
+	private void watchLoop(Map<Path, Set<Path>> watched) {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				boolean relevant = drain(key, watched);
+
+				// 조용해질 때까지 이벤트를 모음
+				while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+					relevant |= drain(key, watched);
+				}
+				if (relevant) {
+					try {
+						reload();
+					} catch (RuntimeException e) {
+						System.err.println("설정 다시 읽기 실패: " + e);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			// close() 로 종료
+		}
+	}
+
+	private static boolean drain(WatchKey key, Map<Path, Set<Path>> watched) {
+		Set<Path> names = watched.getOrDefault((Path)key.watchable(), Collections.emptySet());
+		boolean relevant = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			// OVERFLOW 는 이벤트를 잃었다는 뜻이므로 다시 읽음
+			relevant |= event.kind() == StandardWatchEventKinds.OVERFLOW || names.contains((Path)event.context());
+		}
+		key.reset();
+		return relevant;
+	}
+
+	private Map<String, String> load() throws IOException {
+		Map<String, String> values = new LinkedHashMap<>();
+		for (Path file : files) {
+			String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+			if (name.endsWith(".json")) {
+				JsonTokenizer tokenizer = new JsonTokenizer(ByteBuffer.wrap(Files.readAllBytes(file)));
+				if (!JsonBinder.flatten(tokenizer, values)) {
+					throw new JsonParseException("JSON 이 비어 있습니다", 0);
+				}
+				if (tokenizer.next() != JsonToken.END_DOCUMENT) {
+					throw new JsonParseException("객체 뒤에 불필요한 내용이 있습니다", tokenizer.getPosition());
+				}
+			} else {
+				Properties properties = new Properties();
+				try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+					properties.load(reader);
+				}
+				for (String key : properties.stringPropertyNames()) {
+					values.put(key, properties.getProperty(key));
+				}
+			}
+		}
+		return values;
+	}
+}
@@ -0,0 +1,156 @@
+package com.JavaCoreTil.io.common.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 시점의 설정 값 (불변)
+ * <p>
+ * 키는 점으로 연결한 평면 키("database.poolSize")이다. 값은 만들 때 한 번만 숫자/불리언으로 해석해 두므로
+ * getInt, getBoolean 같은 조회는 해시 조회 한 번으로 끝나며 파싱이나 박싱 같은 할당이 없다.
+ * 여러 스레드가 잠금 없이 동시에 읽어도 된다.
+ */
+public final class ConfigSnapshot {
+
+	private final long version;
+	private final long loadedMillis;
+	private final Map<String, Value> values;
+
+	ConfigSnapshot(long version, long loadedMillis, Map<String, String> rawValues) {
+		this.version = version;
+		this.loadedMillis = loadedMillis;
+		Map<String, Value> parsed = new HashMap<>(rawValues.size() * 2);
+		rawValues.forEach((key, text) -> parsed.put(key, new Value(text)));
+		this.values = Collections.unmodifiableMap(parsed);
+	}
+
+	/**
+	 * 설정이 바뀌어 다시 만들어질 때마다 1씩 증가
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	public long getLoadedMillis() {
+		return loadedMillis;
+	}
+
+	public boolean contains(String key) {
+		return values.containsKey(key);
+	}
+
+	public Set<String> keys() {
+		return values.keySet();
+	}
+
+	public int size() {
+		return values.size();
+	}
+
+	public String getString(String key, String defaultValue) {
+		Value value = values.get(key);
+		return value == null ? defaultValue : value.text;
+	}
+
+	/**
+	 * @return 값이 없거나 int 로 해석할 수 없으면 defaultValue
+	 */
+	public int getInt(String key, int defaultValue) {
+		Value value = values.get(key);
+		return value == null || !value.isLong || value.longValue != (int)value.longValue ? defaultValue
+			: (int)value.longValue;
+	}
+
+	public long getLong(String key, long defaultValue) {
+		Value value = values.get(key);
+		return value == null || !value.isLong ? defaultValue : value.longValue;
+	}
+
+	public double getDouble(String key, double defaultValue) {
+		Value value = values.get(key);
+		return value == null || !value.isDouble ? defaultValue : value.doubleValue;
+	}
+
+	/**
+	 * "true"/"false" (대소문자 무시) 만 불리언으로 해석
+	 */
+	public boolean getBoolean(String key, boolean defaultValue) {
+		Value value = values.get(key);
+		return value == null || value.booleanValue < 0 ? defaultValue : value.booleanValue == 1;
+	}
+
+	/**
+	 * 같은 키와 값인지 (버전과 시각은 비교하지 않음)
+	 */
+	boolean sameValues(Map<String, String> rawValues) {
+		if (rawValues.size() != values.size()) {
+			return false;
+		}
+		for (Map.Entry<String, String> entry : rawValues.entrySet()) {
+			Value value = values.get(entry.getKey());
+			if (value == null || !value.text.equals(entry.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "ConfigSnapshot{version=" + version + ", keys=" + values.size() + "}";
+	}
+
+	/**
+	 * 문자열과 미리 해석한 숫자/불리언 값
+	 */
+	private static final class Value {
+		final String text;
+		final boolean isLong;
+		final long longValue;
+		final boolean isDouble;
+		final double doubleValue;
+		final int booleanValue; // -1: 불리언 아님, 0: false, 1: true
+
+		Value(String text) {
+			this.text = text;
+			String trimmed = text.trim();
+
+			long parsedLong = 0;
+			boolean longOk;
+			try {
+				parsedLong = Long.parseLong(trimmed);
+				longOk = true;
+			} catch (NumberFormatException e) {
+				longOk = false;
+			}
+			this.isLong = longOk;
+			this.longValue = parsedLong;
+
+			double parsedDouble = 0;
+			boolean doubleOk;
+			try {
+				parsedDouble = Double.parseDouble(trimmed);
+				doubleOk = !trimmed.isEmpty() && Character.isDigit(trimmed.charAt(trimmed.length() - 1));
+			} catch (NumberFormatException e) {
+				doubleOk = false;
+			}
+			this.isDouble = doubleOk;
+			this.doubleValue = parsedDouble;
+
+			switch (trimmed.toLowerCase(Locale.ROOT)) {
+				case "true":
+					this.booleanValue = 1;
+					break;
+				case "false":
+					this.booleanValue = 0;
+					break;
+				default:
+					this.booleanValue = -1;
+					break;
+			}
+		}
+	}
+}
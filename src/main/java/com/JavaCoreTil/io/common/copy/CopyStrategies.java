@@ -0,0 +1,136 @@
+package com.JavaCoreTil.io.common.copy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import com.JavaCoreTil.io.common.buffer.BufferSizeTuner;
+
+/**
+ * 파일 복사 전략 모음
+ * <p>
+ * Stage10 예제와 JMH 벤치마크(src/jmh)가 같은 구현을 측정하도록 한 곳에 모아 둔다.
+ * 버퍼 크기를 지정하지 않으면 BufferSizeTuner.probe() 로 파일 시스템별로 측정해 둔 값을 사용한다
+ * (측정하지 않았으면 BufferSizeTuner.FALLBACK_BUFFER_SIZE).
+ */
+public final class CopyStrategies {
+
+	private CopyStrategies() {
+	}
+
+	/**
+	 * FileInputStream/FileOutputStream + byte[] 루프
+	 */
+	public static long copyWithTraditionalIO(String source, String target) throws IOException {
+		return copyWithTraditionalIO(source, target, BufferSizeTuner.shared().bufferSizeFor(Paths.get(source)));
+	}
+
+	public static long copyWithTraditionalIO(String source, String target, int bufferSize) throws IOException {
+		try (FileInputStream fis = new FileInputStream(source);
+			 FileOutputStream fos = new FileOutputStream(target)) {
+
+			byte[] buffer = new byte[bufferSize];
+			int bytesRead;
+			long totalBytes = 0;
+
+			while ((bytesRead = fis.read(buffer)) != -1) {
+				fos.write(buffer, 0, bytesRead);
+				totalBytes += bytesRead;
+			}
+
+			return totalBytes;
+		}
+	}
+
+	/**
+	 * BufferedInputStream/BufferedOutputStream + byte[] 루프
+	 */
+	public static long copyWithBufferedIO(String source, String target) throws IOException {
+		return copyWithBufferedIO(source, target, BufferSizeTuner.shared().bufferSizeFor(Paths.get(source)));
+	}
+
+	public static long copyWithBufferedIO(String source, String target, int bufferSize) throws IOException {
+		try (BufferedInputStream bis = new BufferedInputStream(new FileInputStream(source), bufferSize);
+			 BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(target), bufferSize)) {
+
+			byte[] buffer = new byte[bufferSize];
+			int bytesRead;
+			long totalBytes = 0;
+
+			while ((bytesRead = bis.read(buffer)) != -1) {
+				bos.write(buffer, 0, bytesRead);
+				totalBytes += bytesRead;
+			}
+
+			return totalBytes;
+		}
+	}
+
+	/**
+	 * FileChannel 간 transferTo
+	 */
+	public static long copyWithNIOChannel(String source, String target) throws IOException {
+		try (FileChannel sourceChannel = new FileInputStream(source).getChannel();
+			 FileChannel targetChannel = new FileOutputStream(target).getChannel()) {
+
+			return transferFully(sourceChannel, targetChannel);
+		}
+	}
+
+	/**
+	 * 원본은 READ_ONLY, 대상은 READ_WRITE 로 맵핑한 뒤 메모리 간 복사
+	 * (READ_WRITE 맵핑에는 읽기/쓰기가 모두 가능한 채널이 필요하므로 FileOutputStream 채널은 사용할 수 없음)
+	 */
+	public static long copyWithMemoryMapping(String source, String target) throws IOException {
+		try (FileChannel sourceChannel = FileChannel.open(Paths.get(source), StandardOpenOption.READ);
+			 FileChannel targetChannel = FileChannel.open(Paths.get(target), StandardOpenOption.CREATE,
+				 StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			long size = sourceChannel.size();
+			long position = 0;
+
+			// 한 번에 맵핑할 수 있는 크기가 2GB 미만이므로 구간별로 복사
+			while (position < size) {
+				long length = Math.min(Integer.MAX_VALUE, size - position);
+				MappedByteBuffer sourceBuffer = sourceChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+				MappedByteBuffer targetBuffer = targetChannel.map(FileChannel.MapMode.READ_WRITE, position, length);
+
+				targetBuffer.put(sourceBuffer);
+				targetBuffer.force();
+				position += length;
+			}
+
+			return size;
+		}
+	}
+
+	/**
+	 * transferTo 기반 Zero-Copy (커널의 sendfile/copy_file_range 사용)
+	 */
+	public static long copyWithZeroCopy(String source, String target) throws IOException {
+		try (FileChannel sourceChannel = FileChannel.open(Paths.get(source), StandardOpenOption.READ);
+			 FileChannel targetChannel = FileChannel.open(Paths.get(target), StandardOpenOption.CREATE,
+				 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			return transferFully(sourceChannel, targetChannel);
+		}
+	}
+
+	/**
+	 * transferTo 는 요청보다 적게 전송할 수 있으므로 끝까지 반복
+	 */
+	private static long transferFully(FileChannel source, FileChannel target) throws IOException {
+		long size = source.size();
+		long position = 0;
+		while (position < size) {
+			position += source.transferTo(position, size - position, target);
+		}
+		return size;
+	}
+}
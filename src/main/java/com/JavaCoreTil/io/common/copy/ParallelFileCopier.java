@@ -0,0 +1,342 @@
+package com.JavaCoreTil.io.common.copy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.JavaCoreTil.io.common.buffer.DirectBufferPool;
+import com.JavaCoreTil.io.common.buffer.PooledBuffer;
+
+/**
+ * AsynchronousFileChannel 기반 병렬 청크 파일 복사기
+ * <p>
+ * 파일을 chunkSize 단위로 나누어 최대 queueDepth 개의 위치 지정(positional) 읽기/쓰기를
+ * 동시에 진행한다. 버퍼는 DirectBufferPool 에서 queueDepth 개만 빌려 돌려 쓰므로 메모리 사용량이 고정된다.
+ * <p>
+ * 리눅스의 AsynchronousFileChannel은 내부적으로 스레드 풀에서 pread/pwrite를 수행하므로,
+ * 채널을 queueDepth 크기의 전용 풀로 열어야 실제 큐 깊이가 queueDepth가 된다.
+ */
+public class ParallelFileCopier {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024; // 1MB
+	public static final int DEFAULT_QUEUE_DEPTH = 8;
+
+	private final int chunkSize;
+	private final int queueDepth;
+	private final boolean verify;
+
+	public ParallelFileCopier() {
+		this(DEFAULT_CHUNK_SIZE, DEFAULT_QUEUE_DEPTH, true);
+	}
+
+	/**
+	 * @param chunkSize 한 번의 읽기/쓰기 단위 (바이트)
+	 * @param queueDepth 동시에 진행 중인 청크(= 버퍼) 최대 개수
+	 * @param verify 복사 후 원본과 대상을 청크 단위로 비교할지 여부
+	 */
+	public ParallelFileCopier(int chunkSize, int queueDepth, boolean verify) {
+		if (chunkSize <= 0 || queueDepth <= 0) {
+			throw new IllegalArgumentException("chunkSize와 queueDepth는 0보다 커야 합니다.");
+		}
+		this.chunkSize = chunkSize;
+		this.queueDepth = queueDepth;
+		this.verify = verify;
+	}
+
+	/**
+	 * 파일 복사 (대상 파일이 있으면 덮어씀)
+	 * @return 복사 결과 (바이트 수, 청크 수, 소요 시간, 검증 여부)
+	 */
+	public CopyResult copy(Path source, Path target) throws IOException {
+		ExecutorService ioPool = Executors.newFixedThreadPool(queueDepth);
+		long startTime = System.nanoTime();
+
+		try {
+			long size;
+			long chunks;
+
+			try (AsynchronousFileChannel in = AsynchronousFileChannel.open(source,
+					EnumSet.of(StandardOpenOption.READ), ioPool);
+				 AsynchronousFileChannel out = AsynchronousFileChannel.open(target,
+					 EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						 StandardOpenOption.TRUNCATE_EXISTING), ioPool)) {
+
+				size = in.size();
+				chunks = (size + chunkSize - 1) / chunkSize;
+				copyChunks(in, out, size, chunks);
+				out.force(false);
+			}
+
+			boolean verified = false;
+			if (verify) {
+				verifyCopy(source, target, ioPool);
+				verified = true;
+			}
+
+			return new CopyResult(size, chunks, System.nanoTime() - startTime, verified);
+
+		} finally {
+			ioPool.shutdown();
+		}
+	}
+
+	/**
+	 * 버퍼 풀에서 버퍼를 얻을 때까지 대기하며 청크 읽기를 발행
+	 * (풀 크기 = 동시에 진행 중인 청크 수 상한)
+	 */
+	private void copyChunks(AsynchronousFileChannel in, AsynchronousFileChannel out,
+		long size, long chunks) throws IOException {
+
+		BlockingQueue<ByteBuffer> bufferPool = new ArrayBlockingQueue<>(queueDepth);
+		List<PooledBuffer> leased = new ArrayList<>(queueDepth);
+		for (int i = 0; i < queueDepth; i++) {
+			PooledBuffer pooled = DirectBufferPool.shared().acquire(chunkSize);
+			leased.add(pooled);
+			bufferPool.add(pooled.buffer());
+		}
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		InterruptedException interruption = null;
+
+		try {
+			for (long chunk = 0; chunk < chunks; chunk++) {
+				ByteBuffer buffer = bufferPool.take();
+				if (failure.get() != null) {
+					bufferPool.add(buffer);
+					break;
+				}
+
+				long position = chunk * chunkSize;
+				int length = (int)Math.min(chunkSize, size - position);
+				buffer.clear().limit(length);
+
+				new ChunkTransfer(in, out, buffer, position, bufferPool, failure).read();
+			}
+		} catch (InterruptedException e) {
+			// 새 청크만 멈추고, 이미 발행한 청크는 아래에서 끝날 때까지 기다림
+			interruption = e;
+		}
+
+		// 모든 버퍼가 풀로 돌아오면 진행 중인 청크가 없다는 뜻
+		// (중단되었어도 진행 중인 비동기 I/O 가 버퍼를 쓰고 있으므로 기다린 뒤에 반환)
+		for (int returned = 0; returned < queueDepth; ) {
+			try {
+				bufferPool.take();
+				returned++;
+			} catch (InterruptedException e) {
+				interruption = e;
+			}
+		}
+
+		// 진행 중인 청크가 없을 때만 버퍼를 공용 풀로 반환
+		leased.forEach(PooledBuffer::close);
+
+		if (interruption != null) {
+			Thread.currentThread().interrupt();
+			throw new IOException("복사가 중단되었습니다.", interruption);
+		}
+
+		Throwable cause = failure.get();
+		if (cause != null) {
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		}
+	}
+
+	/**
+	 * 청크 단위로 원본과 대상 내용을 병렬 비교
+	 */
+	private void verifyCopy(Path source, Path target, ExecutorService pool) throws IOException {
+		try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+			 FileChannel out = FileChannel.open(target, StandardOpenOption.READ)) {
+
+			long size = in.size();
+			if (size != out.size()) {
+				throw new IOException("검증 실패: 파일 크기 불일치 (" + size + " != " + out.size() + ")");
+			}
+
+			long chunks = (size + chunkSize - 1) / chunkSize;
+			List<Future<Long>> futures = new ArrayList<>();
+
+			// 워커마다 버퍼 두 개만 사용하도록 청크를 줄무늬(stride) 방식으로 분배
+			for (int worker = 0; worker < queueDepth; worker++) {
+				long firstChunk = worker;
+				futures.add(pool.submit(() -> {
+					// ioPool 스레드는 복사가 끝나면 사라지므로 반환한 버퍼를 스레드 캐시에 남기지 않음
+					try (PooledBuffer expectedBuffer = DirectBufferPool.shared().acquire(chunkSize);
+						 PooledBuffer actualBuffer = DirectBufferPool.shared().acquire(chunkSize)) {
+						ByteBuffer expected = expectedBuffer.buffer();
+						ByteBuffer actual = actualBuffer.buffer();
+
+						for (long chunk = firstChunk; chunk < chunks; chunk += queueDepth) {
+							long position = chunk * chunkSize;
+							int length = (int)Math.min(chunkSize, size - position);
+
+							readFully(in, expected, position, length);
+							readFully(out, actual, position, length);
+
+							int mismatch = expected.mismatch(actual);
+							if (mismatch >= 0) {
+								return position + mismatch;
+							}
+						}
+						return -1L;
+					} finally {
+						DirectBufferPool.shared().trimThreadCache();
+					}
+				}));
+			}
+
+			for (Future<Long> future : futures) {
+				long mismatchAt = future.get();
+				if (mismatchAt >= 0) {
+					throw new IOException("검증 실패: 오프셋 " + mismatchAt + "에서 내용 불일치");
+				}
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("검증이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		}
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position, int length)
+		throws IOException {
+		buffer.clear().limit(length);
+		while (buffer.hasRemaining()) {
+			int n = channel.read(buffer, position + buffer.position());
+			if (n < 0) {
+				throw new IOException("예상보다 빨리 파일 끝에 도달: " + (position + buffer.position()));
+			}
+		}
+		buffer.flip();
+	}
+
+	/**
+	 * 하나의 청크에 대한 비동기 읽기 → 쓰기 체인
+	 * 부분 읽기/부분 쓰기가 발생하면 남은 구간에 대해 다시 요청한다.
+	 */
+	private static final class ChunkTransfer {
+		private final AsynchronousFileChannel in;
+		private final AsynchronousFileChannel out;
+		private final ByteBuffer buffer;
+		private final long position;
+		private final BlockingQueue<ByteBuffer> bufferPool;
+		private final AtomicReference<Throwable> failure;
+
+		ChunkTransfer(AsynchronousFileChannel in, AsynchronousFileChannel out, ByteBuffer buffer,
+			long position, BlockingQueue<ByteBuffer> bufferPool, AtomicReference<Throwable> failure) {
+			this.in = in;
+			this.out = out;
+			this.buffer = buffer;
+			this.position = position;
+			this.bufferPool = bufferPool;
+			this.failure = failure;
+		}
+
+		void read() {
+			in.read(buffer, position + buffer.position(), null, new CompletionHandler<Integer, Void>() {
+				@Override
+				public void completed(Integer bytesRead, Void attachment) {
+					if (bytesRead < 0) {
+						fail(new IOException("읽는 도중 파일이 잘렸습니다: " + position));
+					} else if (buffer.hasRemaining()) {
+						read();
+					} else {
+						buffer.flip();
+						write();
+					}
+				}
+
+				@Override
+				public void failed(Throwable exc, Void attachment) {
+					fail(exc);
+				}
+			});
+		}
+
+		void write() {
+			out.write(buffer, position + buffer.position(), null, new CompletionHandler<Integer, Void>() {
+				@Override
+				public void completed(Integer bytesWritten, Void attachment) {
+					if (buffer.hasRemaining()) {
+						write();
+					} else {
+						release();
+					}
+				}
+
+				@Override
+				public void failed(Throwable exc, Void attachment) {
+					fail(exc);
+				}
+			});
+		}
+
+		private void fail(Throwable exc) {
+			failure.compareAndSet(null, exc);
+			release();
+		}
+
+		private void release() {
+			bufferPool.add(buffer);
+		}
+	}
+
+	/**
+	 * 복사 결과
+	 */
+	public static class CopyResult {
+		private final long bytes;
+		private final long chunks;
+		private final long elapsedNanos;
+		private final boolean verified;
+
+		public CopyResult(long bytes, long chunks, long elapsedNanos, boolean verified) {
+			this.bytes = bytes;
+			this.chunks = chunks;
+			this.elapsedNanos = elapsedNanos;
+			this.verified = verified;
+		}
+
+		public long getBytes() {
+			return bytes;
+		}
+
+		public long getChunks() {
+			return chunks;
+		}
+
+		public long getElapsedNanos() {
+			return elapsedNanos;
+		}
+
+		public boolean isVerified() {
+			return verified;
+		}
+
+		/**
+		 * 처리량 (MB/s)
+		 */
+		public double getThroughputMBps() {
+			double seconds = elapsedNanos / 1_000_000_000.0;
+			return seconds == 0 ? 0 : (bytes / 1024.0 / 1024.0) / seconds;
+		}
+	}
+}
@@ -0,0 +1,469 @@
+package com.JavaCoreTil.io.common.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 바이트 버퍼 기반 CSV 커서 리더
+ * <p>
+ * 파일을 메모리 맵핑하고 레코드마다 각 필드의 바이트 범위(시작/끝)만 기록한다.
+ * getInt()/getLong()/getDouble() 은 그 범위에서 바로 숫자를 파싱하므로 split() 배열, 부분 문자열,
+ * Optional 같은 행당 할당이 없다. 문자열이 꼭 필요한 열만 getString() 으로 디코딩한다.
+ * <p>
+ * RFC 4180 따옴표 필드를 지원한다 (쉼표/줄바꿈을 포함한 필드, "" 로 이스케이프된 따옴표).
+ * <pre>
+ * try (CsvReader reader = CsvReader.open(path)) {
+ *     reader.next(); // 헤더 건너뛰기
+ *     while (reader.next()) {
+ *         int quantity = reader.getInt(2);
+ *         double amount = reader.getDouble(4);
+ *     }
+ * }
+ * </pre>
+ * 하나의 리더는 하나의 스레드에서만 사용해야 한다.
+ */
+public class CsvReader implements AutoCloseable {
+
+	// 순회 시 한 번에 맵핑하는 창 크기
+	private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+
+	// 10^0 ~ 10^22 는 double 로 정확히 표현됨
+	private static final double[] POWERS_OF_TEN = new double[23];
+
+	// 이 값 이하의 정수 가수는 double 로 정확히 표현됨 (2^53)
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	static {
+		POWERS_OF_TEN[0] = 1.0;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private final FileChannel channel; // null 이면 메모리 버퍼 모드
+	private final long end;
+	private final byte delimiter;
+
+	private ByteBuffer window;
+	private long windowStart;
+	private long position; // 다음 레코드의 시작 오프셋
+	private long recordNumber;
+
+	// 현재 레코드의 필드 범위 (창 기준 상대 오프셋)
+	private int fieldCount;
+	private int[] fieldStart = new int[16];
+	private int[] fieldEnd = new int[16];
+	private boolean[] fieldEscaped = new boolean[16]; // 필드 안에 "" 가 있는지
+
+	/**
+	 * 파일을 쉼표 구분 CSV 로 열기
+	 */
+	public static CsvReader open(Path file) throws IOException {
+		return open(file, (byte)',');
+	}
+
+	/**
+	 * 파일을 지정한 구분자로 열기 (예: '\t', ';')
+	 */
+	public static CsvReader open(Path file, byte delimiter) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new CsvReader(channel, 0, channel.size(), delimiter);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 파일의 [start, end) 바이트 범위만 읽기 (병렬 처리용)
+	 * <p>
+	 * start 는 레코드 시작(파일 처음 또는 '\n' 바로 뒤)이어야 하며, 마지막 레코드는 end 를 넘어서
+	 * 끝나지 않는다고 가정한다. 따옴표 필드 안에 줄바꿈이 있는 파일은 범위를 나누지 말고 open() 으로 읽어야 한다.
+	 */
+	public static CsvReader open(Path file, byte delimiter, long start, long end) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			if (start < 0 || start > end || end > channel.size()) {
+				throw new IllegalArgumentException("잘못된 범위: [" + start + ", " + end + ")");
+			}
+			return new CsvReader(channel, start, end, delimiter);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 메모리에 있는 CSV 데이터 읽기 (buffer 의 position ~ limit 범위)
+	 */
+	public CsvReader(ByteBuffer buffer, byte delimiter) {
+		this.channel = null;
+		this.window = buffer.slice();
+		this.windowStart = 0;
+		this.end = window.limit();
+		this.delimiter = delimiter;
+		skipByteOrderMark();
+	}
+
+	private CsvReader(FileChannel channel, long start, long end, byte delimiter) throws IOException {
+		this.channel = channel;
+		this.position = start;
+		this.end = end;
+		this.delimiter = delimiter;
+		if (start < end) {
+			mapWindow(WINDOW_SIZE);
+		}
+		if (start == 0) {
+			skipByteOrderMark();
+		}
+	}
+
+	/**
+	 * 다음 레코드로 이동
+	 * @return 레코드가 있으면 true, 파일 끝이면 false
+	 */
+	public boolean next() throws IOException {
+		if (position >= end) {
+			fieldCount = 0;
+			return false;
+		}
+
+		int windowSize = WINDOW_SIZE;
+		while (true) {
+			if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+				mapWindow(windowSize);
+			}
+
+			int recordEnd = scanRecord((int)(position - windowStart));
+			if (recordEnd >= 0) {
+				position = windowStart + recordEnd;
+				recordNumber++;
+				return true;
+			}
+
+			// 창 끝에 걸친 레코드면 레코드 시작부터 더 큰 창으로 다시 맵핑
+			if (windowSize == MAX_WINDOW_SIZE) {
+				throw new IOException("레코드가 너무 큽니다 (레코드 " + (recordNumber + 1) + ")");
+			}
+			window = null;
+			windowSize = (int)Math.min(MAX_WINDOW_SIZE, (long)windowSize * 2);
+		}
+	}
+
+	/**
+	 * 현재 레코드 번호 (1부터, 헤더 포함)
+	 */
+	public long recordNumber() {
+		return recordNumber;
+	}
+
+	/**
+	 * 현재 레코드의 필드 수
+	 */
+	public int fieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * 필드의 바이트 길이 (따옴표 제외, 이스케이프 해제 전)
+	 */
+	public int byteLength(int column) {
+		checkColumn(column);
+		return fieldEnd[column] - fieldStart[column];
+	}
+
+	/**
+	 * 필드의 i 번째 바이트
+	 */
+	public byte byteAt(int column, int index) {
+		checkColumn(column);
+		return window.get(fieldStart[column] + index);
+	}
+
+	public boolean isEmpty(int column) {
+		return byteLength(column) == 0;
+	}
+
+	/**
+	 * 필드가 주어진 UTF-8 바이트와 같은지 (디코딩 없이 비교)
+	 */
+	public boolean fieldEquals(int column, byte[] utf8) {
+		checkColumn(column);
+		if (fieldEscaped[column]) {
+			return getString(column).equals(new String(utf8, StandardCharsets.UTF_8));
+		}
+		int start = fieldStart[column];
+		if (fieldEnd[column] - start != utf8.length) {
+			return false;
+		}
+		for (int i = 0; i < utf8.length; i++) {
+			if (window.get(start + i) != utf8[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 필드를 문자열로 디코딩 (이 메서드만 할당이 발생)
+	 */
+	public String getString(int column) {
+		checkColumn(column);
+		int start = fieldStart[column];
+		byte[] bytes = new byte[fieldEnd[column] - start];
+		window.get(start, bytes);
+
+		if (!fieldEscaped[column]) {
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		// "" -> "
+		int length = 0;
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[length++] = bytes[i];
+			if (bytes[i] == '"' && i + 1 < bytes.length && bytes[i + 1] == '"') {
+				i++;
+			}
+		}
+		return new String(bytes, 0, length, StandardCharsets.UTF_8);
+	}
+
+	public int getInt(int column) {
+		long value = getLong(column);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw numberFormatError(column);
+		}
+		return (int)value;
+	}
+
+	/**
+	 * 바이트 범위에서 직접 정수 파싱 (Long.parseLong 과 같은 형식: 선택적 부호 + 숫자)
+	 */
+	public long getLong(int column) {
+		checkColumn(column);
+		int p = fieldStart[column];
+		int limit = fieldEnd[column];
+		if (p == limit) {
+			throw numberFormatError(column);
+		}
+
+		boolean negative = false;
+		byte first = window.get(p);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			if (++p == limit) {
+				throw numberFormatError(column);
+			}
+		}
+
+		// Long.parseLong 처럼 음수로 누적해 MIN_VALUE 까지 표현
+		long minimum = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long result = 0;
+		while (p < limit) {
+			int digit = window.get(p++) - '0';
+			if (digit < 0 || digit > 9 || result < Long.MIN_VALUE / 10) {
+				throw numberFormatError(column);
+			}
+			result *= 10;
+			if (result < minimum + digit) {
+				throw numberFormatError(column);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * 바이트 범위에서 직접 실수 파싱
+	 * <p>
+	 * 가수가 2^53 이하이고 10의 지수가 ±22 이내인 일반적인 십진수(예: 1200000, -3.25, 1.5e3)는
+	 * 정수 가수와 10의 거듭제곱 한 번의 곱/나눗셈으로 정확히 계산한다 (올바르게 반올림됨).
+	 * 그 밖의 형식(NaN, 공백, 17자리 이상 등)만 Double.parseDouble 로 넘긴다.
+	 */
+	public double getDouble(int column) {
+		checkColumn(column);
+		int p = fieldStart[column];
+		int limit = fieldEnd[column];
+
+		boolean negative = false;
+		if (p < limit && (window.get(p) == '-' || window.get(p) == '+')) {
+			negative = window.get(p) == '-';
+			p++;
+		}
+
+		long mantissa = 0;
+		int exponent = 0;
+		int digits = 0;
+		boolean seenDot = false;
+		for (; p < limit; p++) {
+			byte b = window.get(p);
+			if (b >= '0' && b <= '9') {
+				mantissa = mantissa * 10 + (b - '0');
+				digits++;
+				if (seenDot) {
+					exponent--;
+				}
+				if (mantissa > MAX_EXACT_MANTISSA) {
+					return parseDoubleSlow(column);
+				}
+			} else if (b == '.' && !seenDot) {
+				seenDot = true;
+			} else {
+				break;
+			}
+		}
+		if (digits == 0) {
+			return parseDoubleSlow(column);
+		}
+
+		if (p < limit && (window.get(p) == 'e' || window.get(p) == 'E')) {
+			p++;
+			boolean negativeExponent = false;
+			if (p < limit && (window.get(p) == '-' || window.get(p) == '+')) {
+				negativeExponent = window.get(p) == '-';
+				p++;
+			}
+			int explicitExponent = 0;
+			int exponentDigits = 0;
+			for (; p < limit && exponentDigits < 4; p++, exponentDigits++) {
+				int digit = window.get(p) - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				explicitExponent = explicitExponent * 10 + digit;
+			}
+			if (exponentDigits == 0) {
+				return parseDoubleSlow(column);
+			}
+			exponent += negativeExponent ? -explicitExponent : explicitExponent;
+		}
+
+		if (p != limit || exponent < -22 || exponent > 22) {
+			return parseDoubleSlow(column);
+		}
+
+		double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+		return negative ? -value : value;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		if (channel != null) {
+			channel.close();
+		}
+	}
+
+	/**
+	 * offset 에서 시작하는 레코드의 필드 범위를 기록
+	 * @return 다음 레코드의 시작 오프셋, 레코드가 창 끝에서 잘렸으면 -1
+	 */
+	private int scanRecord(int offset) throws IOException {
+		ByteBuffer buffer = window;
+		int limit = buffer.limit();
+		boolean lastWindow = windowStart + limit >= end;
+
+		fieldCount = 0;
+		int p = offset;
+		while (true) {
+			if (p < limit && buffer.get(p) == '"') {
+				// 따옴표 필드: 닫는 따옴표까지 (구분자, 줄바꿈 포함)
+				int start = ++p;
+				boolean escaped = false;
+				while (true) {
+					if (p >= limit) {
+						if (lastWindow) {
+							throw new IOException("닫히지 않은 따옴표 필드 (레코드 " + (recordNumber + 1) + ")");
+						}
+						return -1;
+					}
+					if (buffer.get(p) == '"') {
+						if (p + 1 >= limit && !lastWindow) {
+							return -1;
+						}
+						if (p + 1 < limit && buffer.get(p + 1) == '"') {
+							escaped = true;
+							p += 2;
+							continue;
+						}
+						break;
+					}
+					p++;
+				}
+				addField(start, p, escaped);
+				p++;
+
+				// 닫는 따옴표 뒤의 나머지 바이트(\r 등)는 무시
+				while (p < limit && buffer.get(p) != delimiter && buffer.get(p) != '\n') {
+					p++;
+				}
+			} else {
+				int start = p;
+				byte b;
+				while (p < limit && (b = buffer.get(p)) != delimiter && b != '\n') {
+					p++;
+				}
+				int fieldLimit = p;
+				if (fieldLimit > start && buffer.get(fieldLimit - 1) == '\r' && (p == limit || buffer.get(p) == '\n')) {
+					fieldLimit--;
+				}
+				addField(start, fieldLimit, false);
+			}
+
+			if (p >= limit) {
+				return lastWindow ? limit : -1;
+			}
+			if (buffer.get(p) == '\n') {
+				return p + 1;
+			}
+			p++; // 구분자
+		}
+	}
+
+	private void addField(int start, int limit, boolean escaped) {
+		if (fieldCount == fieldStart.length) {
+			int capacity = fieldCount * 2;
+			fieldStart = Arrays.copyOf(fieldStart, capacity);
+			fieldEnd = Arrays.copyOf(fieldEnd, capacity);
+			fieldEscaped = Arrays.copyOf(fieldEscaped, capacity);
+		}
+		fieldStart[fieldCount] = start;
+		fieldEnd[fieldCount] = limit;
+		fieldEscaped[fieldCount] = escaped;
+		fieldCount++;
+	}
+
+	private void mapWindow(int windowSize) throws IOException {
+		long length = Math.min(end - position, windowSize);
+		window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+		windowStart = position;
+	}
+
+	private void skipByteOrderMark() {
+		if (end >= 3 && window.get(0) == (byte)0xEF && window.get(1) == (byte)0xBB && window.get(2) == (byte)0xBF) {
+			position = 3;
+		}
+	}
+
+	private void checkColumn(int column) {
+		if (column < 0 || column >= fieldCount) {
+			throw new IndexOutOfBoundsException("열 " + column + " (필드 수 " + fieldCount + ", 레코드 " + recordNumber + ")");
+		}
+	}
+
+	private double parseDoubleSlow(int column) {
+		return Double.parseDouble(getString(column));
+	}
+
+	private NumberFormatException numberFormatError(int column) {
+		return new NumberFormatException("For input string: \"" + getString(column) + "\" (레코드 " + recordNumber + ", 열 " + column + ")");
+	}
+}
@@ -0,0 +1,132 @@
+package com.JavaCoreTil.io.common.hash;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파일의 청크별 CRC32C 목록과 전체 CRC32C
+ * <p>
+ * 텍스트 형식으로 저장/로드할 수 있다.
+ * <pre>
+ * crc32c &lt;파일크기&gt; &lt;청크크기&gt; &lt;전체CRC&gt;
+ * &lt;청크0 CRC&gt;
+ * &lt;청크1 CRC&gt;
+ * ...
+ * </pre>
+ */
+public class ChunkManifest {
+
+	private static final String HEADER = "crc32c";
+
+	private final long fileSize;
+	private final int chunkSize;
+	private final int[] chunkCrcs;
+	private final long combinedCrc;
+
+	public ChunkManifest(long fileSize, int chunkSize, int[] chunkCrcs, long combinedCrc) {
+		this.fileSize = fileSize;
+		this.chunkSize = chunkSize;
+		this.chunkCrcs = chunkCrcs;
+		this.combinedCrc = combinedCrc;
+	}
+
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public int getChunkCount() {
+		return chunkCrcs.length;
+	}
+
+	public long getChunkCrc(int index) {
+		return Integer.toUnsignedLong(chunkCrcs[index]);
+	}
+
+	/**
+	 * 파일 전체의 CRC32C (순차 계산 결과와 동일)
+	 */
+	public long getCombinedCrc() {
+		return combinedCrc;
+	}
+
+	/**
+	 * 다른 매니페스트와 내용이 다른 청크 번호 목록
+	 * 청크 크기가 다르면 비교할 수 없으므로 예외를 던진다.
+	 */
+	public List<Integer> mismatchedChunks(ChunkManifest other) {
+		if (chunkSize != other.chunkSize) {
+			throw new IllegalArgumentException("청크 크기가 다른 매니페스트는 비교할 수 없습니다: "
+				+ chunkSize + " != " + other.chunkSize);
+		}
+
+		List<Integer> mismatched = new ArrayList<>();
+		int common = Math.min(chunkCrcs.length, other.chunkCrcs.length);
+		for (int i = 0; i < common; i++) {
+			if (chunkCrcs[i] != other.chunkCrcs[i]) {
+				mismatched.add(i);
+			}
+		}
+		for (int i = common; i < Math.max(chunkCrcs.length, other.chunkCrcs.length); i++) {
+			mismatched.add(i);
+		}
+		// 마지막 청크 길이만 다른 경우 (CRC 가 우연히 같아도) 크기로 구분
+		if (mismatched.isEmpty() && fileSize != other.fileSize) {
+			mismatched.add(Math.max(0, common - 1));
+		}
+		return mismatched;
+	}
+
+	public boolean matches(ChunkManifest other) {
+		return fileSize == other.fileSize && combinedCrc == other.combinedCrc
+			&& mismatchedChunks(other).isEmpty();
+	}
+
+	public void writeTo(Path path) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write(HEADER + " " + fileSize + " " + chunkSize + " " + Long.toHexString(combinedCrc));
+			writer.newLine();
+			for (int crc : chunkCrcs) {
+				writer.write(Integer.toHexString(crc));
+				writer.newLine();
+			}
+		}
+	}
+
+	public static ChunkManifest readFrom(Path path) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String header = reader.readLine();
+			String[] parts = header == null ? new String[0] : header.split(" ");
+			if (parts.length != 4 || !HEADER.equals(parts[0])) {
+				throw new IOException("매니페스트 형식이 아닙니다: " + path);
+			}
+
+			long fileSize = Long.parseLong(parts[1]);
+			int chunkSize = Integer.parseInt(parts[2]);
+			long combinedCrc = Long.parseLong(parts[3], 16);
+
+			int chunkCount = (int)((fileSize + chunkSize - 1) / chunkSize);
+			int[] chunkCrcs = new int[chunkCount];
+			for (int i = 0; i < chunkCount; i++) {
+				String line = reader.readLine();
+				if (line == null) {
+					throw new IOException("매니페스트가 잘렸습니다: " + i + "/" + chunkCount);
+				}
+				chunkCrcs[i] = Integer.parseUnsignedInt(line, 16);
+			}
+			return new ChunkManifest(fileSize, chunkSize, chunkCrcs, combinedCrc);
+
+		} catch (NumberFormatException e) {
+			throw new IOException("매니페스트 숫자 형식 오류: " + path, e);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.JavaCoreTil.io.common.hash;
+
+/**
+ * CRC32C 결합 연산 (zlib crc32_combine 과 같은 GF(2) 행렬 방식)
+ * <p>
+ * crc(A), crc(B), |B| 만 알면 crc(A + B) 를 데이터를 다시 읽지 않고 계산할 수 있다.
+ * 청크별로 병렬 계산한 CRC 를 이어 붙여 파일 전체 CRC 를 만들 때 사용한다.
+ */
+final class Crc32cCombiner {
+
+	// CRC32C (Castagnoli) 반사 다항식
+	private static final long POLYNOMIAL = 0x82F63B78L;
+
+	private Crc32cCombiner() {
+	}
+
+	/**
+	 * @param crc1 앞부분의 CRC32C
+	 * @param crc2 뒷부분의 CRC32C
+	 * @param length2 뒷부분 길이 (바이트)
+	 * @return 앞부분 + 뒷부분 전체의 CRC32C
+	 */
+	static long combine(long crc1, long crc2, long length2) {
+		if (length2 <= 0) {
+			return crc1;
+		}
+
+		long[] even = new long[32]; // 짝수 거듭제곱 연산자
+		long[] odd = new long[32];  // 홀수 거듭제곱 연산자
+
+		// 0 비트 하나를 처리하는 연산자
+		odd[0] = POLYNOMIAL;
+		long row = 1;
+		for (int n = 1; n < 32; n++) {
+			odd[n] = row;
+			row <<= 1;
+		}
+
+		square(even, odd); // 0 비트 2개
+		square(odd, even); // 0 비트 4개
+
+		// length2 바이트만큼 0을 붙이는 연산을 제곱하며 적용
+		do {
+			square(even, odd);
+			if ((length2 & 1) != 0) {
+				crc1 = times(even, crc1);
+			}
+			length2 >>= 1;
+			if (length2 == 0) {
+				break;
+			}
+
+			square(odd, even);
+			if ((length2 & 1) != 0) {
+				crc1 = times(odd, crc1);
+			}
+			length2 >>= 1;
+		} while (length2 != 0);
+
+		return crc1 ^ crc2;
+	}
+
+	private static long times(long[] matrix, long vector) {
+		long sum = 0;
+		int i = 0;
+		while (vector != 0) {
+			if ((vector & 1) != 0) {
+				sum ^= matrix[i];
+			}
+			vector >>>= 1;
+			i++;
+		}
+		return sum;
+	}
+
+	private static void square(long[] result, long[] matrix) {
+		for (int n = 0; n < 32; n++) {
+			result[n] = times(matrix, matrix[n]);
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package com.JavaCoreTil.io.common.hash;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32C;
+
+import com.JavaCoreTil.io.common.buffer.DirectBufferPool;
+import com.JavaCoreTil.io.common.buffer.PooledBuffer;
+
+/**
+ * 파일 무결성 해시 서비스
+ * <p>
+ * 1. CRC32C 매니페스트: 파일을 여러 영역으로 나눠 영역마다 메모리 맵핑하고,
+ *    고정 크기 청크의 CRC32C 를 병렬로 계산한다. 청크 CRC 를 결합해 파일 전체 CRC 도 만든다.
+ *    (CRC32C 는 JDK 에서 CPU 명령어로 가속되므로 디스크 읽기 속도가 병목이 된다)
+ * 2. SHA-256: 콘텐츠 주소 지정용. 본질적으로 순차 연산이므로 풀링된 직접 버퍼로 스트리밍 계산한다.
+ */
+public class FileHasher {
+
+	public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024; // 4MB
+
+	// FileChannel.map 은 한 번에 2GB 미만만 맵핑 가능
+	private static final long MAX_REGION_SIZE = 1L << 30; // 1GB
+
+	private static final int STREAM_BUFFER_SIZE = 1024 * 1024;
+
+	private final int chunkSize;
+	private final int parallelism;
+
+	public FileHasher() {
+		this(DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param chunkSize 매니페스트 청크 크기 (바이트)
+	 * @param parallelism CRC 계산 스레드 수
+	 */
+	public FileHasher(int chunkSize, int parallelism) {
+		if (chunkSize <= 0 || parallelism <= 0) {
+			throw new IllegalArgumentException("chunkSize와 parallelism은 0보다 커야 합니다.");
+		}
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * 청크별 CRC32C 와 전체 CRC32C 를 병렬로 계산
+	 */
+	public ChunkManifest crc32cManifest(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long fileSize = channel.size();
+			long chunkCount = (fileSize + chunkSize - 1) / chunkSize;
+			if (chunkCount > Integer.MAX_VALUE) {
+				throw new IOException("청크 수가 너무 많습니다. chunkSize 를 늘리세요: " + chunkCount);
+			}
+
+			int[] chunkCrcs = new int[(int)chunkCount];
+			computeChunkCrcs(channel, fileSize, chunkCrcs);
+
+			return new ChunkManifest(fileSize, chunkSize, chunkCrcs, combine(chunkCrcs, fileSize));
+		}
+	}
+
+	/**
+	 * 두 파일의 매니페스트를 비교해 복사 결과 검증
+	 * @return 내용이 다른 청크 번호 목록 (비어 있으면 동일)
+	 */
+	public List<Integer> verifyCopy(Path source, Path target) throws IOException {
+		ChunkManifest expected = crc32cManifest(source);
+		ChunkManifest actual = crc32cManifest(target);
+		return expected.mismatchedChunks(actual);
+	}
+
+	/**
+	 * 파일의 SHA-256 (스트리밍)
+	 */
+	public static byte[] sha256(Path file) throws IOException {
+		MessageDigest digest = newSha256();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+			 PooledBuffer pooled = DirectBufferPool.shared().acquire(STREAM_BUFFER_SIZE)) {
+
+			ByteBuffer buffer = pooled.buffer();
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		return digest.digest();
+	}
+
+	/**
+	 * 스트림의 SHA-256 (끝까지 읽지만 닫지는 않음)
+	 */
+	public static byte[] sha256(InputStream in) throws IOException {
+		MessageDigest digest = newSha256();
+		byte[] buffer = new byte[64 * 1024];
+		int bytesRead;
+		while ((bytesRead = in.read(buffer)) != -1) {
+			digest.update(buffer, 0, bytesRead);
+		}
+		return digest.digest();
+	}
+
+	public static String toHex(byte[] hash) {
+		return HexFormat.of().formatHex(hash);
+	}
+
+	static MessageDigest newSha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// 모든 JDK 구현은 SHA-256 을 제공해야 함
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 파일을 청크 경계에 맞춘 영역으로 나누어 영역별로 맵핑한 뒤 병렬 계산
+	 */
+	private void computeChunkCrcs(FileChannel channel, long fileSize, int[] chunkCrcs) throws IOException {
+		if (chunkCrcs.length == 0) {
+			return;
+		}
+
+		// 스레드보다 영역을 넉넉히 만들어 부하 균형을 맞추되, 맵핑 한도를 넘지 않게 함
+		long chunksPerRegion = Math.max(1, chunkCrcs.length / (parallelism * 4L));
+		chunksPerRegion = Math.min(chunksPerRegion, Math.max(1, MAX_REGION_SIZE / chunkSize));
+
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (long firstChunk = 0; firstChunk < chunkCrcs.length; firstChunk += chunksPerRegion) {
+				int first = (int)firstChunk;
+				int last = (int)Math.min(chunkCrcs.length, firstChunk + chunksPerRegion);
+
+				futures.add(pool.submit(() -> {
+					hashRegion(channel, fileSize, first, last, chunkCrcs);
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("해시 계산이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private void hashRegion(FileChannel channel, long fileSize, int firstChunk, int lastChunk,
+		int[] chunkCrcs) throws IOException {
+
+		long regionStart = (long)firstChunk * chunkSize;
+		long regionEnd = Math.min(fileSize, (long)lastChunk * chunkSize);
+		MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart);
+
+		CRC32C crc = new CRC32C();
+		for (int chunk = firstChunk; chunk < lastChunk; chunk++) {
+			int offset = (int)((long)(chunk - firstChunk) * chunkSize);
+			int length = (int)Math.min(chunkSize, regionEnd - regionStart - offset);
+
+			region.limit(offset + length).position(offset);
+			crc.reset();
+			crc.update(region);
+			chunkCrcs[chunk] = (int)crc.getValue();
+		}
+	}
+
+	private long combine(int[] chunkCrcs, long fileSize) {
+		long combined = 0;
+		for (int i = 0; i < chunkCrcs.length; i++) {
+			long length = Math.min(chunkSize, fileSize - (long)i * chunkSize);
+			combined = Crc32cCombiner.combine(combined, Integer.toUnsignedLong(chunkCrcs[i]), length);
+		}
+		return combined;
+	}
+}
@@ -0,0 +1,397 @@
+package com.JavaCoreTil.io.common.histogram;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 고정 메모리 로그 버킷 지연 시간 히스토그램 (HdrHistogram 방식)
+ * <p>
+ * 값 범위를 2의 거듭제곱 버킷으로 나누고, 각 버킷을 다시 같은 개수의 선형 하위 버킷으로 나눈다.
+ * 하위 버킷 수는 유효 숫자 자릿수로 정해지므로 모든 값이 같은 상대 정밀도로 기록된다
+ * (유효 숫자 3자리면 오차 0.1% 이내). 기록은 배열 인덱스 계산 한 번과 카운트 증가뿐이며,
+ * 메모리 사용량은 기록한 값의 개수와 무관하다.
+ * <p>
+ * 같은 설정의 히스토그램끼리는 카운트 배열을 더해 병합할 수 있으므로 스레드별로 기록하고
+ * 마지막에 add() 로 합치면 된다. 하나의 인스턴스는 스레드 안전하지 않다.
+ * <pre>
+ * LatencyHistogram histogram = new LatencyHistogram(60_000_000L, 3); // 1us ~ 60s
+ * histogram.recordValue(elapsedMicros);
+ * long p99 = histogram.getValueAtPercentile(99.0);
+ * </pre>
+ */
+public class LatencyHistogram {
+
+	private static final int MAGIC = 0x4C484953; // "LHIS"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 72;
+
+	private final long lowestDiscernibleValue;
+	private final long highestTrackableValue;
+	private final int significantDigits;
+
+	// 버킷 배치 (HdrHistogram 과 같은 계산)
+	private final int unitMagnitude;
+	private final int subBucketHalfCountMagnitude;
+	private final int subBucketCount;
+	private final int subBucketHalfCount;
+	private final long subBucketMask;
+	private final int leadingZeroCountBase;
+
+	private final long[] counts;
+
+	private long totalCount;
+	private long minValue = Long.MAX_VALUE;
+	private long maxValue;
+	private double sum;
+	private long overflowCount;
+
+	/**
+	 * 1 부터 highestTrackableValue 까지 기록하는 히스토그램
+	 */
+	public LatencyHistogram(long highestTrackableValue, int significantDigits) {
+		this(1, highestTrackableValue, significantDigits);
+	}
+
+	/**
+	 * @param lowestDiscernibleValue 구분 가능한 가장 작은 값 (이보다 작은 차이는 구분하지 않음)
+	 * @param highestTrackableValue 기록 가능한 가장 큰 값 (넘는 값은 이 값으로 기록하고 초과 건수로 셈)
+	 * @param significantDigits 유효 숫자 자릿수 (1~5)
+	 */
+	public LatencyHistogram(long lowestDiscernibleValue, long highestTrackableValue, int significantDigits) {
+		if (lowestDiscernibleValue < 1) {
+			throw new IllegalArgumentException("lowestDiscernibleValue는 1 이상이어야 합니다.");
+		}
+		if (highestTrackableValue < 2 * lowestDiscernibleValue) {
+			throw new IllegalArgumentException("highestTrackableValue는 lowestDiscernibleValue의 2배 이상이어야 합니다.");
+		}
+		if (significantDigits < 1 || significantDigits > 5) {
+			throw new IllegalArgumentException("significantDigits는 1~5 이어야 합니다: " + significantDigits);
+		}
+		this.lowestDiscernibleValue = lowestDiscernibleValue;
+		this.highestTrackableValue = highestTrackableValue;
+		this.significantDigits = significantDigits;
+
+		// 단위 정밀도로 표현해야 하는 가장 큰 값: 2 * 10^digits
+		long largestValueWithSingleUnitResolution = 2 * (long)Math.pow(10, significantDigits);
+		int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largestValueWithSingleUnitResolution - 1);
+
+		this.unitMagnitude = 63 - Long.numberOfLeadingZeros(lowestDiscernibleValue);
+		this.subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+		this.subBucketCount = 1 << subBucketCountMagnitude;
+		this.subBucketHalfCount = subBucketCount / 2;
+		this.subBucketMask = ((long)subBucketCount - 1) << unitMagnitude;
+		this.leadingZeroCountBase = 64 - unitMagnitude - subBucketCountMagnitude;
+
+		// highestTrackableValue 를 담을 만큼 버킷 수 결정
+		long smallestUntrackableValue = (long)subBucketCount << unitMagnitude;
+		int bucketCount = 1;
+		while (smallestUntrackableValue <= highestTrackableValue) {
+			if (smallestUntrackableValue > Long.MAX_VALUE / 2) {
+				bucketCount++;
+				break;
+			}
+			smallestUntrackableValue <<= 1;
+			bucketCount++;
+		}
+		this.counts = new long[(bucketCount + 1) * subBucketHalfCount];
+	}
+
+	public void recordValue(long value) {
+		recordValue(value, 1);
+	}
+
+	/**
+	 * 같은 값을 count 번 기록
+	 */
+	public void recordValue(long value, long count) {
+		if (value < 0) {
+			throw new IllegalArgumentException("음수 값은 기록할 수 없습니다: " + value);
+		}
+		if (value > highestTrackableValue) {
+			overflowCount += count;
+			value = highestTrackableValue;
+		}
+		counts[countsIndex(value)] += count;
+		totalCount += count;
+		sum += (double)value * count;
+		minValue = Math.min(minValue, value);
+		maxValue = Math.max(maxValue, value);
+	}
+
+	/**
+	 * 다른 히스토그램의 기록을 더함 (같은 설정이면 배열 덧셈, 아니면 버킷별 재기록)
+	 */
+	public void add(LatencyHistogram other) {
+		if (other.totalCount == 0) {
+			return;
+		}
+		if (sameLayout(other)) {
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] += other.counts[i];
+			}
+			totalCount += other.totalCount;
+			sum += other.sum;
+			overflowCount += other.overflowCount;
+			minValue = Math.min(minValue, other.minValue);
+			maxValue = Math.max(maxValue, other.maxValue);
+		} else {
+			// other 의 범위 밖 값은 최상위 버킷에 함께 들어 있으므로 따로 떼어 한 번만 기록
+			int overflowIndex = other.countsIndex(other.highestTrackableValue);
+			for (int i = 0; i < other.counts.length; i++) {
+				long count = i == overflowIndex ? other.counts[i] - other.overflowCount : other.counts[i];
+				if (count != 0) {
+					recordValue(other.medianEquivalentValue(other.valueFromIndex(i)), count);
+				}
+			}
+			if (other.overflowCount > 0) {
+				long overflowBefore = overflowCount;
+				recordValue(other.highestTrackableValue, other.overflowCount);
+				// 이 히스토그램 범위 안이라 recordValue 가 세지 않았어도 원래 범위 밖이었던 값이므로 여기서 셈
+				if (overflowCount == overflowBefore) {
+					overflowCount += other.overflowCount;
+				}
+			}
+		}
+	}
+
+	public void reset() {
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		minValue = Long.MAX_VALUE;
+		maxValue = 0;
+		sum = 0;
+		overflowCount = 0;
+	}
+
+	/**
+	 * 백분위 값 (예: 99.0 이면 p99). 같은 버킷에 드는 값 중 가장 큰 값을 반환한다.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (totalCount == 0) {
+			return 0;
+		}
+		double requested = Math.min(Math.max(percentile, 0.0), 100.0);
+		long countAtPercentile = Math.max(1, (long)Math.ceil(requested / 100.0 * totalCount));
+
+		long cumulative = 0;
+		for (int i = 0; i < counts.length; i++) {
+			cumulative += counts[i];
+			if (cumulative >= countAtPercentile) {
+				long value = valueFromIndex(i);
+				long result = requested == 0.0 ? lowestEquivalentValue(value) : highestEquivalentValue(value);
+				// 버킷 상한이 실제 최대값보다 크게 보고되지 않도록 제한
+				return Math.min(result, maxValue);
+			}
+		}
+		return maxValue;
+	}
+
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	public long getMin() {
+		return totalCount == 0 ? 0 : minValue;
+	}
+
+	public long getMax() {
+		return maxValue;
+	}
+
+	public double getMean() {
+		return totalCount == 0 ? 0.0 : sum / totalCount;
+	}
+
+	/**
+	 * highestTrackableValue 를 넘어 잘린 기록 수
+	 */
+	public long getOverflowCount() {
+		return overflowCount;
+	}
+
+	public long getHighestTrackableValue() {
+		return highestTrackableValue;
+	}
+
+	public int getSignificantDigits() {
+		return significantDigits;
+	}
+
+	/**
+	 * 카운트 배열 크기 (고정 메모리 = 이 값 × 8 바이트)
+	 */
+	public int getBucketCount() {
+		return counts.length;
+	}
+
+	/**
+	 * value 와 같은 버킷에 드는 가장 큰 값
+	 */
+	public long highestEquivalentValue(long value) {
+		return lowestEquivalentValue(value) + sizeOfEquivalentValueRange(value) - 1;
+	}
+
+	/**
+	 * 직렬화 (설정 + 요약값 + 0 구간을 압축한 카운트 배열)
+	 * <p>
+	 * 카운트는 ZigZag LEB128 가변 길이 정수로 쓰고, 연속된 0 은 음수 길이 하나로 줄인다.
+	 * 값이 좁은 범위에 몰려 있을수록(빈 버킷이 많을수록) 작아진다.
+	 */
+	public byte[] toByteArray() {
+		int lastNonZero = counts.length - 1;
+		while (lastNonZero >= 0 && counts[lastNonZero] == 0) {
+			lastNonZero--;
+		}
+
+		ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + (lastNonZero + 1) * 10);
+		out.putInt(MAGIC);
+		out.putInt(VERSION);
+		out.putLong(lowestDiscernibleValue);
+		out.putLong(highestTrackableValue);
+		out.putInt(significantDigits);
+		out.putLong(totalCount);
+		out.putLong(getMin());
+		out.putLong(maxValue);
+		out.putDouble(sum);
+		out.putLong(overflowCount);
+		out.putInt(lastNonZero + 1);
+
+		int i = 0;
+		while (i <= lastNonZero) {
+			if (counts[i] == 0) {
+				int zeros = 0;
+				while (counts[i] == 0) {
+					zeros++;
+					i++;
+				}
+				putVarLong(out, zigZag(-zeros));
+			} else {
+				putVarLong(out, zigZag(counts[i]));
+				i++;
+			}
+		}
+		return Arrays.copyOf(out.array(), out.position());
+	}
+
+	public static LatencyHistogram fromByteArray(byte[] bytes) {
+		try {
+			ByteBuffer in = ByteBuffer.wrap(bytes);
+			if (in.getInt() != MAGIC) {
+				throw new IllegalArgumentException("히스토그램 데이터가 아닙니다.");
+			}
+			int version = in.getInt();
+			if (version != VERSION) {
+				throw new IllegalArgumentException("지원하지 않는 버전입니다: " + version);
+			}
+
+			LatencyHistogram histogram = new LatencyHistogram(in.getLong(), in.getLong(), in.getInt());
+			histogram.totalCount = in.getLong();
+			long min = in.getLong();
+			histogram.minValue = histogram.totalCount == 0 ? Long.MAX_VALUE : min;
+			histogram.maxValue = in.getLong();
+			histogram.sum = in.getDouble();
+			histogram.overflowCount = in.getLong();
+
+			int length = in.getInt();
+			if (length > histogram.counts.length) {
+				throw new IllegalArgumentException("카운트 배열이 설정보다 깁니다: " + length);
+			}
+			int i = 0;
+			while (i < length) {
+				long value = unZigZag(getVarLong(in));
+				if (value < 0) {
+					i += (int)-value;
+				} else {
+					histogram.counts[i++] = value;
+				}
+			}
+			return histogram;
+
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("히스토그램 데이터가 잘렸습니다.", e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("count=%d, min=%d, p50=%d, p90=%d, p99=%d, p99.9=%d, max=%d, mean=%.2f",
+			totalCount, getMin(), getValueAtPercentile(50), getValueAtPercentile(90), getValueAtPercentile(99),
+			getValueAtPercentile(99.9), maxValue, getMean());
+	}
+
+	private int countsIndex(long value) {
+		int bucketIndex = bucketIndex(value);
+		int subBucketIndex = subBucketIndex(value, bucketIndex);
+		int bucketBaseIndex = (bucketIndex + 1) << subBucketHalfCountMagnitude;
+		return bucketBaseIndex + subBucketIndex - subBucketHalfCount;
+	}
+
+	private int bucketIndex(long value) {
+		return leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+	}
+
+	private int subBucketIndex(long value, int bucketIndex) {
+		return (int)(value >>> (bucketIndex + unitMagnitude));
+	}
+
+	private long valueFromIndex(int index) {
+		int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+		int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+		if (bucketIndex < 0) {
+			subBucketIndex -= subBucketHalfCount;
+			bucketIndex = 0;
+		}
+		return (long)subBucketIndex << (bucketIndex + unitMagnitude);
+	}
+
+	private long lowestEquivalentValue(long value) {
+		int bucketIndex = bucketIndex(value);
+		int subBucketIndex = subBucketIndex(value, bucketIndex);
+		return (long)subBucketIndex << (bucketIndex + unitMagnitude);
+	}
+
+	private long sizeOfEquivalentValueRange(long value) {
+		int bucketIndex = bucketIndex(value);
+		int subBucketIndex = subBucketIndex(value, bucketIndex);
+		return 1L << (unitMagnitude + (subBucketIndex >= subBucketCount ? bucketIndex + 1 : bucketIndex));
+	}
+
+	private long medianEquivalentValue(long value) {
+		return lowestEquivalentValue(value) + (sizeOfEquivalentValueRange(value) >> 1);
+	}
+
+	private boolean sameLayout(LatencyHistogram other) {
+		return lowestDiscernibleValue == other.lowestDiscernibleValue
+			&& significantDigits == other.significantDigits
+			&& counts.length == other.counts.length;
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void putVarLong(ByteBuffer out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.put((byte)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.put((byte)value);
+	}
+
+	private static long getVarLong(ByteBuffer in) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.get();
+			value |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("잘못된 가변 길이 정수입니다.");
+	}
+}
@@ -0,0 +1,320 @@
+package com.JavaCoreTil.io.common.index;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LogIndexBuilder 가 만든 역색인으로 키워드 검색
+ * <p>
+ * 열 때 사전만 메모리에 올리고, 포스팅은 검색에 필요한 토큰 블록만 위치 지정 읽기로 가져온다.
+ * 일치한 라인은 원본 로그에서 해당 오프셋만 읽으므로 파일 크기와 무관하게 결과 수에 비례하는 시간이 든다.
+ */
+public class LogIndex implements AutoCloseable {
+
+	private static final long[] EMPTY = new long[0];
+
+	private final FileChannel indexChannel;
+	private final FileChannel logChannel;
+	private final Map<String, Term> terms;
+	private final long lineCount;
+
+	private LogIndex(FileChannel indexChannel, FileChannel logChannel, Map<String, Term> terms, long lineCount) {
+		this.indexChannel = indexChannel;
+		this.logChannel = logChannel;
+		this.terms = terms;
+		this.lineCount = lineCount;
+	}
+
+	/**
+	 * @throws IOException 색인 형식이 잘못되었거나 원본 로그 크기가 색인 당시와 다를 때
+	 */
+	public static LogIndex open(Path indexFile, Path logFile) throws IOException {
+		FileChannel indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ);
+		FileChannel logChannel = null;
+		try {
+			long size = indexChannel.size();
+			if (size < LogIndexBuilder.HEADER_SIZE + 4 + LogIndexBuilder.TRAILER_SIZE) {
+				throw new IOException("색인 파일이 너무 작습니다: " + indexFile);
+			}
+
+			ByteBuffer header = readFully(indexChannel, 0, LogIndexBuilder.HEADER_SIZE);
+			ByteBuffer trailer = readFully(indexChannel, size - LogIndexBuilder.TRAILER_SIZE,
+				LogIndexBuilder.TRAILER_SIZE);
+			if (header.getInt() != LogIndexBuilder.MAGIC || trailer.getInt(8) != LogIndexBuilder.MAGIC) {
+				throw new IOException("로그 색인 파일이 아닙니다: " + indexFile);
+			}
+			int version = header.getInt();
+			if (version != LogIndexBuilder.VERSION) {
+				throw new IOException("지원하지 않는 색인 버전: " + version);
+			}
+			long sourceSize = header.getLong();
+			long lineCount = header.getLong();
+
+			logChannel = FileChannel.open(logFile, StandardOpenOption.READ);
+			if (logChannel.size() != sourceSize) {
+				throw new IOException("색인이 원본 로그와 맞지 않습니다 (색인 " + sourceSize + " bytes, 로그 "
+					+ logChannel.size() + " bytes). 다시 색인하세요.");
+			}
+
+			// 사전: 포스팅 블록 위치는 길이를 누적해 계산
+			long dictionaryOffset = trailer.getLong(0);
+			ByteBuffer dictionary = readFully(indexChannel, dictionaryOffset,
+				(int)(size - LogIndexBuilder.TRAILER_SIZE - dictionaryOffset));
+			int termCount = dictionary.getInt();
+			Map<String, Term> terms = new HashMap<>(termCount * 2);
+			long postingsOffset = LogIndexBuilder.HEADER_SIZE;
+			for (int i = 0; i < termCount; i++) {
+				byte[] token = new byte[(int)Varint.read(dictionary)];
+				dictionary.get(token);
+				int count = (int)Varint.read(dictionary);
+				int length = (int)Varint.read(dictionary);
+				terms.put(new String(token, StandardCharsets.UTF_8), new Term(postingsOffset, length, count));
+				postingsOffset += length;
+			}
+
+			return new LogIndex(indexChannel, logChannel, terms, lineCount);
+		} catch (IOException | RuntimeException e) {
+			indexChannel.close();
+			if (logChannel != null) {
+				logChannel.close();
+			}
+			throw e;
+		}
+	}
+
+	public long getLineCount() {
+		return lineCount;
+	}
+
+	public int getTermCount() {
+		return terms.size();
+	}
+
+	/**
+	 * 조건에 맞는 라인의 시작 오프셋 (오름차순)
+	 */
+	public long[] find(LogQuery query) throws IOException {
+		List<List<List<String>>> clauses = query.clauses();
+		if (clauses.isEmpty()) {
+			throw new IllegalArgumentException("검색 조건이 없습니다.");
+		}
+
+		// 문서 수가 적은 절부터 교집합을 구해 중간 결과를 작게 유지
+		List<List<List<String>>> ordered = new ArrayList<>(clauses);
+		ordered.sort(Comparator.comparingLong(this::estimate));
+
+		long[] result = null;
+		for (List<List<String>> clause : ordered) {
+			long[] matches = EMPTY;
+			for (List<String> alternative : clause) {
+				matches = union(matches, intersectTokens(alternative));
+			}
+			result = result == null ? matches : intersect(result, matches);
+			if (result.length == 0) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	public int count(LogQuery query) throws IOException {
+		return find(query).length;
+	}
+
+	/**
+	 * 조건에 맞는 라인을 원본 로그에서 최대 limit 개 읽음
+	 */
+	public List<String> search(LogQuery query, int limit) throws IOException {
+		long[] offsets = find(query);
+		List<String> lines = new ArrayList<>();
+		for (int i = 0; i < offsets.length && i < limit; i++) {
+			lines.add(readLine(offsets[i]));
+		}
+		return lines;
+	}
+
+	/**
+	 * 원본 로그에서 offset 부터 줄바꿈 전까지 읽음 (위치 지정 읽기)
+	 */
+	public String readLine(long offset) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+		ByteBuffer chunk = ByteBuffer.allocate(512);
+		long position = offset;
+		while (true) {
+			chunk.clear();
+			int bytesRead = logChannel.read(chunk, position);
+			if (bytesRead <= 0) {
+				break;
+			}
+			int newline = -1;
+			for (int i = 0; i < bytesRead; i++) {
+				if (chunk.get(i) == '\n') {
+					newline = i;
+					break;
+				}
+			}
+			line.write(chunk.array(), 0, newline >= 0 ? newline : bytesRead);
+			if (newline >= 0) {
+				break;
+			}
+			position += bytesRead;
+		}
+
+		byte[] bytes = line.toByteArray();
+		int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+		return new String(bytes, 0, length, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			indexChannel.close();
+		} finally {
+			logChannel.close();
+		}
+	}
+
+	private long estimate(List<List<String>> clause) {
+		long total = 0;
+		for (List<String> alternative : clause) {
+			long smallest = Long.MAX_VALUE;
+			for (String token : alternative) {
+				Term term = terms.get(token);
+				smallest = Math.min(smallest, term == null ? 0 : term.count);
+			}
+			total += smallest;
+		}
+		return total;
+	}
+
+	private long[] intersectTokens(List<String> tokens) throws IOException {
+		long[] result = null;
+		for (String token : tokens) {
+			long[] postings = postings(token);
+			result = result == null ? postings : intersect(result, postings);
+			if (result.length == 0) {
+				break;
+			}
+		}
+		return result == null ? EMPTY : result;
+	}
+
+	private long[] postings(String token) throws IOException {
+		Term term = terms.get(token);
+		if (term == null) {
+			return EMPTY;
+		}
+		ByteBuffer block = readFully(indexChannel, term.offset, term.length);
+		long[] offsets = new long[term.count];
+		long previous = 0;
+		for (int i = 0; i < offsets.length; i++) {
+			previous += Varint.read(block);
+			offsets[i] = previous;
+		}
+		return offsets;
+	}
+
+	/**
+	 * 정렬된 두 배열의 교집합 (크기 차이가 크면 작은 쪽 값으로 큰 쪽을 이진 탐색)
+	 */
+	static long[] intersect(long[] a, long[] b) {
+		if (a.length > b.length) {
+			long[] t = a;
+			a = b;
+			b = t;
+		}
+		long[] result = new long[a.length];
+		int size = 0;
+		if ((long)a.length * 16 < b.length) {
+			int from = 0;
+			for (long value : a) {
+				int found = Arrays.binarySearch(b, from, b.length, value);
+				if (found >= 0) {
+					result[size++] = value;
+					from = found + 1;
+				} else {
+					from = -found - 1;
+				}
+				if (from >= b.length) {
+					break;
+				}
+			}
+		} else {
+			int i = 0;
+			int j = 0;
+			while (i < a.length && j < b.length) {
+				if (a[i] < b[j]) {
+					i++;
+				} else if (a[i] > b[j]) {
+					j++;
+				} else {
+					result[size++] = a[i];
+					i++;
+					j++;
+				}
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	static long[] union(long[] a, long[] b) {
+		if (a.length == 0) {
+			return b;
+		}
+		if (b.length == 0) {
+			return a;
+		}
+		long[] result = new long[a.length + b.length];
+		int i = 0;
+		int j = 0;
+		int size = 0;
+		while (i < a.length || j < b.length) {
+			long value;
+			if (j >= b.length || (i < a.length && a[i] < b[j])) {
+				value = a[i++];
+			} else if (i >= a.length || b[j] < a[i]) {
+				value = b[j++];
+			} else {
+				value = a[i++];
+				j++;
+			}
+			result[size++] = value;
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			int bytesRead = channel.read(buffer, position + buffer.position());
+			if (bytesRead < 0) {
+				throw new IOException("색인 파일이 잘렸습니다.");
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	private static final class Term {
+		final long offset;
+		final int length;
+		final int count;
+
+		Term(long offset, int length, int count) {
+			this.offset = offset;
+			this.length = length;
+			this.count = count;
+		}
+	}
+}
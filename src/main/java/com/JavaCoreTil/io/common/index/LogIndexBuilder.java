@@ -0,0 +1,132 @@
+package com.JavaCoreTil.io.common.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.JavaCoreTil.io.common.log.LogLevel;
+import com.JavaCoreTil.io.common.log.LogLineParser;
+
+/**
+ * 로그 파일의 역색인(토큰 → 라인 시작 오프셋 목록) 작성
+ * <p>
+ * 파일 구조 (고정 길이 정수는 빅 엔디언):
+ * <pre>
+ * [헤더: magic, version, 원본 파일 크기, 색인된 라인 수]
+ * [포스팅 블록들]      토큰별 라인 오프셋을 앞 값과의 차이(delta)로 varint 인코딩, 토큰 정렬 순서
+ * [사전: 토큰 수, (토큰 길이, 토큰 UTF-8, 라인 수, 블록 길이) x 토큰 수]
+ * [트레일러: 사전 오프셋, magic]
+ * </pre>
+ * 오프셋은 오름차순이므로 차이는 대부분 라인 길이 정도이고, varint 로 1~2바이트면 된다.
+ * 레벨은 "[error" 처럼 '[' 로 시작하는 예약 토큰으로 색인해 같은 방식으로 필터링한다.
+ * 한 파일의 사전과 포스팅을 메모리에 모았다가 쓰므로, 큰 아카이브는 시간대별 파일마다 색인을 하나씩 만든다.
+ */
+public class LogIndexBuilder {
+
+	static final int MAGIC = 0x4C494458; // "LIDX"
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 4 + 4 + 8 + 8;
+	static final int TRAILER_SIZE = 8 + 4;
+
+	private LogIndexBuilder() {
+	}
+
+	/**
+	 * logFile 을 한 번 스캔해 indexFile 에 역색인을 씀
+	 * @return 색인된 라인 수 (로그 형식에 맞지 않는 라인은 제외)
+	 */
+	public static long build(Path logFile, Path indexFile) throws IOException {
+		long sourceSize = Files.size(logFile);
+		Map<String, Postings> terms = new HashMap<>();
+
+		String[] levelTokens = new String[LogLevel.values().length];
+		for (LogLevel level : LogLevel.values()) {
+			levelTokens[level.ordinal()] = Tokenizer.LEVEL_PREFIX + level.name().toLowerCase(Locale.ROOT);
+		}
+
+		// 스캔 중 재사용하는 상태 (현재 라인 오프셋, 메시지 바이트 복사 버퍼)
+		long[] currentOffset = new long[1];
+		byte[][] message = {new byte[256]};
+		Tokenizer.TokenSink sink = (bytes, start, end) ->
+			terms.computeIfAbsent(new String(bytes, start, end - start, StandardCharsets.UTF_8), key -> new Postings())
+				.add(currentOffset[0]);
+
+		long lines = new LogLineParser().scan(logFile, record -> {
+			currentOffset[0] = record.getLineOffset();
+			terms.computeIfAbsent(levelTokens[record.getLevel().ordinal()], key -> new Postings())
+				.add(currentOffset[0]);
+
+			int length = record.getMessageLength();
+			if (message[0].length < length) {
+				message[0] = new byte[Math.max(length, message[0].length * 2)];
+			}
+			for (int i = 0; i < length; i++) {
+				message[0][i] = record.messageByteAt(i);
+			}
+			Tokenizer.split(message[0], length, sink);
+		});
+
+		write(indexFile, new TreeMap<>(terms), sourceSize, lines);
+		return lines;
+	}
+
+	private static void write(Path indexFile, TreeMap<String, Postings> terms, long sourceSize, long lines)
+		throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile),
+			64 * 1024))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(sourceSize);
+			out.writeLong(lines);
+
+			long dictionaryOffset = HEADER_SIZE;
+			for (Postings postings : terms.values()) {
+				out.write(postings.data, 0, postings.size);
+				dictionaryOffset += postings.size;
+			}
+
+			byte[] varint = new byte[10];
+			out.writeInt(terms.size());
+			for (Map.Entry<String, Postings> entry : terms.entrySet()) {
+				byte[] token = entry.getKey().getBytes(StandardCharsets.UTF_8);
+				out.write(varint, 0, Varint.write(varint, 0, token.length));
+				out.write(token);
+				out.write(varint, 0, Varint.write(varint, 0, entry.getValue().count));
+				out.write(varint, 0, Varint.write(varint, 0, entry.getValue().size));
+			}
+
+			out.writeLong(dictionaryOffset);
+			out.writeInt(MAGIC);
+		}
+	}
+
+	/**
+	 * 토큰 하나의 포스팅 목록 (delta varint 로 바로 인코딩하며 누적)
+	 */
+	private static final class Postings {
+		byte[] data = new byte[16];
+		int size;
+		int count;
+		long last = -1;
+
+		void add(long offset) {
+			if (offset == last) {
+				return; // 같은 라인에서 반복된 토큰
+			}
+			if (data.length - size < 10) {
+				data = Arrays.copyOf(data, data.length * 2);
+			}
+			size = Varint.write(data, size, last < 0 ? offset : offset - last);
+			last = offset;
+			count++;
+		}
+	}
+}
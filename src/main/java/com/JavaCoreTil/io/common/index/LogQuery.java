@@ -0,0 +1,91 @@
+package com.JavaCoreTil.io.common.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import com.JavaCoreTil.io.common.log.LogLevel;
+
+/**
+ * 역색인 검색 조건
+ * <p>
+ * 추가한 조건끼리는 AND 로 결합한다. anyOf() 한 번은 OR 절 하나가 된다.
+ * 검색어는 색인과 같은 규칙으로 토큰화되며, 여러 토큰으로 나뉘는 검색어("사용자 로그인")는
+ * 토큰이 모두 들어 있는 라인에 일치한다(구문 검색은 아님).
+ * <pre>
+ * new LogQuery().allOf("데이터베이스").anyOf("연결", "타임아웃").levels(LogLevel.ERROR, LogLevel.WARN)
+ * </pre>
+ */
+public class LogQuery {
+
+	// 절(AND) → 대안(OR) → 토큰(AND)
+	private final List<List<List<String>>> clauses = new ArrayList<>();
+
+	/**
+	 * 모든 검색어가 들어 있는 라인
+	 */
+	public LogQuery allOf(String... terms) {
+		for (String term : terms) {
+			List<String> tokens = Tokenizer.tokens(term);
+			if (!tokens.isEmpty()) {
+				clauses.add(Collections.singletonList(tokens));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 검색어 중 하나 이상이 들어 있는 라인
+	 */
+	public LogQuery anyOf(String... terms) {
+		List<List<String>> alternatives = new ArrayList<>();
+		for (String term : terms) {
+			List<String> tokens = Tokenizer.tokens(term);
+			if (!tokens.isEmpty()) {
+				alternatives.add(tokens);
+			}
+		}
+		if (!alternatives.isEmpty()) {
+			clauses.add(alternatives);
+		}
+		return this;
+	}
+
+	/**
+	 * 레벨 필터 (지정한 레벨 중 하나)
+	 */
+	public LogQuery levels(LogLevel... levels) {
+		List<List<String>> alternatives = new ArrayList<>();
+		for (LogLevel level : levels) {
+			alternatives.add(Collections.singletonList(Tokenizer.LEVEL_PREFIX + level.name().toLowerCase(Locale.ROOT)));
+		}
+		if (!alternatives.isEmpty()) {
+			clauses.add(alternatives);
+		}
+		return this;
+	}
+
+	List<List<List<String>>> clauses() {
+		return clauses;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (List<List<String>> clause : clauses) {
+			if (sb.length() > 0) {
+				sb.append(" AND ");
+			}
+			sb.append('(');
+			for (int i = 0; i < clause.size(); i++) {
+				if (i > 0) {
+					sb.append(" OR ");
+				}
+				sb.append(String.join(" ", clause.get(i)));
+			}
+			sb.append(')');
+		}
+		return sb.toString();
+	}
+}
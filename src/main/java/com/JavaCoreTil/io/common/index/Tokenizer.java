@@ -0,0 +1,64 @@
+package com.JavaCoreTil.io.common.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 색인/검색 공용 토큰 분리 규칙
+ * <p>
+ * ASCII 영문자/숫자와 멀티바이트 UTF-8 문자(한글 등)가 이어진 구간을 토큰으로 보고,
+ * 그 밖의 ASCII(공백, 문장 부호)는 구분자로 취급한다. ASCII 영문자는 소문자로 바꾼다.
+ */
+final class Tokenizer {
+
+	// 레벨 토큰 접두어: '[' 는 구분자이므로 일반 토큰과 겹치지 않음
+	static final String LEVEL_PREFIX = "[";
+
+	private Tokenizer() {
+	}
+
+	@FunctionalInterface
+	interface TokenSink {
+		void accept(byte[] bytes, int start, int end);
+	}
+
+	static boolean isTokenByte(byte b) {
+		return b < 0 || (b >= '0' && b <= '9') || (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || b == '_';
+	}
+
+	/**
+	 * bytes[0, length) 의 토큰마다 sink 호출 (ASCII 대문자는 제자리에서 소문자로 바뀜)
+	 */
+	static void split(byte[] bytes, int length, TokenSink sink) {
+		int start = -1;
+		for (int i = 0; i < length; i++) {
+			byte b = bytes[i];
+			if (isTokenByte(b)) {
+				if (b >= 'A' && b <= 'Z') {
+					bytes[i] = (byte)(b + ('a' - 'A'));
+				}
+				if (start < 0) {
+					start = i;
+				}
+			} else if (start >= 0) {
+				sink.accept(bytes, start, i);
+				start = -1;
+			}
+		}
+		if (start >= 0) {
+			sink.accept(bytes, start, length);
+		}
+	}
+
+	/**
+	 * 검색어를 색인과 같은 규칙으로 토큰 목록으로
+	 */
+	static List<String> tokens(String text) {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		List<String> tokens = new ArrayList<>();
+		split(bytes, bytes.length, (buffer, start, end) ->
+			tokens.add(new String(buffer, start, end - start, StandardCharsets.UTF_8)));
+		return tokens;
+	}
+}
@@ -0,0 +1,39 @@
+package com.JavaCoreTil.io.common.index;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 부호 없는 LEB128 가변 길이 정수 (7비트씩, 최상위 비트 = 다음 바이트 있음)
+ */
+final class Varint {
+
+	private Varint() {
+	}
+
+	/**
+	 * buffer[position] 부터 value 를 쓰고 다음 위치를 돌려줌 (buffer 는 최소 10바이트 여유 필요)
+	 */
+	static int write(byte[] buffer, int position, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer[position++] = (byte)((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte)value;
+		return position;
+	}
+
+	static long read(ByteBuffer buffer) {
+		long value = 0;
+		int shift = 0;
+		byte b;
+		do {
+			if (shift > 63) {
+				throw new IllegalStateException("잘못된 varint 입니다.");
+			}
+			b = buffer.get();
+			value |= (long)(b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		return value;
+	}
+}
@@ -0,0 +1,255 @@
+package com.JavaCoreTil.io.common.ingest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 디렉터리의 여러 파일을 ForkJoinPool 로 병렬 수집해 하나의 집계로 합침
+ * <p>
+ * 파일 목록을 절반씩 나누는 작업 트리를 만들고, 큰 파일은 다시 라인 경계에 맞춘 조각으로 나눈다.
+ * 작은 파일 수천 개와 큰 파일 몇 개가 섞여 있어도, 일이 먼저 끝난 작업자가 다른 작업자의 큐에서
+ * 남은 파일/조각을 훔쳐 가므로(work stealing) 코어가 고르게 쓰인다. 큰 파일의 조각 경계는 그 파일을 맡은
+ * 작업이 조각 작업을 나누기 전에 순차로 계산한다 (경계마다 수 KB 만 읽으므로 작고, 다른 파일의 작업과는 병렬로 진행됨).
+ * <p>
+ * 결과는 파일 경로 순서, 파일 안에서는 조각 순서대로 combiner 로 병합하므로 combiner 는 결합 법칙만 만족하면 된다.
+ *
+ * @param <A> 조각별/전체 집계 타입
+ */
+public class DirectoryIngestor<A> {
+
+	public static final long DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	/**
+	 * 조각 하나를 처리해 부분 집계를 돌려줌 (여러 스레드에서 동시에 호출됨)
+	 */
+	@FunctionalInterface
+	public interface ChunkProcessor<A> {
+		A process(FileChunk chunk) throws IOException;
+	}
+
+	private final PathMatcher matcher;
+	private final long chunkSize;
+	private final int parallelism;
+	private final ChunkProcessor<A> processor;
+	private final BinaryOperator<A> combiner;
+
+	/**
+	 * @param glob 파일 이름 패턴 (예: "*.csv", "*.{log,csv}")
+	 */
+	public DirectoryIngestor(String glob, ChunkProcessor<A> processor, BinaryOperator<A> combiner) {
+		this(glob, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors(), processor, combiner);
+	}
+
+	/**
+	 * @param chunkSize 이보다 큰 파일은 대략 이 크기의 조각으로 나눔
+	 * @param parallelism ForkJoinPool 작업자 수
+	 */
+	public DirectoryIngestor(String glob, long chunkSize, int parallelism, ChunkProcessor<A> processor,
+		BinaryOperator<A> combiner) {
+		if (chunkSize <= 0 || parallelism <= 0) {
+			throw new IllegalArgumentException("chunkSize와 parallelism은 0보다 커야 합니다.");
+		}
+		this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism;
+		this.processor = processor;
+		this.combiner = combiner;
+	}
+
+	/**
+	 * 디렉터리(하위 포함)에서 패턴에 맞는 파일을 모두 수집
+	 */
+	public IngestResult<A> ingest(Path directory) throws IOException {
+		long startTime = System.nanoTime();
+
+		List<Path> files;
+		try (Stream<Path> walk = Files.walk(directory)) {
+			files = walk
+				.filter(Files::isRegularFile)
+				.filter(path -> matcher.matches(path.getFileName()))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		if (files.isEmpty()) {
+			return new IngestResult<>(null, 0, 0, 0, 0, System.nanoTime() - startTime);
+		}
+
+		LongAdder chunks = new LongAdder();
+		LongAdder bytes = new LongAdder();
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			A result = pool.invoke(new FilesTask(files, 0, files.size(), chunks, bytes));
+			return new IngestResult<>(result, files.size(), chunks.sum(), bytes.sum(), pool.getStealCount(),
+				System.nanoTime() - startTime);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} catch (RuntimeException e) {
+			throw new IOException(e);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private A combine(A left, A right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		return combiner.apply(left, right);
+	}
+
+	/**
+	 * 파일 목록 [from, to) 를 절반씩 나눠 처리
+	 */
+	private class FilesTask extends RecursiveTask<A> {
+		private static final long serialVersionUID = 1L;
+
+		private final transient List<Path> files;
+		private final int from;
+		private final int to;
+		private final LongAdder chunks;
+		private final LongAdder bytes;
+
+		FilesTask(List<Path> files, int from, int to, LongAdder chunks, LongAdder bytes) {
+			this.files = files;
+			this.from = from;
+			this.to = to;
+			this.chunks = chunks;
+			this.bytes = bytes;
+		}
+
+		@Override
+		protected A compute() {
+			if (to - from == 1) {
+				return ingestFile(files.get(from));
+			}
+			int mid = (from + to) >>> 1;
+			FilesTask left = new FilesTask(files, from, mid, chunks, bytes);
+			left.fork();
+			A right = new FilesTask(files, mid, to, chunks, bytes).compute();
+			return combine(left.join(), right);
+		}
+
+		private A ingestFile(Path file) {
+			try {
+				long size = Files.size(file);
+				if (size == 0) {
+					return null;
+				}
+				if (size <= chunkSize) {
+					return processChunk(new FileChunk(file, size, 0, size));
+				}
+				long[] boundaries = splitBoundaries(file, size);
+				return new ChunksTask(file, size, boundaries, 0, boundaries.length - 1).compute();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		/**
+		 * 큰 파일 하나의 조각 [from, to) 를 절반씩 나눠 처리
+		 */
+		private class ChunksTask extends RecursiveTask<A> {
+			private static final long serialVersionUID = 1L;
+
+			private final transient Path file;
+			private final long fileSize;
+			private final long[] boundaries;
+			private final int from;
+			private final int to;
+
+			ChunksTask(Path file, long fileSize, long[] boundaries, int from, int to) {
+				this.file = file;
+				this.fileSize = fileSize;
+				this.boundaries = boundaries;
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected A compute() {
+				if (to - from == 1) {
+					try {
+						return processChunk(new FileChunk(file, fileSize, boundaries[from], boundaries[to]));
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+				int mid = (from + to) >>> 1;
+				ChunksTask left = new ChunksTask(file, fileSize, boundaries, from, mid);
+				left.fork();
+				A right = new ChunksTask(file, fileSize, boundaries, mid, to).compute();
+				return combine(left.join(), right);
+			}
+		}
+
+		private A processChunk(FileChunk chunk) throws IOException {
+			chunks.increment();
+			bytes.add(chunk.length());
+			return processor.process(chunk);
+		}
+	}
+
+	/**
+	 * 파일을 chunkSize 단위로 나누고 각 경계를 다음 줄바꿈 뒤로 맞춤
+	 * @return 조각 경계 (첫 값 0, 마지막 값 파일 크기)
+	 */
+	private long[] splitBoundaries(Path file, long size) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			List<Long> boundaries = new ArrayList<>();
+			boundaries.add(0L);
+			ByteBuffer probe = ByteBuffer.allocate(4096);
+			long next = chunkSize;
+			while (next < size) {
+				long boundary = nextLineStart(channel, next, size, probe);
+				if (boundary >= size) {
+					break;
+				}
+				boundaries.add(boundary);
+				next = boundary + chunkSize;
+			}
+			boundaries.add(size);
+
+			long[] result = new long[boundaries.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = boundaries.get(i);
+			}
+			return result;
+		}
+	}
+
+	private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer probe) throws IOException {
+		long offset = from;
+		while (offset < size) {
+			probe.clear();
+			int bytesRead = channel.read(probe, offset);
+			if (bytesRead <= 0) {
+				break;
+			}
+			for (int i = 0; i < bytesRead; i++) {
+				if (probe.get(i) == '\n') {
+					return offset + i + 1;
+				}
+			}
+			offset += bytesRead;
+		}
+		return size;
+	}
+}
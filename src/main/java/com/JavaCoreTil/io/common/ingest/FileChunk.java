@@ -0,0 +1,76 @@
+package com.JavaCoreTil.io.common.ingest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import com.JavaCoreTil.io.common.csv.CsvReader;
+import com.JavaCoreTil.io.common.stream.MappedLineSpliterator;
+import com.JavaCoreTil.io.common.stream.Utf8Line;
+
+/**
+ * 수집 작업 단위: 파일 하나의 [start, end) 바이트 범위
+ * <p>
+ * start 는 항상 라인 시작에 맞춰져 있고 마지막 라인은 end 안에서 끝나므로,
+ * 각 조각을 다른 스레드가 독립적으로 읽을 수 있다.
+ */
+public class FileChunk {
+
+	private final Path file;
+	private final long fileSize;
+	private final long start;
+	private final long end;
+
+	FileChunk(Path file, long fileSize, long start, long end) {
+		this.file = file;
+		this.fileSize = fileSize;
+		this.start = start;
+		this.end = end;
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	public long getStart() {
+		return start;
+	}
+
+	public long getEnd() {
+		return end;
+	}
+
+	public long length() {
+		return end - start;
+	}
+
+	/**
+	 * 파일 첫 조각이면 true (CSV 헤더 건너뛰기 판단용)
+	 */
+	public boolean isFirst() {
+		return start == 0;
+	}
+
+	/**
+	 * 이 조각의 라인 스트림 (사용 후 닫아야 함)
+	 */
+	public Stream<Utf8Line> lines() throws IOException {
+		return MappedLineSpliterator.lines(file, start, end);
+	}
+
+	/**
+	 * 이 조각을 읽는 CSV 리더 (사용 후 닫아야 함)
+	 */
+	public CsvReader openCsv(byte delimiter) throws IOException {
+		return CsvReader.open(file, delimiter, start, end);
+	}
+
+	@Override
+	public String toString() {
+		return file.getFileName() + "[" + start + ", " + end + ")";
+	}
+}
@@ -0,0 +1,57 @@
+package com.JavaCoreTil.io.common.ingest;
+
+/**
+ * 디렉터리 수집 결과 (병합된 집계 + 작업 통계)
+ */
+public class IngestResult<A> {
+
+	private final A result;
+	private final int files;
+	private final long chunks;
+	private final long bytes;
+	private final long steals;
+	private final long elapsedNanos;
+
+	IngestResult(A result, int files, long chunks, long bytes, long steals, long elapsedNanos) {
+		this.result = result;
+		this.files = files;
+		this.chunks = chunks;
+		this.bytes = bytes;
+		this.steals = steals;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * 모든 조각의 결과를 병합한 값 (처리한 조각이 없으면 null)
+	 */
+	public A getResult() {
+		return result;
+	}
+
+	public int getFiles() {
+		return files;
+	}
+
+	public long getChunks() {
+		return chunks;
+	}
+
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * ForkJoinPool 이 다른 작업자의 큐에서 가져간 작업 수 (부하 균형 지표)
+	 */
+	public long getSteals() {
+		return steals;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public double getMegabytesPerSecond() {
+		return elapsedNanos == 0 ? 0.0 : bytes / (1024.0 * 1024.0) / (elapsedNanos / 1_000_000_000.0);
+	}
+}
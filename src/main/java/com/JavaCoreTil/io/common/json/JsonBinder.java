@@ -0,0 +1,271 @@
+package com.JavaCoreTil.io.common.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * JsonTokenizer 로 읽은 객체를 대상 객체의 필드에 바로 넣는 바인더
+ * <p>
+ * 필드는 점으로 연결한 경로로 등록한다({"server": {"port": 8080}} → "server.port").
+ * 경로는 재사용하는 바이트 버퍼에 만들고 등록된 이름과 바이트로 비교하므로, 숫자/불리언 필드만 있는 객체는
+ * String 을 하나도 만들지 않고 바인딩된다. 등록되지 않은 필드와 배열, null 은 건너뛴다.
+ * <p>
+ * 바인더는 스레드 안전하지 않다. 스레드마다 하나씩 쓴다.
+ */
+public final class JsonBinder<T> {
+
+	@FunctionalInterface
+	public interface IntSetter<T> {
+		void set(T target, int value);
+	}
+
+	@FunctionalInterface
+	public interface LongSetter<T> {
+		void set(T target, long value);
+	}
+
+	@FunctionalInterface
+	public interface DoubleSetter<T> {
+		void set(T target, double value);
+	}
+
+	@FunctionalInterface
+	public interface BooleanSetter<T> {
+		void set(T target, boolean value);
+	}
+
+	private static final int INT = 0;
+	private static final int LONG = 1;
+	private static final int DOUBLE = 2;
+	private static final int BOOLEAN = 3;
+	private static final int STRING = 4;
+
+	private static final class Field<T> {
+		final String name;
+		final byte[] path;
+		final int type;
+		final Object setter;
+
+		Field(String name, int type, Object setter) {
+			this.name = name;
+			this.path = name.getBytes(StandardCharsets.UTF_8);
+			this.type = type;
+			this.setter = setter;
+		}
+	}
+
+	private final List<Field<T>> fields = new ArrayList<>();
+	private byte[] path = new byte[128];
+
+	public JsonBinder<T> intField(String name, IntSetter<T> setter) {
+		return add(name, INT, setter);
+	}
+
+	public JsonBinder<T> longField(String name, LongSetter<T> setter) {
+		return add(name, LONG, setter);
+	}
+
+	public JsonBinder<T> doubleField(String name, DoubleSetter<T> setter) {
+		return add(name, DOUBLE, setter);
+	}
+
+	public JsonBinder<T> booleanField(String name, BooleanSetter<T> setter) {
+		return add(name, BOOLEAN, setter);
+	}
+
+	/**
+	 * 문자열 필드 (숫자/불리언 값은 원문 그대로 넘김)
+	 */
+	public JsonBinder<T> stringField(String name, BiConsumer<T, String> setter) {
+		return add(name, STRING, setter);
+	}
+
+	private JsonBinder<T> add(String name, int type, Object setter) {
+		fields.add(new Field<>(name, type, setter));
+		return this;
+	}
+
+	/**
+	 * 다음 최상위 객체 하나를 target 에 바인딩
+	 * @return 입력이 끝났으면 false
+	 * @throws JsonParseException 문법 오류, 최상위 값이 객체가 아님, 필드 형식이 맞지 않음
+	 */
+	public boolean bind(JsonTokenizer tokenizer, T target) throws JsonParseException {
+		JsonToken token = tokenizer.next();
+		if (token == JsonToken.END_DOCUMENT) {
+			return false;
+		}
+		if (token != JsonToken.BEGIN_OBJECT) {
+			throw new JsonParseException("객체가 필요합니다", tokenizer.getPosition());
+		}
+		bindObject(tokenizer, target, 0);
+		return true;
+	}
+
+	/**
+	 * BEGIN_OBJECT 다음부터 END_OBJECT 까지. path[0..prefixLength) 가 현재 객체의 경로.
+	 */
+	private void bindObject(JsonTokenizer tokenizer, T target, int prefixLength) throws JsonParseException {
+		while (tokenizer.next() == JsonToken.FIELD_NAME) {
+			int pathLength = appendName(tokenizer, prefixLength);
+			JsonToken value = tokenizer.next();
+			switch (value) {
+				case BEGIN_OBJECT:
+					bindObject(tokenizer, target, pathLength);
+					break;
+				case BEGIN_ARRAY:
+					tokenizer.skipChildren();
+					break;
+				case NULL:
+					break;
+				default:
+					Field<T> field = find(pathLength);
+					if (field != null) {
+						set(field, tokenizer, value, target);
+					}
+					break;
+			}
+		}
+	}
+
+	private int appendName(JsonTokenizer tokenizer, int prefixLength) {
+		int offset = prefixLength;
+		if (prefixLength > 0) {
+			ensurePath(prefixLength + 1);
+			path[offset++] = '.';
+		}
+		int copied;
+		while ((copied = tokenizer.copyValue(path, offset)) < 0) {
+			ensurePath(path.length * 2);
+		}
+		return offset + copied;
+	}
+
+	private void ensurePath(int length) {
+		if (path.length < length) {
+			path = Arrays.copyOf(path, Math.max(length, path.length * 2));
+		}
+	}
+
+	private Field<T> find(int pathLength) {
+		for (Field<T> field : fields) {
+			if (Arrays.equals(field.path, 0, field.path.length, path, 0, pathLength)) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void set(Field<T> field, JsonTokenizer tokenizer, JsonToken value, T target)
+		throws JsonParseException {
+		try {
+			switch (field.type) {
+				case INT:
+					requireNumber(field, tokenizer, value);
+					((IntSetter<T>)field.setter).set(target, tokenizer.getInt());
+					break;
+				case LONG:
+					requireNumber(field, tokenizer, value);
+					((LongSetter<T>)field.setter).set(target, tokenizer.getLong());
+					break;
+				case DOUBLE:
+					requireNumber(field, tokenizer, value);
+					((DoubleSetter<T>)field.setter).set(target, tokenizer.getDouble());
+					break;
+				case BOOLEAN:
+					if (value != JsonToken.TRUE && value != JsonToken.FALSE) {
+						throw typeError(field, tokenizer);
+					}
+					((BooleanSetter<T>)field.setter).set(target, value == JsonToken.TRUE);
+					break;
+				default:
+					((BiConsumer<T, String>)field.setter).accept(target, tokenizer.getString());
+					break;
+			}
+		} catch (NumberFormatException e) {
+			throw typeError(field, tokenizer);
+		}
+	}
+
+	private static void requireNumber(Field<?> field, JsonTokenizer tokenizer, JsonToken value)
+		throws JsonParseException {
+		if (value != JsonToken.NUMBER) {
+			throw typeError(field, tokenizer);
+		}
+	}
+
+	private static JsonParseException typeError(Field<?> field, JsonTokenizer tokenizer) {
+		return new JsonParseException("'" + field.name + "' 필드의 형식이 잘못되었습니다: " + tokenizer.getString(),
+			tokenizer.getPosition());
+	}
+
+	/**
+	 * 다음 최상위 객체를 점으로 연결한 평면 키로 읽음 (설정 파일용)
+	 * <p>
+	 * {"server": {"port": 8080}} → server.port = 8080. 배열은 스칼라 원소를 쉼표로 이은 문자열이 되고
+	 * null 은 건너뛴다.
+	 * @return 입력이 끝났으면 false
+	 */
+	public static boolean flatten(JsonTokenizer tokenizer, Map<String, String> target) throws JsonParseException {
+		JsonToken token = tokenizer.next();
+		if (token == JsonToken.END_DOCUMENT) {
+			return false;
+		}
+		if (token != JsonToken.BEGIN_OBJECT) {
+			throw new JsonParseException("객체가 필요합니다", tokenizer.getPosition());
+		}
+		flattenObject(tokenizer, "", target);
+		return true;
+	}
+
+	private static void flattenObject(JsonTokenizer tokenizer, String prefix, Map<String, String> target)
+		throws JsonParseException {
+		while (tokenizer.next() == JsonToken.FIELD_NAME) {
+			String key = prefix + tokenizer.getString();
+			JsonToken value = tokenizer.next();
+			switch (value) {
+				case BEGIN_OBJECT:
+					flattenObject(tokenizer, key + ".", target);
+					break;
+				case BEGIN_ARRAY:
+					target.put(key, joinArray(tokenizer));
+					break;
+				case NULL:
+					break;
+				default:
+					target.put(key, tokenizer.getString());
+					break;
+			}
+		}
+	}
+
+	/**
+	 * BEGIN_ARRAY 다음부터 END_ARRAY 까지 (중첩 객체/배열 원소는 건너뜀)
+	 */
+	private static String joinArray(JsonTokenizer tokenizer) throws JsonParseException {
+		StringBuilder joined = new StringBuilder();
+		JsonToken element;
+		while ((element = tokenizer.next()) != JsonToken.END_ARRAY) {
+			switch (element) {
+				case BEGIN_OBJECT:
+				case BEGIN_ARRAY:
+					tokenizer.skipChildren();
+					break;
+				case NULL:
+					break;
+				default:
+					if (joined.length() > 0) {
+						joined.append(',');
+					}
+					joined.append(tokenizer.getString());
+					break;
+			}
+		}
+		return joined.toString();
+	}
+}
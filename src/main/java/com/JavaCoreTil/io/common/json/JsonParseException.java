@@ -0,0 +1,22 @@
+package com.JavaCoreTil.io.common.json;
+
+import java.io.IOException;
+
+/**
+ * JSON 문법 오류 (입력 기준 바이트 위치 포함)
+ */
+public class JsonParseException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long position;
+
+	public JsonParseException(String message, long position) {
+		super(message + " (위치 " + position + ")");
+		this.position = position;
+	}
+
+	public long getPosition() {
+		return position;
+	}
+}
@@ -0,0 +1,21 @@
+package com.JavaCoreTil.io.common.json;
+
+/**
+ * JsonTokenizer 가 돌려주는 토큰 종류
+ */
+public enum JsonToken {
+	BEGIN_OBJECT,
+	END_OBJECT,
+	BEGIN_ARRAY,
+	END_ARRAY,
+	FIELD_NAME,
+	STRING,
+	NUMBER,
+	TRUE,
+	FALSE,
+	NULL,
+	/**
+	 * 입력 끝 (최상위 값 사이에서만 나옴)
+	 */
+	END_DOCUMENT
+}
@@ -0,0 +1,697 @@
+package com.JavaCoreTil.io.common.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * UTF-8 JSON 을 ByteBuffer 에서 바로 읽는 풀(pull) 방식 토크나이저
+ * <p>
+ * next() 를 부를 때마다 토큰 하나를 돌려주고, 값은 입력 버퍼 안의 바이트 범위로만 기억한다.
+ * 문자열 비교(valueEquals), 정수/실수 변환(getLong, getDouble)은 버퍼에서 바로 하므로 String 이나
+ * substring 을 만들지 않는다. String 이 필요할 때만 getString() 으로 디코딩한다.
+ * <p>
+ * 객체 하나를 reset() 으로 계속 재사용할 수 있으며, 최상위 값이 여러 개 이어지는 입력(JSON Lines)도
+ * 차례로 읽는다. 문법(쉼표, 콜론, 괄호 짝, 숫자 형식, 리터럴)은 읽으면서 검증한다.
+ */
+public final class JsonTokenizer {
+
+	private static final byte IN_OBJECT = 1;
+	private static final byte IN_ARRAY = 2;
+
+	// 다음에 올 수 있는 것
+	private static final int EXPECT_VALUE = 0;
+	private static final int EXPECT_VALUE_OR_END = 1; // '[' 다음
+	private static final int EXPECT_NAME_OR_END = 2; // '{' 다음
+	private static final int EXPECT_NAME = 3; // 객체 안 ',' 다음
+	private static final int EXPECT_SEPARATOR = 4; // 값 다음: ',' 또는 닫는 괄호
+
+	// 10^0 ~ 10^22 는 double 로 정확히 표현됨
+	private static final double[] POWERS_OF_TEN = new double[23];
+
+	static {
+		POWERS_OF_TEN[0] = 1.0;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+		}
+	}
+
+	private ByteBuffer buffer;
+	private int start;
+	private int end;
+	private int position;
+
+	private byte[] stack = new byte[32];
+	private int depth;
+	private int state;
+
+	private JsonToken token;
+	private int valueOffset;
+	private int valueLength;
+	private boolean escaped;
+	private boolean integer;
+
+	// 숫자/이스케이프 디코딩용 재사용 버퍼와 이스케이프 해제 결과 길이
+	private byte[] scratch = new byte[64];
+	private int decodedLength;
+
+	public JsonTokenizer() {
+	}
+
+	public JsonTokenizer(ByteBuffer buffer) {
+		reset(buffer);
+	}
+
+	/**
+	 * UTF-8 로 인코딩해 읽음 (편의용)
+	 */
+	public static JsonTokenizer of(String json) {
+		return new JsonTokenizer(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * buffer 의 position ~ limit 을 읽음 (버퍼의 position 은 바꾸지 않음)
+	 */
+	public JsonTokenizer reset(ByteBuffer buffer) {
+		return reset(buffer, buffer.position(), buffer.remaining());
+	}
+
+	public JsonTokenizer reset(ByteBuffer buffer, int offset, int length) {
+		this.buffer = buffer;
+		this.start = offset;
+		this.end = offset + length;
+		this.position = offset;
+		this.depth = 0;
+		this.state = EXPECT_VALUE;
+		this.token = null;
+		return this;
+	}
+
+	/**
+	 * 다음 토큰
+	 * @throws JsonParseException 문법 오류
+	 */
+	public JsonToken next() throws JsonParseException {
+		while (true) {
+			skipWhitespace();
+			if (position >= end) {
+				if (depth == 0 && (state == EXPECT_VALUE || state == EXPECT_SEPARATOR)) {
+					state = EXPECT_VALUE;
+					return token = JsonToken.END_DOCUMENT;
+				}
+				throw error("JSON 이 끝나지 않았습니다");
+			}
+			byte c = buffer.get(position);
+
+			switch (state) {
+				case EXPECT_SEPARATOR:
+					if (depth == 0) {
+						// 다음 최상위 값 (JSON Lines)
+						state = EXPECT_VALUE;
+						continue;
+					}
+					if (c == ',') {
+						position++;
+						state = stack[depth - 1] == IN_OBJECT ? EXPECT_NAME : EXPECT_VALUE;
+						continue;
+					}
+					return close(c);
+
+				case EXPECT_NAME_OR_END:
+					if (c == '}') {
+						return close(c);
+					}
+					state = EXPECT_NAME;
+					continue;
+
+				case EXPECT_NAME:
+					if (c != '"') {
+						throw error("필드 이름이 필요합니다");
+					}
+					position++;
+					scanString();
+					skipWhitespace();
+					if (position >= end || buffer.get(position) != ':') {
+						throw error("':' 가 필요합니다");
+					}
+					position++;
+					state = EXPECT_VALUE;
+					return token = JsonToken.FIELD_NAME;
+
+				case EXPECT_VALUE_OR_END:
+					if (c == ']') {
+						return close(c);
+					}
+					state = EXPECT_VALUE;
+					continue;
+
+				default:
+					return readValue(c);
+			}
+		}
+	}
+
+	private JsonToken readValue(byte c) throws JsonParseException {
+		valueOffset = position;
+		valueLength = 0;
+		switch (c) {
+			case '{':
+				position++;
+				push(IN_OBJECT);
+				state = EXPECT_NAME_OR_END;
+				return token = JsonToken.BEGIN_OBJECT;
+			case '[':
+				position++;
+				push(IN_ARRAY);
+				state = EXPECT_VALUE_OR_END;
+				return token = JsonToken.BEGIN_ARRAY;
+			case '"':
+				position++;
+				scanString();
+				state = EXPECT_SEPARATOR;
+				return token = JsonToken.STRING;
+			case 't':
+				literal("true");
+				return token = JsonToken.TRUE;
+			case 'f':
+				literal("false");
+				return token = JsonToken.FALSE;
+			case 'n':
+				literal("null");
+				return token = JsonToken.NULL;
+			default:
+				if (c == '-' || (c >= '0' && c <= '9')) {
+					scanNumber();
+					state = EXPECT_SEPARATOR;
+					return token = JsonToken.NUMBER;
+				}
+				throw error("값이 필요합니다");
+		}
+	}
+
+	private JsonToken close(byte c) throws JsonParseException {
+		byte container = depth == 0 ? 0 : stack[depth - 1];
+		if (c == '}' && container == IN_OBJECT) {
+			position++;
+			depth--;
+			state = EXPECT_SEPARATOR;
+			return token = JsonToken.END_OBJECT;
+		}
+		if (c == ']' && container == IN_ARRAY) {
+			position++;
+			depth--;
+			state = EXPECT_SEPARATOR;
+			return token = JsonToken.END_ARRAY;
+		}
+		throw error(container == IN_OBJECT ? "',' 또는 '}' 가 필요합니다" : "',' 또는 ']' 가 필요합니다");
+	}
+
+	/**
+	 * 현재 토큰이 객체/배열의 시작이면 짝이 맞는 끝까지 건너뜀 (그 밖의 토큰이면 아무것도 하지 않음)
+	 */
+	public void skipChildren() throws JsonParseException {
+		if (token != JsonToken.BEGIN_OBJECT && token != JsonToken.BEGIN_ARRAY) {
+			return;
+		}
+		int target = depth - 1;
+		while (depth > target) {
+			if (next() == JsonToken.END_DOCUMENT) {
+				throw error("JSON 이 끝나지 않았습니다");
+			}
+		}
+	}
+
+	public JsonToken currentToken() {
+		return token;
+	}
+
+	/**
+	 * 현재 중첩 깊이 (BEGIN_OBJECT 직후 1)
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * 다음에 읽을 바이트의 입력 기준 위치
+	 */
+	public int getPosition() {
+		return position - start;
+	}
+
+	/**
+	 * 현재 값(문자열/필드 이름은 따옴표 안쪽, 이스케이프 포함)의 버퍼 오프셋
+	 */
+	public int getValueOffset() {
+		return valueOffset;
+	}
+
+	public int getValueLength() {
+		return valueLength;
+	}
+
+	/**
+	 * 문자열에 이스케이프(\)가 있었는지
+	 */
+	public boolean hasEscapes() {
+		return escaped;
+	}
+
+	/**
+	 * 현재 숫자가 정수 형식(소수점, 지수 없음)인지
+	 */
+	public boolean isInteger() {
+		return token == JsonToken.NUMBER && integer;
+	}
+
+	/**
+	 * 현재 문자열/필드 이름이 ASCII 문자열과 같은지 (할당 없음)
+	 */
+	public boolean valueEquals(String ascii) {
+		if (escaped) {
+			return getString().equals(ascii);
+		}
+		if (valueLength != ascii.length()) {
+			return false;
+		}
+		for (int i = 0; i < valueLength; i++) {
+			if (buffer.get(valueOffset + i) != (byte)ascii.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 문자열/필드 이름이 UTF-8 바이트와 같은지 (할당 없음, 이스케이프가 있으면 디코딩해 비교)
+	 */
+	public boolean valueEquals(byte[] utf8) {
+		if (escaped) {
+			return Arrays.equals(decodedBytes(), 0, decodedLength, utf8, 0, utf8.length);
+		}
+		if (valueLength != utf8.length) {
+			return false;
+		}
+		for (int i = 0; i < valueLength; i++) {
+			if (buffer.get(valueOffset + i) != utf8[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 문자열/필드 이름을 디코딩한 UTF-8 바이트를 dst 에 복사
+	 * @return 복사한 길이 (dst 가 작으면 -1)
+	 */
+	public int copyValue(byte[] dst, int dstOffset) {
+		if (escaped) {
+			byte[] decoded = decodedBytes();
+			if (decodedLength > dst.length - dstOffset) {
+				return -1;
+			}
+			System.arraycopy(decoded, 0, dst, dstOffset, decodedLength);
+			return decodedLength;
+		}
+		if (valueLength > dst.length - dstOffset) {
+			return -1;
+		}
+		buffer.get(valueOffset, dst, dstOffset, valueLength);
+		return valueLength;
+	}
+
+	/**
+	 * 현재 문자열/필드 이름 (이스케이프 해제, 할당 있음). 숫자/리터럴이면 원문.
+	 */
+	public String getString() {
+		if (token == JsonToken.TRUE || token == JsonToken.FALSE || token == JsonToken.NULL) {
+			return token == JsonToken.TRUE ? "true" : token == JsonToken.FALSE ? "false" : "null";
+		}
+		if (escaped) {
+			return new String(decodedBytes(), 0, decodedLength, StandardCharsets.UTF_8);
+		}
+		if (buffer.hasArray()) {
+			return new String(buffer.array(), buffer.arrayOffset() + valueOffset, valueLength, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = scratch(valueLength);
+		buffer.get(valueOffset, bytes, 0, valueLength);
+		return new String(bytes, 0, valueLength, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 현재 정수 값 (할당 없음)
+	 * @throws NumberFormatException 숫자가 아니거나 정수 형식이 아니거나 long 범위를 넘을 때
+	 */
+	public long getLong() {
+		if (token != JsonToken.NUMBER || !integer) {
+			throw new NumberFormatException("정수가 아닙니다: " + getString());
+		}
+		int p = valueOffset;
+		int limit = valueOffset + valueLength;
+		boolean negative = buffer.get(p) == '-';
+		if (negative) {
+			p++;
+		}
+		// 음수로 누적해 Long.MIN_VALUE 까지 표현
+		long result = 0;
+		for (; p < limit; p++) {
+			int digit = buffer.get(p) - '0';
+			if (result < (Long.MIN_VALUE + digit) / 10) {
+				throw new NumberFormatException("long 범위를 넘었습니다: " + getString());
+			}
+			result = result * 10 - digit;
+		}
+		if (!negative) {
+			if (result == Long.MIN_VALUE) {
+				throw new NumberFormatException("long 범위를 넘었습니다: " + getString());
+			}
+			return -result;
+		}
+		return result;
+	}
+
+	/**
+	 * @throws NumberFormatException int 범위를 넘을 때
+	 */
+	public int getInt() {
+		long value = getLong();
+		if (value != (int)value) {
+			throw new NumberFormatException("int 범위를 넘었습니다: " + value);
+		}
+		return (int)value;
+	}
+
+	/**
+	 * 현재 숫자 값
+	 * <p>
+	 * 유효 숫자 15자리 이하이고 10의 지수가 ±22 이내이면(일반적인 값) 버퍼에서 바로 정확히 계산하고,
+	 * 그 밖의 경우만 Double.parseDouble 로 넘긴다.
+	 */
+	public double getDouble() {
+		if (token != JsonToken.NUMBER) {
+			throw new NumberFormatException("숫자가 아닙니다: " + getString());
+		}
+		int p = valueOffset;
+		int limit = valueOffset + valueLength;
+		boolean negative = buffer.get(p) == '-';
+		if (negative) {
+			p++;
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean fraction = false;
+		for (; p < limit; p++) {
+			byte c = buffer.get(p);
+			if (c == '.') {
+				fraction = true;
+			} else if (c == 'e' || c == 'E') {
+				break;
+			} else {
+				if (mantissa != 0 || c != '0') {
+					digits++;
+				}
+				if (digits > 15) {
+					return slowDouble();
+				}
+				mantissa = mantissa * 10 + (c - '0');
+				if (fraction) {
+					exponent--;
+				}
+			}
+		}
+		if (p < limit) {
+			p++;
+			boolean negativeExponent = buffer.get(p) == '-';
+			if (buffer.get(p) == '-' || buffer.get(p) == '+') {
+				p++;
+			}
+			int explicit = 0;
+			for (; p < limit; p++) {
+				explicit = explicit * 10 + (buffer.get(p) - '0');
+				if (explicit > 1000) {
+					return slowDouble();
+				}
+			}
+			exponent += negativeExponent ? -explicit : explicit;
+		}
+
+		double value;
+		if (mantissa == 0) {
+			value = 0.0;
+		} else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+			value = mantissa * POWERS_OF_TEN[exponent];
+		} else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+			value = mantissa / POWERS_OF_TEN[-exponent];
+		} else {
+			return slowDouble();
+		}
+		return negative ? -value : value;
+	}
+
+	public boolean getBoolean() {
+		if (token != JsonToken.TRUE && token != JsonToken.FALSE) {
+			throw new IllegalStateException("불리언이 아닙니다: " + token);
+		}
+		return token == JsonToken.TRUE;
+	}
+
+	private double slowDouble() {
+		byte[] bytes = scratch(valueLength);
+		buffer.get(valueOffset, bytes, 0, valueLength);
+		return Double.parseDouble(new String(bytes, 0, valueLength, StandardCharsets.ISO_8859_1));
+	}
+
+	private void skipWhitespace() {
+		while (position < end) {
+			byte c = buffer.get(position);
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+				return;
+			}
+			position++;
+		}
+	}
+
+	/**
+	 * 여는 '"' 다음부터 닫는 '"' 까지 범위만 기록 (디코딩은 나중에)
+	 */
+	private void scanString() throws JsonParseException {
+		valueOffset = position;
+		escaped = false;
+		while (position < end) {
+			byte c = buffer.get(position);
+			if (c == '"') {
+				valueLength = position - valueOffset;
+				position++;
+				return;
+			}
+			if (c == '\\') {
+				escaped = true;
+				if (position + 1 >= end) {
+					break;
+				}
+				byte e = buffer.get(position + 1);
+				if (e == 'u') {
+					if (position + 6 > end) {
+						break;
+					}
+					for (int i = 2; i < 6; i++) {
+						if (Character.digit(buffer.get(position + i), 16) < 0) {
+							throw error("유니코드 이스케이프가 잘못되었습니다");
+						}
+					}
+					position += 6;
+					continue;
+				}
+				if ("\"\\/bfnrt".indexOf(e) < 0) {
+					throw error("잘못된 이스케이프입니다");
+				}
+				position += 2;
+				continue;
+			}
+			if ((c & 0xFF) < 0x20) {
+				throw error("문자열에 제어 문자가 있습니다");
+			}
+			position++;
+		}
+		throw error("문자열이 끝나지 않았습니다");
+	}
+
+	/**
+	 * -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?
+	 */
+	private void scanNumber() throws JsonParseException {
+		valueOffset = position;
+		escaped = false;
+		integer = true;
+		if (buffer.get(position) == '-') {
+			position++;
+		}
+		if (position < end && buffer.get(position) == '0') {
+			position++;
+		} else if (digitsFrom() == 0) {
+			throw error("숫자 형식이 잘못되었습니다");
+		}
+		if (position < end && buffer.get(position) == '.') {
+			position++;
+			integer = false;
+			if (digitsFrom() == 0) {
+				throw error("소수점 뒤에 숫자가 필요합니다");
+			}
+		}
+		if (position < end && (buffer.get(position) == 'e' || buffer.get(position) == 'E')) {
+			position++;
+			integer = false;
+			if (position < end && (buffer.get(position) == '+' || buffer.get(position) == '-')) {
+				position++;
+			}
+			if (digitsFrom() == 0) {
+				throw error("지수에 숫자가 필요합니다");
+			}
+		}
+		valueLength = position - valueOffset;
+		if (position < end && !isDelimiter(buffer.get(position))) {
+			throw error("숫자 형식이 잘못되었습니다");
+		}
+	}
+
+	private int digitsFrom() {
+		int count = 0;
+		while (position < end) {
+			byte c = buffer.get(position);
+			if (c < '0' || c > '9') {
+				break;
+			}
+			position++;
+			count++;
+		}
+		return count;
+	}
+
+	private void literal(String word) throws JsonParseException {
+		int length = word.length();
+		if (position + length > end) {
+			throw error("값이 잘못되었습니다");
+		}
+		for (int i = 0; i < length; i++) {
+			if (buffer.get(position + i) != word.charAt(i)) {
+				throw error("값이 잘못되었습니다");
+			}
+		}
+		valueOffset = position;
+		valueLength = length;
+		escaped = false;
+		position += length;
+		if (position < end && !isDelimiter(buffer.get(position))) {
+			throw error("값이 잘못되었습니다");
+		}
+		state = EXPECT_SEPARATOR;
+	}
+
+	private static boolean isDelimiter(byte c) {
+		return c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+	}
+
+	private void push(byte container) {
+		if (depth == stack.length) {
+			stack = Arrays.copyOf(stack, depth * 2);
+		}
+		stack[depth++] = container;
+	}
+
+	/**
+	 * 이스케이프를 해제한 UTF-8 바이트를 scratch 에 만듦 (길이는 decodedLength)
+	 */
+	private byte[] decodedBytes() {
+		byte[] out = scratch(valueLength);
+		int length = 0;
+		int p = valueOffset;
+		int limit = valueOffset + valueLength;
+		while (p < limit) {
+			byte c = buffer.get(p++);
+			if (c != '\\') {
+				out[length++] = c;
+				continue;
+			}
+			byte e = buffer.get(p++);
+			switch (e) {
+				case 'n':
+					out[length++] = '\n';
+					break;
+				case 't':
+					out[length++] = '\t';
+					break;
+				case 'r':
+					out[length++] = '\r';
+					break;
+				case 'b':
+					out[length++] = '\b';
+					break;
+				case 'f':
+					out[length++] = '\f';
+					break;
+				case 'u':
+					int codePoint = hex4(p);
+					p += 4;
+					// 서로게이트 쌍 (😀)
+					if (Character.isHighSurrogate((char)codePoint) && p + 6 <= limit && buffer.get(p) == '\\'
+						&& buffer.get(p + 1) == 'u') {
+						int low = hex4(p + 2);
+						if (Character.isLowSurrogate((char)low)) {
+							codePoint = Character.toCodePoint((char)codePoint, (char)low);
+							p += 6;
+						}
+					}
+					length = putUtf8(out, length, codePoint);
+					break;
+				default:
+					out[length++] = e; // \" \\ \/
+					break;
+			}
+		}
+		decodedLength = length;
+		return out;
+	}
+
+	private int hex4(int p) {
+		int value = 0;
+		for (int i = 0; i < 4; i++) {
+			value = (value << 4) | Character.digit(buffer.get(p + i), 16);
+		}
+		return value;
+	}
+
+	/**
+	 * 코드 포인트를 UTF-8 로 기록 (이스케이프 6바이트가 최대 4바이트가 되므로 원래 길이를 넘지 않음)
+	 */
+	private static int putUtf8(byte[] out, int length, int codePoint) {
+		if (codePoint < 0x80) {
+			out[length++] = (byte)codePoint;
+		} else if (codePoint < 0x800) {
+			out[length++] = (byte)(0xC0 | (codePoint >> 6));
+			out[length++] = (byte)(0x80 | (codePoint & 0x3F));
+		} else if (codePoint < 0x10000) {
+			out[length++] = (byte)(0xE0 | (codePoint >> 12));
+			out[length++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+			out[length++] = (byte)(0x80 | (codePoint & 0x3F));
+		} else {
+			out[length++] = (byte)(0xF0 | (codePoint >> 18));
+			out[length++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+			out[length++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+			out[length++] = (byte)(0x80 | (codePoint & 0x3F));
+		}
+		return length;
+	}
+
+	private byte[] scratch(int length) {
+		if (scratch.length < length) {
+			scratch = new byte[Math.max(length, scratch.length * 2)];
+		}
+		return scratch;
+	}
+
+	private JsonParseException error(String message) {
+		return new JsonParseException(message, position - start);
+	}
+}
@@ -0,0 +1,704 @@
+package com.JavaCoreTil.io.common.log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 프로듀서의 로그 라인을 소켓으로 받아 하나의 롤링 파일로 모으는 로컬 집계 데몬
+ * <p>
+ * 프로듀서(LogShipper)는 루프백 TCP 나 유닉스 도메인 소켓으로 '\n' 으로 끝나는 라인을 보낸다.
+ * <ul>
+ *   <li>I/O 스레드 하나가 Selector 로 모든 연결을 읽어 완성된 라인을 배치 버퍼에 모은다.
+ *       배치는 batchBytes 가 차거나 첫 라인 뒤 batchMillis 가 지나면 봉인된다.</li>
+ *   <li>쓰기 스레드는 봉인된 배치를 큐에서 한꺼번에 꺼내 모두 쓴 뒤 fsync 를 한 번만 한다(그룹 커밋).
+ *       서비스 수십 개가 각자 fsync 하는 대신 배치 묶음마다 한 번만 디스크에 내린다.</li>
+ *   <li>세그먼트 파일(segment-000001.log ...)이 rollBytes 를 넘으면 다음 파일로 넘어간다. 배치 경계에서만 넘어가므로
+ *       라인이 두 파일에 걸치지 않는다.</li>
+ * </ul>
+ * 배치 버퍼는 미리 만든 것을 재사용하고, 모두 쓰기 대기 중이면 I/O 스레드가 읽기를 멈춰 TCP 흐름 제어로
+ * 프로듀서가 느려진다(배압).
+ * <p>
+ * 프로듀서가 SYNC 라인(0x06 한 바이트)을 보내면, 그 연결에서 앞서 보낸 라인이 모두 fsync 된 뒤 0x06 한 바이트로
+ * 응답한다. 같은 시점에 들어온 여러 SYNC 는 같은 fsync 로 응답된다.
+ * <p>
+ * "[LEVEL]" 로 시작하는 라인은 레벨별로 세어 getLevelCounts() 로 실행 중에도 볼 수 있다.
+ */
+public class LogAggregator implements AutoCloseable {
+
+	public static final int DEFAULT_BATCH_BYTES = 1024 * 1024;
+	public static final long DEFAULT_BATCH_MILLIS = 50;
+	public static final long DEFAULT_ROLL_BYTES = 64L * 1024 * 1024;
+
+	static final byte SYNC = 0x06;
+
+	// 연결마다 읽기 버퍼 (이보다 긴 라인은 잘라서 여러 라인으로 기록)
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+	// 쓰기 대기 배치 수
+	private static final int QUEUE_CAPACITY = 8;
+
+	// SYNC 응답용 (여러 개를 한 번에 씀)
+	private static final byte[] ACKS = new byte[64];
+
+	static {
+		Arrays.fill(ACKS, SYNC);
+	}
+
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	/**
+	 * 라인을 모으는 배치 (I/O 스레드가 채우고 쓰기 스레드가 비움)
+	 */
+	private static final class Batch {
+		final ByteBuffer buffer;
+		long sequence;
+		long firstLineNanos;
+		int lines;
+
+		Batch(int capacity) {
+			this.buffer = ByteBuffer.allocateDirect(capacity);
+		}
+	}
+
+	// 종료 표시 (참조 비교)
+	private static final Batch END = new Batch(0);
+
+	/**
+	 * 연결 하나의 상태 (I/O 스레드 전용)
+	 */
+	private static final class Connection {
+		final SocketChannel channel;
+		final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+		// SYNC 마다 fsync 되어야 할 배치 번호 (오름차순)
+		final ArrayDeque<Long> pendingSyncs = new ArrayDeque<>();
+		int acksToWrite;
+		// 버퍼보다 긴 라인을 잘라 기록한 뒤 아직 줄바꿈을 못 만났으면 true (이어지는 조각은 SYNC 가 아님)
+		boolean midLine;
+
+		Connection(SocketChannel channel) {
+			this.channel = channel;
+		}
+	}
+
+	private final Path directory;
+	private final int batchBytes;
+	private final long batchNanos;
+	private final long rollBytes;
+
+	private final BlockingQueue<Batch> freeBatches;
+	private final BlockingQueue<Batch> sealedBatches = new ArrayBlockingQueue<>(QUEUE_CAPACITY + 1);
+
+	private final AtomicLongArray levelCounts = new AtomicLongArray(LogLevel.values().length);
+	private final AtomicLong lineCount = new AtomicLong();
+	private final AtomicLong unleveledLines = new AtomicLong();
+	private final AtomicLong splitLines = new AtomicLong();
+	private final AtomicLong bytesWritten = new AtomicLong();
+	private final AtomicLong batchCount = new AtomicLong();
+	private final AtomicLong fsyncCount = new AtomicLong();
+	private final AtomicLong syncRequests = new AtomicLong();
+	private final AtomicInteger connections = new AtomicInteger();
+	private final AtomicInteger segmentCount = new AtomicInteger();
+
+	private volatile long durableSequence;
+	private volatile IOException writerError;
+	private volatile boolean closing;
+
+	private Selector selector;
+	private ServerSocketChannel server;
+	private SocketAddress boundAddress;
+	private Thread ioThread;
+	private Thread writerThread;
+
+	// I/O 스레드 전용
+	private final List<Connection> syncWaiters = new ArrayList<>();
+	private Batch current;
+	private long nextSequence = 1;
+	private boolean sealRequested;
+
+	// 쓰기 스레드 전용
+	private FileChannel segment;
+	private long segmentBytes;
+	private int segmentNumber;
+
+	public LogAggregator(Path directory) {
+		this(directory, DEFAULT_BATCH_BYTES, DEFAULT_BATCH_MILLIS, DEFAULT_ROLL_BYTES);
+	}
+
+	/**
+	 * @param batchBytes 배치 하나의 최대 크기 (64KB 보다 커야 함: 잘린 64KB 라인 + 줄바꿈이 한 배치에 들어가야 함)
+	 * @param batchMillis 배치의 첫 라인이 쓰이기까지 최대 대기 시간
+	 * @param rollBytes 세그먼트 파일을 넘길 크기
+	 */
+	public LogAggregator(Path directory, int batchBytes, long batchMillis, long rollBytes) {
+		if (batchBytes <= READ_BUFFER_SIZE) {
+			throw new IllegalArgumentException("배치 크기는 " + READ_BUFFER_SIZE + " 바이트보다 커야 합니다: " + batchBytes);
+		}
+		this.directory = directory;
+		this.batchBytes = batchBytes;
+		this.batchNanos = batchMillis * 1_000_000L;
+		this.rollBytes = rollBytes;
+		this.freeBatches = new ArrayBlockingQueue<>(QUEUE_CAPACITY + 1);
+	}
+
+	/**
+	 * 주소에 바인딩하고 수집을 시작
+	 * @param address InetSocketAddress(루프백 권장, 포트 0 이면 임의 포트) 또는 UnixDomainSocketAddress
+	 *                (이전 실행이 남긴 소켓 파일은 지우고 다시 만듦)
+	 * @return 실제로 바인딩된 주소 (LogShipper 에 넘김)
+	 */
+	public synchronized SocketAddress start(SocketAddress address) throws IOException {
+		if (ioThread != null) {
+			throw new IllegalStateException("이미 시작되었습니다.");
+		}
+		Files.createDirectories(directory);
+		segmentNumber = lastSegmentNumber();
+		openNextSegment();
+
+		for (int i = 0; i < QUEUE_CAPACITY + 1; i++) {
+			freeBatches.add(new Batch(batchBytes));
+		}
+		current = takeFreeBatch();
+
+		if (address instanceof UnixDomainSocketAddress) {
+			Files.deleteIfExists(((UnixDomainSocketAddress)address).getPath());
+			server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		} else {
+			server = ServerSocketChannel.open();
+		}
+		try {
+			server.bind(address);
+			server.configureBlocking(false);
+			selector = Selector.open();
+			server.register(selector, SelectionKey.OP_ACCEPT);
+		} catch (IOException e) {
+			server.close();
+			segment.close();
+			throw e;
+		}
+		boundAddress = server.getLocalAddress();
+
+		writerThread = new Thread(this::writeLoop, "log-aggregator-writer");
+		ioThread = new Thread(this::ioLoop, "log-aggregator-io");
+		writerThread.start();
+		ioThread.start();
+		return boundAddress;
+	}
+
+	/**
+	 * 루프백 TCP 임의 포트로 시작
+	 */
+	public SocketAddress startLoopback() throws IOException {
+		return start(new InetSocketAddress("127.0.0.1", 0));
+	}
+
+	/**
+	 * 레벨별 라인 수 (실행 중에도 읽을 수 있음)
+	 */
+	public Map<LogLevel, Long> getLevelCounts() {
+		Map<LogLevel, Long> counts = new EnumMap<>(LogLevel.class);
+		for (LogLevel level : LogLevel.values()) {
+			counts.put(level, levelCounts.get(level.ordinal()));
+		}
+		return counts;
+	}
+
+	public long getLevelCount(LogLevel level) {
+		return levelCounts.get(level.ordinal());
+	}
+
+	public long getLineCount() {
+		return lineCount.get();
+	}
+
+	/**
+	 * "[LEVEL]" 로 시작하지 않는 라인 수
+	 */
+	public long getUnleveledLines() {
+		return unleveledLines.get();
+	}
+
+	/**
+	 * 읽기 버퍼보다 길어 잘린 라인 수
+	 */
+	public long getSplitLines() {
+		return splitLines.get();
+	}
+
+	/**
+	 * 세그먼트 파일에 쓴 바이트 수
+	 */
+	public long getBytesWritten() {
+		return bytesWritten.get();
+	}
+
+	public long getBatchCount() {
+		return batchCount.get();
+	}
+
+	public long getFsyncCount() {
+		return fsyncCount.get();
+	}
+
+	public long getSyncRequests() {
+		return syncRequests.get();
+	}
+
+	public int getConnectionCount() {
+		return connections.get();
+	}
+
+	public int getSegmentCount() {
+		return segmentCount.get();
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * 디렉토리의 세그먼트 파일 (번호순)
+	 */
+	public List<Path> listSegments() throws IOException {
+		List<Path> segments = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+			for (Path path : stream) {
+				segments.add(path);
+			}
+		}
+		segments.sort(null);
+		return segments;
+	}
+
+	/**
+	 * 연결을 모두 닫고, 받은 라인을 모두 쓰고 fsync 한 뒤 종료
+	 * @throws IOException 쓰기 중 오류가 있었을 때
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (ioThread == null || closing) {
+			return;
+		}
+		closing = true;
+		selector.wakeup();
+		try {
+			ioThread.join();
+			writerThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("로그 집계 종료 대기가 중단되었습니다.", e);
+		}
+		if (boundAddress instanceof UnixDomainSocketAddress) {
+			Files.deleteIfExists(((UnixDomainSocketAddress)boundAddress).getPath());
+		}
+		if (writerError != null) {
+			throw writerError;
+		}
+	}
+
+	// ---- I/O 스레드 ----
+
+	private void ioLoop() {
+		List<Connection> open = new ArrayList<>();
+		try {
+			while (!closing && writerError == null) {
+				selector.select(selectTimeoutMillis());
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					if (!key.isValid()) {
+						continue;
+					}
+					if (key.isAcceptable()) {
+						accept(open);
+						continue;
+					}
+					Connection connection = (Connection)key.attachment();
+					if (key.isReadable() && !read(connection)) {
+						closeConnection(key, connection, open);
+						continue;
+					}
+					if (key.isValid() && key.isWritable()) {
+						writeAcks(key, connection);
+					}
+				}
+
+				// SYNC 가 있었거나 시간이 다 된 배치를 봉인 (이번 회차의 SYNC 는 한 배치로 묶임)
+				if (current.lines > 0
+					&& (sealRequested || System.nanoTime() - current.firstLineNanos >= batchNanos)) {
+					seal();
+				}
+				sealRequested = false;
+				answerSyncs();
+			}
+		} catch (IOException | InterruptedException | ClosedSelectorException e) {
+			if (writerError == null) {
+				writerError = e instanceof IOException ? (IOException)e : new IOException("로그 수집이 중단되었습니다.", e);
+			}
+		} finally {
+			for (Connection connection : open) {
+				try {
+					drainOnClose(connection);
+					connection.channel.close();
+				} catch (IOException e) {
+					// 종료 중이므로 무시
+				}
+			}
+			connections.set(0);
+			try {
+				if (current != null && current.lines > 0) {
+					seal();
+				}
+				sealedBatches.put(END);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			try {
+				server.close();
+				selector.close();
+			} catch (IOException e) {
+				// 무시
+			}
+		}
+	}
+
+	private long selectTimeoutMillis() {
+		if (current.lines == 0) {
+			// 빈 배치: SYNC 응답 확인을 위해 쓰기 스레드가 wakeup 함
+			return 0;
+		}
+		long remaining = batchNanos - (System.nanoTime() - current.firstLineNanos);
+		return Math.max(1, remaining / 1_000_000L);
+	}
+
+	private void accept(List<Connection> open) throws IOException {
+		SocketChannel channel;
+		while ((channel = server.accept()) != null) {
+			channel.configureBlocking(false);
+			Connection connection = new Connection(channel);
+			channel.register(selector, SelectionKey.OP_READ, connection);
+			open.add(connection);
+			connections.incrementAndGet();
+		}
+	}
+
+	/**
+	 * @return 연결이 끊겼으면 false
+	 */
+	private boolean read(Connection connection) throws IOException, InterruptedException {
+		ByteBuffer in = connection.in;
+		int read;
+		try {
+			read = connection.channel.read(in);
+		} catch (IOException e) {
+			read = -1;
+		}
+		splitLines(connection, false);
+		if (read < 0) {
+			splitLines(connection, true);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 읽기 버퍼의 완성된 라인을 처리하고 남은 부분을 앞으로 당김
+	 * @param flushPartial true 이면 줄바꿈 없는 마지막 부분도 라인으로 처리 (연결 종료)
+	 */
+	private void splitLines(Connection connection, boolean flushPartial) throws InterruptedException {
+		ByteBuffer in = connection.in;
+		in.flip();
+		int start = in.position();
+		int limit = in.limit();
+		for (int i = start; i < limit; i++) {
+			if (in.get(i) == '\n') {
+				handleLine(connection, in, start, i - start, !connection.midLine);
+				connection.midLine = false;
+				start = i + 1;
+			}
+		}
+		if (start < limit && (flushPartial || (start == 0 && limit == in.capacity()))) {
+			// 버퍼보다 긴 라인은 잘라서 기록
+			if (!flushPartial) {
+				splitLines.incrementAndGet();
+			}
+			handleLine(connection, in, start, limit - start, !connection.midLine);
+			connection.midLine = !flushPartial;
+			start = limit;
+		}
+		in.position(start);
+		in.compact();
+	}
+
+	/**
+	 * @param lineStart 라인의 시작이면 true (잘린 라인의 뒷조각이면 false, SYNC 로 해석하지 않음)
+	 */
+	private void handleLine(Connection connection, ByteBuffer in, int offset, int length, boolean lineStart)
+		throws InterruptedException {
+		if (lineStart && length == 1 && in.get(offset) == SYNC) {
+			syncRequests.incrementAndGet();
+			long required = current.lines > 0 ? current.sequence : current.sequence - 1;
+			if (required > durableSequence) {
+				sealRequested = true;
+			}
+			if (connection.pendingSyncs.isEmpty()) {
+				syncWaiters.add(connection);
+			}
+			connection.pendingSyncs.add(required);
+			return;
+		}
+
+		countLevel(in, offset, length);
+		if (current.buffer.remaining() < length + 1) {
+			seal();
+		}
+		ByteBuffer batch = current.buffer;
+		batch.put(batch.position(), in, offset, length);
+		batch.position(batch.position() + length);
+		batch.put((byte)'\n');
+		if (current.lines++ == 0) {
+			current.firstLineNanos = System.nanoTime();
+		}
+		lineCount.incrementAndGet();
+	}
+
+	private void countLevel(ByteBuffer in, int offset, int length) {
+		if (length >= 3 && in.get(offset) == '[') {
+			int limit = Math.min(offset + length, offset + 9);
+			for (int p = offset + 1; p < limit; p++) {
+				if (in.get(p) == ']') {
+					LogLevel level = LogLevel.match(in, offset + 1, p - offset - 1);
+					if (level != null) {
+						levelCounts.incrementAndGet(level.ordinal());
+						return;
+					}
+					break;
+				}
+			}
+		}
+		unleveledLines.incrementAndGet();
+	}
+
+	private void seal() throws InterruptedException {
+		if (current.lines == 0) {
+			return;
+		}
+		current.buffer.flip();
+		sealedBatches.put(current);
+		current = takeFreeBatch();
+	}
+
+	/**
+	 * 빈 배치를 꺼냄 (모두 쓰기 대기 중이면 쓰기 스레드가 돌려줄 때까지 기다림 = 배압)
+	 */
+	private Batch takeFreeBatch() {
+		Batch batch;
+		try {
+			batch = freeBatches.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		batch.buffer.clear();
+		batch.lines = 0;
+		batch.sequence = nextSequence++;
+		return batch;
+	}
+
+	/**
+	 * fsync 가 끝난 SYNC 에 응답
+	 */
+	private void answerSyncs() throws IOException {
+		long durable = durableSequence;
+		Iterator<Connection> waiters = syncWaiters.iterator();
+		while (waiters.hasNext()) {
+			Connection connection = waiters.next();
+			while (!connection.pendingSyncs.isEmpty() && connection.pendingSyncs.peekFirst() <= durable) {
+				connection.pendingSyncs.pollFirst();
+				connection.acksToWrite++;
+			}
+			SelectionKey key = connection.channel.keyFor(selector);
+			if (key != null && key.isValid() && connection.acksToWrite > 0) {
+				writeAcks(key, connection);
+			}
+			if (connection.pendingSyncs.isEmpty()) {
+				waiters.remove();
+			}
+		}
+	}
+
+	private void writeAcks(SelectionKey key, Connection connection) throws IOException {
+		while (connection.acksToWrite > 0) {
+			ByteBuffer ack = ByteBuffer.wrap(ACKS, 0, Math.min(connection.acksToWrite, ACKS.length));
+			int written;
+			try {
+				written = connection.channel.write(ack);
+			} catch (IOException e) {
+				// 읽기 쪽에서 연결 종료를 처리함
+				connection.acksToWrite = 0;
+				break;
+			}
+			connection.acksToWrite -= written;
+			if (ack.hasRemaining()) {
+				break;
+			}
+		}
+		// 소켓 버퍼가 차서 다 못 썼으면 쓰기 가능 이벤트를 기다림
+		key.interestOps(connection.acksToWrite > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+	}
+
+	private void closeConnection(SelectionKey key, Connection connection, List<Connection> open) {
+		key.cancel();
+		open.remove(connection);
+		syncWaiters.remove(connection);
+		connections.decrementAndGet();
+		try {
+			connection.channel.close();
+		} catch (IOException e) {
+			// 무시
+		}
+	}
+
+	/**
+	 * 종료 시 소켓에 남은 데이터까지 읽음
+	 */
+	private void drainOnClose(Connection connection) throws IOException {
+		try {
+			while (connection.channel.read(connection.in) > 0) {
+				splitLines(connection, false);
+			}
+			splitLines(connection, true);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// ---- 쓰기 스레드 ----
+
+	private void writeLoop() {
+		List<Batch> group = new ArrayList<>();
+		boolean done = false;
+		try {
+			while (!done) {
+				group.add(sealedBatches.take());
+				sealedBatches.drainTo(group);
+
+				long lastSequence = -1;
+				for (Batch batch : group) {
+					if (batch == END) {
+						done = true;
+						continue;
+					}
+					if (segmentBytes >= rollBytes) {
+						segment.force(false);
+						segment.close();
+						openNextSegment();
+					}
+					int size = batch.buffer.remaining();
+					while (batch.buffer.hasRemaining()) {
+						segment.write(batch.buffer);
+					}
+					segmentBytes += size;
+					bytesWritten.addAndGet(size);
+					batchCount.incrementAndGet();
+					lastSequence = batch.sequence;
+				}
+
+				// 그룹 전체에 fsync 한 번
+				if (lastSequence >= 0) {
+					segment.force(false);
+					fsyncCount.incrementAndGet();
+					durableSequence = lastSequence;
+				}
+				for (Batch batch : group) {
+					if (batch != END) {
+						freeBatches.put(batch);
+					}
+				}
+				group.clear();
+				if (!done) {
+					selector.wakeup();
+				}
+			}
+		} catch (IOException e) {
+			writerError = e;
+			selector.wakeup();
+			drainAfterFailure();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			writerError = new IOException("로그 쓰기가 중단되었습니다.", e);
+		} finally {
+			try {
+				segment.close();
+			} catch (IOException e) {
+				// 무시
+			}
+		}
+	}
+
+	/**
+	 * 쓰기 실패 후 I/O 스레드가 막히지 않도록 배치를 돌려주며 END 까지 비움
+	 */
+	private void drainAfterFailure() {
+		try {
+			Batch batch;
+			while ((batch = sealedBatches.take()) != END) {
+				freeBatches.put(batch);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void openNextSegment() throws IOException {
+		segmentNumber++;
+		Path path = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentNumber, SEGMENT_SUFFIX));
+		segment = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.APPEND);
+		segmentBytes = segment.size();
+		segmentCount.incrementAndGet();
+	}
+
+	/**
+	 * 이전 실행이 남긴 세그먼트의 마지막 번호 (새 실행은 다음 번호부터 씀)
+	 */
+	private int lastSegmentNumber() throws IOException {
+		int last = 0;
+		for (Path path : listSegments()) {
+			String name = path.getFileName().toString();
+			try {
+				last = Math.max(last, Integer.parseInt(
+					name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+			} catch (NumberFormatException e) {
+				// 형식이 다른 파일은 무시
+			}
+		}
+		return last;
+	}
+}
@@ -0,0 +1,42 @@
+package com.JavaCoreTil.io.common.log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로그 레벨 (대괄호 안 대문자 이름)
+ */
+public enum LogLevel {
+	TRACE, DEBUG, INFO, WARN, ERROR, FATAL;
+
+	private static final LogLevel[] VALUES = values();
+
+	private final byte[] name = name().getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * buffer[offset, offset + length) 의 ASCII 바이트와 일치하는 레벨 (없으면 null, 할당 없음)
+	 * <p>
+	 * "WARNING" 은 WARN 으로 취급한다.
+	 */
+	static LogLevel match(ByteBuffer buffer, int offset, int length) {
+		if (length == 7 && matches(WARN.name, buffer, offset, 4)
+			&& buffer.get(offset + 4) == 'I' && buffer.get(offset + 5) == 'N' && buffer.get(offset + 6) == 'G') {
+			return WARN;
+		}
+		for (LogLevel level : VALUES) {
+			if (level.name.length == length && matches(level.name, buffer, offset, length)) {
+				return level;
+			}
+		}
+		return null;
+	}
+
+	private static boolean matches(byte[] name, ByteBuffer buffer, int offset, int length) {
+		for (int i = 0; i < length; i++) {
+			if (buffer.get(offset + i) != name[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,224 @@
+package com.JavaCoreTil.io.common.log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+
+/**
+ * "[LEVEL] yyyy-MM-dd HH:mm:ss message" 형식 로그 라인의 할당 없는 파서
+ * <p>
+ * 바이트 범위를 직접 읽어 레벨, 에포크 초, 메시지 범위를 재사용하는 LogRecord 에 채운다.
+ * indexOf/substring/split 과 달리 라인마다 String 이나 배열을 만들지 않으므로 GC 부담이 없다.
+ * <ul>
+ *   <li>날짜 없이 "[LEVEL] HH:mm:ss message" 인 라인은 생성자에 지정한 기본 날짜로 계산한다.</li>
+ *   <li>시각 뒤의 공백과 "- " 구분자는 메시지에서 제외한다.</li>
+ *   <li>로그 시각에는 시간대가 없으므로 생성자에 지정한 오프셋(기본 UTC)의 현지 시각으로 간주한다.</li>
+ * </ul>
+ * 상태(오류 라인 수)를 가지므로 스레드마다 따로 만들어 쓴다.
+ */
+public class LogLineParser {
+
+	// 순회 시 한 번에 맵핑하는 창 크기
+	private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private final long defaultEpochDay;
+	private final int offsetSeconds;
+
+	private long malformedLines;
+
+	public LogLineParser() {
+		this(LocalDate.EPOCH, ZoneOffset.UTC);
+	}
+
+	/**
+	 * @param defaultDate 날짜가 없는 라인에 사용할 날짜
+	 * @param offset 로그 시각의 UTC 오프셋
+	 */
+	public LogLineParser(LocalDate defaultDate, ZoneOffset offset) {
+		this.defaultEpochDay = defaultDate.toEpochDay();
+		this.offsetSeconds = offset.getTotalSeconds();
+	}
+
+	/**
+	 * buffer 의 [offset, offset + length) 바이트(줄바꿈 제외)를 파싱해 record 에 채움
+	 * @return 형식에 맞으면 true (false 이면 record 내용은 의미 없음)
+	 */
+	public boolean parse(ByteBuffer buffer, int offset, int length, LogRecord record) {
+		int end = offset + length;
+		if (end > offset && buffer.get(end - 1) == '\r') {
+			end--;
+		}
+
+		// [LEVEL]
+		if (end - offset < 3 || buffer.get(offset) != '[') {
+			return false;
+		}
+		int levelStart = offset + 1;
+		int p = levelStart;
+		while (p < end && p - levelStart <= 7 && buffer.get(p) != ']') {
+			p++;
+		}
+		if (p >= end || buffer.get(p) != ']') {
+			return false;
+		}
+		LogLevel level = LogLevel.match(buffer, levelStart, p - levelStart);
+		if (level == null) {
+			return false;
+		}
+		p = skipSpaces(buffer, p + 1, end);
+
+		// yyyy-MM-dd (선택)
+		long epochDay = defaultEpochDay;
+		boolean hasDate = false;
+		if (p + 10 <= end && buffer.get(p + 4) == '-' && buffer.get(p + 7) == '-') {
+			int year = digits(buffer, p, 4);
+			int month = digits(buffer, p + 5, 2);
+			int day = digits(buffer, p + 8, 2);
+			if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+				return false;
+			}
+			epochDay = epochDay(year, month, day);
+			hasDate = true;
+			p = skipSpaces(buffer, p + 10, end);
+		}
+
+		// HH:mm:ss
+		if (p + 8 > end || buffer.get(p + 2) != ':' || buffer.get(p + 5) != ':') {
+			return false;
+		}
+		int hour = digits(buffer, p, 2);
+		int minute = digits(buffer, p + 3, 2);
+		int second = digits(buffer, p + 6, 2);
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 60) {
+			return false;
+		}
+		p = skipSpaces(buffer, p + 8, end);
+
+		// 선택적 "- " 구분자
+		if (p + 1 < end && buffer.get(p) == '-' && buffer.get(p + 1) == ' ') {
+			p = skipSpaces(buffer, p + 2, end);
+		}
+
+		int secondOfDay = hour * 3600 + minute * 60 + second;
+		record.source = buffer;
+		record.lineOffset = offset;
+		record.level = level;
+		record.secondOfDay = secondOfDay;
+		record.epochSecond = epochDay * 86400 + secondOfDay - offsetSeconds;
+		record.hasDate = hasDate;
+		record.messageOffset = p;
+		record.messageLength = end - p;
+		return true;
+	}
+
+	/**
+	 * 파일 전체를 맵핑해 읽으며 형식에 맞는 라인마다 같은 LogRecord 로 handler 를 호출
+	 * <p>
+	 * 라인마다 객체를 만들지 않으므로 handler 도 record 를 보관하지 말아야 한다.
+	 * 형식에 맞지 않는 라인은 건너뛰고 getMalformedLines() 에 센다.
+	 * @return handler 에 전달한 라인 수
+	 */
+	public long scan(Path file, Consumer<LogRecord> handler) throws IOException {
+		LogRecord record = new LogRecord();
+		long parsed = 0;
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long position = 0;
+			int windowSize = WINDOW_SIZE;
+
+			while (position < size) {
+				long length = Math.min(size - position, windowSize);
+				MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+				int limit = window.limit();
+				boolean lastWindow = position + limit >= size;
+
+				int lineStart = 0;
+				for (int i = 0; i < limit; i++) {
+					if (window.get(i) == '\n') {
+						if (i > lineStart) {
+							if (parse(window, lineStart, i - lineStart, record)) {
+								record.lineOffset = position + lineStart;
+								handler.accept(record);
+								parsed++;
+							} else {
+								malformedLines++;
+							}
+						}
+						lineStart = i + 1;
+					}
+				}
+
+				if (lastWindow) {
+					// 줄바꿈 없이 끝나는 마지막 라인
+					if (limit > lineStart) {
+						if (parse(window, lineStart, limit - lineStart, record)) {
+							record.lineOffset = position + lineStart;
+							handler.accept(record);
+							parsed++;
+						} else {
+							malformedLines++;
+						}
+					}
+					break;
+				}
+
+				if (lineStart == 0) {
+					// 창 하나보다 긴 라인이면 더 큰 창으로 다시 맵핑
+					windowSize = (int)Math.min(Integer.MAX_VALUE - 8, (long)windowSize * 2);
+				} else {
+					// 창 끝에 걸친 라인은 다음 창에서 처음부터 다시 읽음
+					position += lineStart;
+				}
+			}
+		}
+		return parsed;
+	}
+
+	/**
+	 * scan() 에서 형식이 맞지 않아 건너뛴 라인 수 (누적)
+	 */
+	public long getMalformedLines() {
+		return malformedLines;
+	}
+
+	private static int skipSpaces(ByteBuffer buffer, int p, int end) {
+		while (p < end && buffer.get(p) == ' ') {
+			p++;
+		}
+		return p;
+	}
+
+	/**
+	 * count 자리 십진수 (숫자가 아니면 -1)
+	 */
+	private static int digits(ByteBuffer buffer, int p, int count) {
+		int value = 0;
+		for (int i = 0; i < count; i++) {
+			int digit = buffer.get(p + i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * 그레고리력 날짜의 1970-01-01 기준 일수 (LocalDate 객체 없이 계산)
+	 */
+	private static long epochDay(int year, int month, int day) {
+		long y = month <= 2 ? year - 1 : year;
+		long era = Math.floorDiv(y, 400);
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097 + dayOfEra - 719468;
+	}
+}
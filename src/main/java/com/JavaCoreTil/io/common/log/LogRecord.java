@@ -0,0 +1,118 @@
+package com.JavaCoreTil.io.common.log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파싱된 로그 라인 하나 (재사용되는 가변 플라이웨이트)
+ * <p>
+ * 레벨과 시각은 기본형 필드로, 메시지는 원본 버퍼 안의 바이트 범위로만 기억한다.
+ * LogLineParser 가 다음 라인을 파싱하면 내용이 덮어써지므로, 라인 처리 중에만 사용하고 보관하지 않는다.
+ * 보관이 필요하면 getMessage() 로 문자열을 만든다 (이때만 할당 발생).
+ */
+public final class LogRecord {
+
+	ByteBuffer source;
+	long lineOffset;
+	int messageOffset; // source 기준 절대 오프셋
+	int messageLength;
+	LogLevel level;
+	long epochSecond;
+	int secondOfDay;
+	boolean hasDate;
+
+	/**
+	 * 라인 시작 위치 (scan() 에서는 파일 오프셋, parse() 에서는 버퍼 안 오프셋)
+	 */
+	public long getLineOffset() {
+		return lineOffset;
+	}
+
+	public LogLevel getLevel() {
+		return level;
+	}
+
+	/**
+	 * 에포크 초 (날짜가 없는 라인은 파서에 지정한 기본 날짜 기준)
+	 */
+	public long getEpochSecond() {
+		return epochSecond;
+	}
+
+	/**
+	 * 로그에 적힌 시:분:초 를 하루 중 초로 (0 ~ 86399)
+	 */
+	public int getSecondOfDay() {
+		return secondOfDay;
+	}
+
+	public int getHour() {
+		return secondOfDay / 3600;
+	}
+
+	/**
+	 * 라인에 yyyy-MM-dd 날짜가 있었으면 true
+	 */
+	public boolean hasDate() {
+		return hasDate;
+	}
+
+	public int getMessageLength() {
+		return messageLength;
+	}
+
+	public byte messageByteAt(int index) {
+		return source.get(messageOffset + index);
+	}
+
+	/**
+	 * 메시지가 ASCII 접두어로 시작하는지 (할당 없음)
+	 */
+	public boolean messageStartsWithAscii(String prefix) {
+		if (prefix.length() > messageLength) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length(); i++) {
+			if (source.get(messageOffset + i) != (byte)prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 메시지에서 fromByte 이후 ASCII 패턴이 처음 나오는 바이트 오프셋 (없으면 -1, 할당 없음)
+	 */
+	public int messageIndexOfAscii(String pattern, int fromByte) {
+		int patternLength = pattern.length();
+		int last = messageLength - patternLength;
+		outer:
+		for (int i = Math.max(0, fromByte); i <= last; i++) {
+			for (int j = 0; j < patternLength; j++) {
+				if (source.get(messageOffset + i + j) != (byte)pattern.charAt(j)) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	public boolean messageContainsAscii(String pattern) {
+		return messageIndexOfAscii(pattern, 0) >= 0;
+	}
+
+	/**
+	 * 메시지를 UTF-8 문자열로 디코딩 (할당 발생)
+	 */
+	public String getMessage() {
+		byte[] bytes = new byte[messageLength];
+		source.get(messageOffset, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public String toString() {
+		return "[" + level + "] " + epochSecond + " " + getMessage();
+	}
+}
@@ -0,0 +1,120 @@
+package com.JavaCoreTil.io.common.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LogAggregator 로 로그 라인을 보내는 프로듀서 쪽 클라이언트
+ * <p>
+ * 라인을 버퍼에 모아 가득 차거나 flush() 할 때 한 번에 보낸다. 디스크 fsync 는 집계 데몬이 여러 프로듀서를
+ * 묶어 한 번에 하므로, 프로듀서는 sync() 로 "여기까지 디스크에 기록됨" 응답만 기다리면 된다.
+ * 여러 스레드가 같이 써도 되지만 보통은 스레드(서비스)마다 하나씩 연결한다.
+ */
+public class LogShipper implements Closeable {
+
+	private static final int BUFFER_SIZE = 32 * 1024;
+
+	private final SocketChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+	private final ByteBuffer ack = ByteBuffer.allocate(1);
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+	/**
+	 * @param address LogAggregator.start() 가 돌려준 주소 (TCP 또는 유닉스 도메인 소켓)
+	 */
+	public LogShipper(SocketAddress address) throws IOException {
+		this.channel = SocketChannel.open(address);
+	}
+
+	/**
+	 * 라인 하나를 보냄 (줄바꿈은 붙여 줌, 라인 안의 줄바꿈은 공백으로 바꿈)
+	 * SYNC 바이트(0x06) 하나뿐인 라인은 동기화 요청으로 해석되므로 공백 하나로 바꿔 보낸다.
+	 */
+	public synchronized void send(CharSequence line) throws IOException {
+		if (line.length() == 1 && line.charAt(0) == (char)LogAggregator.SYNC) {
+			line = " ";
+		}
+		CharBuffer chars = CharBuffer.wrap(line);
+		encoder.reset();
+		while (true) {
+			int start = buffer.position();
+			CoderResult result = encoder.encode(chars, buffer, true);
+			replaceNewlines(start, buffer.position());
+			if (result.isOverflow()) {
+				flushBuffer();
+				continue;
+			}
+			if (result.isError()) {
+				result.throwException();
+			}
+			break;
+		}
+		while (encoder.flush(buffer).isOverflow()) {
+			flushBuffer();
+		}
+		if (!buffer.hasRemaining()) {
+			flushBuffer();
+		}
+		buffer.put((byte)'\n');
+	}
+
+	/**
+	 * 버퍼에 모인 라인을 보냄
+	 */
+	public synchronized void flush() throws IOException {
+		flushBuffer();
+	}
+
+	/**
+	 * 지금까지 보낸 라인이 집계 데몬에서 fsync 될 때까지 기다림
+	 */
+	public synchronized void sync() throws IOException {
+		if (buffer.remaining() < 2) {
+			flushBuffer();
+		}
+		buffer.put(LogAggregator.SYNC).put((byte)'\n');
+		flushBuffer();
+		ack.clear();
+		while (ack.hasRemaining()) {
+			if (channel.read(ack) < 0) {
+				throw new IOException("집계 데몬이 연결을 닫았습니다.");
+			}
+		}
+		if (ack.get(0) != LogAggregator.SYNC) {
+			throw new IOException("잘못된 응답입니다: " + ack.get(0));
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			flushBuffer();
+		} finally {
+			channel.close();
+		}
+	}
+
+	private void replaceNewlines(int from, int to) {
+		for (int i = from; i < to; i++) {
+			byte b = buffer.get(i);
+			if (b == '\n' || b == '\r') {
+				buffer.put(i, (byte)' ');
+			}
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+}
@@ -0,0 +1,263 @@
+package com.JavaCoreTil.io.common.monitor;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import com.JavaCoreTil.io.common.histogram.LatencyHistogram;
+
+/**
+ * 스트림/채널 하나(또는 같은 이름을 쓰는 여러 개)의 I/O 측정값
+ * <p>
+ * 바이트 수와 호출 수는 LongAdder(스트라이프 카운터)로 세므로 여러 스레드가 동시에 기록해도 한 캐시 라인을
+ * 두고 다투지 않는다. 지연 시간 히스토그램도 스레드 해시로 고른 스트라이프마다 따로 두고, 읽을 때만 합친다.
+ * 기록 비용은 System.nanoTime() 두 번과 카운터 증가 정도라 8KB 이상 호출에서는 측정되지 않을 만큼 작다.
+ * <p>
+ * 초당 비율(getReadBytesPerSecond 등)은 IoMonitorRegistry 의 샘플러가 1초마다 갱신한다.
+ * 지연 시간 단위는 나노초이다.
+ */
+public final class IoMetrics {
+
+	// 히스토그램 범위: 1ns ~ 10s, 유효 숫자 2자리 (오차 1% 이내)
+	private static final long HIGHEST_LATENCY_NANOS = 10_000_000_000L;
+	private static final int SIGNIFICANT_DIGITS = 2;
+
+	private static final int STRIPES = stripeCount();
+
+	/**
+	 * 스레드 묶음 하나의 지연 시간 기록 (자기 모니터로 잠금)
+	 */
+	private static final class Stripe {
+		final LatencyHistogram read = newHistogram();
+		final LatencyHistogram write = newHistogram();
+		final LatencyHistogram sync = newHistogram();
+	}
+
+	private final String name;
+
+	private final LongAdder bytesRead = new LongAdder();
+	private final LongAdder bytesWritten = new LongAdder();
+	private final LongAdder readOps = new LongAdder();
+	private final LongAdder writeOps = new LongAdder();
+	private final LongAdder syncOps = new LongAdder();
+
+	// 쓰는 스레드가 생길 때 만듦
+	private final AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(STRIPES);
+
+	// 샘플러 전용 (이전 샘플)
+	private long lastSampleNanos;
+	private long lastBytesRead;
+	private long lastBytesWritten;
+	private long lastReadOps;
+	private long lastWriteOps;
+
+	private volatile double readBytesPerSecond;
+	private volatile double writeBytesPerSecond;
+	private volatile double readOpsPerSecond;
+	private volatile double writeOpsPerSecond;
+
+	public IoMetrics(String name) {
+		this.name = name;
+		this.lastSampleNanos = System.nanoTime();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 읽기 한 번 기록
+	 * @param bytes 읽은 바이트 수 (EOF 이면 -1, 호출 수와 지연만 기록)
+	 */
+	public void recordRead(long bytes, long nanos) {
+		if (bytes > 0) {
+			bytesRead.add(bytes);
+		}
+		readOps.increment();
+		Stripe stripe = stripe();
+		synchronized (stripe) {
+			stripe.read.recordValue(nanos);
+		}
+	}
+
+	public void recordWrite(long bytes, long nanos) {
+		if (bytes > 0) {
+			bytesWritten.add(bytes);
+		}
+		writeOps.increment();
+		Stripe stripe = stripe();
+		synchronized (stripe) {
+			stripe.write.recordValue(nanos);
+		}
+	}
+
+	/**
+	 * fsync(force) 한 번 기록
+	 */
+	public void recordSync(long nanos) {
+		syncOps.increment();
+		Stripe stripe = stripe();
+		synchronized (stripe) {
+			stripe.sync.recordValue(nanos);
+		}
+	}
+
+	/**
+	 * 지연 시간 없이 바이트만 기록 (1바이트 read()/write(int) 처럼 시간 측정이 호출보다 비싼 경우)
+	 */
+	void countRead(long bytes) {
+		bytesRead.add(bytes);
+	}
+
+	void countWrite(long bytes) {
+		bytesWritten.add(bytes);
+	}
+
+	public long getBytesRead() {
+		return bytesRead.sum();
+	}
+
+	public long getBytesWritten() {
+		return bytesWritten.sum();
+	}
+
+	public long getReadOps() {
+		return readOps.sum();
+	}
+
+	public long getWriteOps() {
+		return writeOps.sum();
+	}
+
+	public long getSyncOps() {
+		return syncOps.sum();
+	}
+
+	/**
+	 * 읽기 지연 시간 (모든 스트라이프를 합친 사본, 나노초)
+	 */
+	public LatencyHistogram getReadLatency() {
+		LatencyHistogram merged = newHistogram();
+		for (int i = 0; i < STRIPES; i++) {
+			Stripe stripe = stripes.get(i);
+			if (stripe != null) {
+				synchronized (stripe) {
+					merged.add(stripe.read);
+				}
+			}
+		}
+		return merged;
+	}
+
+	public LatencyHistogram getWriteLatency() {
+		LatencyHistogram merged = newHistogram();
+		for (int i = 0; i < STRIPES; i++) {
+			Stripe stripe = stripes.get(i);
+			if (stripe != null) {
+				synchronized (stripe) {
+					merged.add(stripe.write);
+				}
+			}
+		}
+		return merged;
+	}
+
+	public LatencyHistogram getSyncLatency() {
+		LatencyHistogram merged = newHistogram();
+		for (int i = 0; i < STRIPES; i++) {
+			Stripe stripe = stripes.get(i);
+			if (stripe != null) {
+				synchronized (stripe) {
+					merged.add(stripe.sync);
+				}
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * 마지막 샘플 구간의 초당 읽은 바이트 수
+	 */
+	public double getReadBytesPerSecond() {
+		return readBytesPerSecond;
+	}
+
+	public double getWriteBytesPerSecond() {
+		return writeBytesPerSecond;
+	}
+
+	public double getReadOpsPerSecond() {
+		return readOpsPerSecond;
+	}
+
+	public double getWriteOpsPerSecond() {
+		return writeOpsPerSecond;
+	}
+
+	/**
+	 * 이전 샘플 이후 증가량으로 초당 비율 갱신 (IoMonitorRegistry 샘플러 스레드에서 호출)
+	 */
+	synchronized void sample(long nowNanos) {
+		double seconds = (nowNanos - lastSampleNanos) / 1_000_000_000.0;
+		if (seconds <= 0) {
+			return;
+		}
+		long read = bytesRead.sum();
+		long written = bytesWritten.sum();
+		long reads = readOps.sum();
+		long writes = writeOps.sum();
+
+		readBytesPerSecond = (read - lastBytesRead) / seconds;
+		writeBytesPerSecond = (written - lastBytesWritten) / seconds;
+		readOpsPerSecond = (reads - lastReadOps) / seconds;
+		writeOpsPerSecond = (writes - lastWriteOps) / seconds;
+
+		lastSampleNanos = nowNanos;
+		lastBytesRead = read;
+		lastBytesWritten = written;
+		lastReadOps = reads;
+		lastWriteOps = writes;
+	}
+
+	public InputStream wrap(InputStream in) {
+		return new MonitoredInputStream(in, this);
+	}
+
+	public OutputStream wrap(OutputStream out) {
+		return new MonitoredOutputStream(out, this);
+	}
+
+	public FileChannel wrap(FileChannel channel) {
+		return new MonitoredFileChannel(channel, this);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s: 읽기 %,dB/%,d회, 쓰기 %,dB/%,d회, fsync %,d회", name, getBytesRead(), getReadOps(),
+			getBytesWritten(), getWriteOps(), getSyncOps());
+	}
+
+	private Stripe stripe() {
+		int hash = Thread.currentThread().hashCode();
+		int index = (hash ^ (hash >>> 16)) & (STRIPES - 1);
+		Stripe stripe = stripes.get(index);
+		if (stripe == null) {
+			stripes.compareAndSet(index, null, new Stripe());
+			stripe = stripes.get(index);
+		}
+		return stripe;
+	}
+
+	private static LatencyHistogram newHistogram() {
+		return new LatencyHistogram(HIGHEST_LATENCY_NANOS, SIGNIFICANT_DIGITS);
+	}
+
+	/**
+	 * 코어 수 이상인 2의 거듭제곱 (최대 64)
+	 */
+	private static int stripeCount() {
+		int processors = Math.min(Runtime.getRuntime().availableProcessors(), 64);
+		return Integer.highestOneBit(Math.max(1, processors * 2 - 1));
+	}
+}
@@ -0,0 +1,116 @@
+package com.JavaCoreTil.io.common.monitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 이름별 IoMetrics 모음과 1초 주기 샘플러
+ * <p>
+ * global() 은 프로세스 전체에서 공유하는 레지스트리이다. 처음 metrics() 를 부를 때 데몬 스레드가 시작되어
+ * 1초마다 모든 IoMetrics 의 초당 비율을 갱신하고, 등록된 리스너에 이름순 목록을 넘긴다.
+ * <pre>
+ * InputStream in = IoMonitorRegistry.global().metrics("log-reader").wrap(Files.newInputStream(path));
+ * </pre>
+ */
+public class IoMonitorRegistry {
+
+	public static final long SAMPLE_INTERVAL_MILLIS = 1000;
+
+	private static final IoMonitorRegistry GLOBAL = new IoMonitorRegistry();
+
+	private final Map<String, IoMetrics> metrics = new ConcurrentHashMap<>();
+	private final List<Consumer<List<IoMetrics>>> listeners = new CopyOnWriteArrayList<>();
+	private Thread sampler;
+
+	public static IoMonitorRegistry global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * 이름에 해당하는 IoMetrics (없으면 만들어 등록)
+	 */
+	public IoMetrics metrics(String name) {
+		IoMetrics existing = metrics.get(name);
+		if (existing != null) {
+			return existing;
+		}
+		startSampler();
+		return metrics.computeIfAbsent(name, IoMetrics::new);
+	}
+
+	/**
+	 * 등록된 IoMetrics (이름순)
+	 */
+	public List<IoMetrics> all() {
+		List<IoMetrics> all = new ArrayList<>(metrics.values());
+		all.sort((a, b) -> a.getName().compareTo(b.getName()));
+		return all;
+	}
+
+	public void remove(String name) {
+		metrics.remove(name);
+	}
+
+	/**
+	 * 샘플마다 샘플러 스레드에서 호출 (오래 걸리면 다음 샘플이 늦어짐)
+	 */
+	public void addListener(Consumer<List<IoMetrics>> listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Consumer<List<IoMetrics>> listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * 지금 바로 초당 비율을 갱신 (직전 샘플 이후 구간 기준)
+	 * 리스너의 예외는 stderr 에 기록하고 나머지 리스너를 계속 호출한다.
+	 */
+	public void sampleNow() {
+		long now = System.nanoTime();
+		List<IoMetrics> all = all();
+		for (IoMetrics each : all) {
+			each.sample(now);
+		}
+		for (Consumer<List<IoMetrics>> listener : listeners) {
+			// 리스너 하나의 예외로 다른 리스너나 샘플러 스레드가 멈추지 않도록 기록만 함
+			try {
+				listener.accept(all);
+			} catch (RuntimeException e) {
+				System.err.println("I/O 모니터 리스너 실패: " + e);
+			}
+		}
+	}
+
+	private synchronized void startSampler() {
+		if (sampler != null) {
+			return;
+		}
+		sampler = new Thread(() -> {
+			long next = System.nanoTime();
+			try {
+				while (true) {
+					// 밀리지 않도록 시작 시각 기준으로 다음 샘플 시각 계산
+					next += SAMPLE_INTERVAL_MILLIS * 1_000_000L;
+					long sleepMillis = (next - System.nanoTime()) / 1_000_000L;
+					if (sleepMillis > 0) {
+						Thread.sleep(sleepMillis);
+					}
+					try {
+						sampleNow();
+					} catch (RuntimeException e) {
+						System.err.println("I/O 모니터 샘플링 실패: " + e);
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "io-monitor-sampler");
+		sampler.setDaemon(true);
+		sampler.start();
+	}
+}
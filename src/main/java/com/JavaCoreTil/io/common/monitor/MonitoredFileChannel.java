@@ -0,0 +1,143 @@
+package com.JavaCoreTil.io.common.monitor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 읽기/쓰기/force 를 IoMetrics 에 기록하는 FileChannel
+ * <p>
+ * transferTo/transferFrom 은 옮긴 바이트를 각각 읽기/쓰기로 기록한다. map() 으로 얻은 버퍼를 통한 접근은
+ * 시스템 호출이 아니므로 기록되지 않는다. lock()/tryLock() 이 돌려주는 FileLock 의 channel() 은 원래 채널이다.
+ */
+public class MonitoredFileChannel extends FileChannel {
+
+	private final FileChannel channel;
+	private final IoMetrics metrics;
+
+	public MonitoredFileChannel(FileChannel channel, IoMetrics metrics) {
+		this.channel = channel;
+		this.metrics = metrics;
+	}
+
+	public IoMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	public int read(ByteBuffer dst) throws IOException {
+		long start = System.nanoTime();
+		int read = channel.read(dst);
+		metrics.recordRead(read, System.nanoTime() - start);
+		return read;
+	}
+
+	@Override
+	public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+		long start = System.nanoTime();
+		long read = channel.read(dsts, offset, length);
+		metrics.recordRead(read, System.nanoTime() - start);
+		return read;
+	}
+
+	@Override
+	public int read(ByteBuffer dst, long position) throws IOException {
+		long start = System.nanoTime();
+		int read = channel.read(dst, position);
+		metrics.recordRead(read, System.nanoTime() - start);
+		return read;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		long start = System.nanoTime();
+		int written = channel.write(src);
+		metrics.recordWrite(written, System.nanoTime() - start);
+		return written;
+	}
+
+	@Override
+	public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+		long start = System.nanoTime();
+		long written = channel.write(srcs, offset, length);
+		metrics.recordWrite(written, System.nanoTime() - start);
+		return written;
+	}
+
+	@Override
+	public int write(ByteBuffer src, long position) throws IOException {
+		long start = System.nanoTime();
+		int written = channel.write(src, position);
+		metrics.recordWrite(written, System.nanoTime() - start);
+		return written;
+	}
+
+	@Override
+	public void force(boolean metaData) throws IOException {
+		long start = System.nanoTime();
+		channel.force(metaData);
+		metrics.recordSync(System.nanoTime() - start);
+	}
+
+	@Override
+	public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+		long start = System.nanoTime();
+		long transferred = channel.transferTo(position, count, target);
+		metrics.recordRead(transferred, System.nanoTime() - start);
+		return transferred;
+	}
+
+	@Override
+	public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+		long start = System.nanoTime();
+		long transferred = channel.transferFrom(src, position, count);
+		metrics.recordWrite(transferred, System.nanoTime() - start);
+		return transferred;
+	}
+
+	@Override
+	public long position() throws IOException {
+		return channel.position();
+	}
+
+	@Override
+	public FileChannel position(long newPosition) throws IOException {
+		channel.position(newPosition);
+		return this;
+	}
+
+	@Override
+	public long size() throws IOException {
+		return channel.size();
+	}
+
+	@Override
+	public FileChannel truncate(long size) throws IOException {
+		channel.truncate(size);
+		return this;
+	}
+
+	@Override
+	public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+		return channel.map(mode, position, size);
+	}
+
+	@Override
+	public FileLock lock(long position, long size, boolean shared) throws IOException {
+		return channel.lock(position, size, shared);
+	}
+
+	@Override
+	public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+		return channel.tryLock(position, size, shared);
+	}
+
+	@Override
+	protected void implCloseChannel() throws IOException {
+		channel.close();
+	}
+}
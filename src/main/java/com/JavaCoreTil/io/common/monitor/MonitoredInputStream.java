@@ -0,0 +1,42 @@
+package com.JavaCoreTil.io.common.monitor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트, 호출 수, 호출별 지연 시간을 IoMetrics 에 기록하는 InputStream
+ * <p>
+ * 배열 단위 read 만 시간을 잰다. 1바이트 read() 는 nanoTime() 이 호출 자체보다 비싸므로 바이트 수만 센다
+ * (1바이트 읽기가 많다면 BufferedInputStream 을 이 스트림 바깥에 씌운다).
+ */
+public class MonitoredInputStream extends FilterInputStream {
+
+	private final IoMetrics metrics;
+
+	public MonitoredInputStream(InputStream in, IoMetrics metrics) {
+		super(in);
+		this.metrics = metrics;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = in.read();
+		if (b >= 0) {
+			metrics.countRead(1);
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		long start = System.nanoTime();
+		int read = in.read(b, off, len);
+		metrics.recordRead(read, System.nanoTime() - start);
+		return read;
+	}
+
+	public IoMetrics getMetrics() {
+		return metrics;
+	}
+}
@@ -0,0 +1,38 @@
+package com.JavaCoreTil.io.common.monitor;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 쓴 바이트, 호출 수, 호출별 지연 시간을 IoMetrics 에 기록하는 OutputStream
+ * <p>
+ * FilterOutputStream 의 기본 write(byte[], int, int) 는 1바이트씩 쓰므로 배열을 그대로 넘기도록 재정의한다.
+ * 1바이트 write(int) 는 바이트 수만 센다.
+ */
+public class MonitoredOutputStream extends FilterOutputStream {
+
+	private final IoMetrics metrics;
+
+	public MonitoredOutputStream(OutputStream out, IoMetrics metrics) {
+		super(out);
+		this.metrics = metrics;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+		metrics.countWrite(1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		long start = System.nanoTime();
+		out.write(b, off, len);
+		metrics.recordWrite(len, System.nanoTime() - start);
+	}
+
+	public IoMetrics getMetrics() {
+		return metrics;
+	}
+}
@@ -0,0 +1,259 @@
+package com.JavaCoreTil.io.common.pipeline;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배압(backpressure)이 있는 배치 파이프라인: 읽기 → 변환 단계들 → 쓰기
+ * <p>
+ * 단계 사이는 배치(레코드 목록)를 담는 크기 제한 큐로 연결된다. 뒤 단계가 느리면 큐가 가득 차 앞 단계가
+ * 자동으로 멈추므로 메모리 사용량은 (큐 용량 x 배치 크기 x 단계 수)를 넘지 않고,
+ * 디스크 읽기, CPU 파싱, 디스크 쓰기가 서로 다른 스레드에서 겹쳐 실행된다.
+ * <pre>
+ * PipelineReport report = BatchPipeline.read("reader", bufferedReader::readLine, 1000, 8)
+ *     .then("parse", 4, lines -> parse(lines))
+ *     .then("aggregate", 1, records -> { accumulate(records); return records; })
+ *     .run("write", 1, records -> write(records));
+ * </pre>
+ * 읽기 단계는 순차적이므로 스레드 하나로 돌고, 나머지 단계는 병렬도만큼 스레드를 둔다.
+ * 병렬도가 2 이상인 단계 뒤에서는 배치 순서가 바뀔 수 있다. 상태를 가진 단계(집계 등)는 병렬도 1로 두면 동기화가 필요 없다.
+ * 어느 단계든 예외가 나면 모든 스레드를 중단하고 첫 예외를 IOException 으로 던진다.
+ *
+ * @param <T> 현재 마지막 단계가 내보내는 레코드 타입
+ */
+public class BatchPipeline<T> {
+
+	/**
+	 * 레코드를 하나씩 읽음 (끝이면 null), 예: BufferedReader::readLine
+	 */
+	@FunctionalInterface
+	public interface ItemReader<T> {
+		T read() throws IOException;
+	}
+
+	/**
+	 * 배치 하나를 변환 (null 이나 빈 목록을 돌려주면 다음 단계로 보내지 않음)
+	 */
+	@FunctionalInterface
+	public interface BatchFunction<I, O> {
+		List<O> apply(List<I> batch) throws IOException;
+	}
+
+	/**
+	 * 마지막 단계: 배치 하나를 소비
+	 */
+	@FunctionalInterface
+	public interface BatchSink<T> {
+		void accept(List<T> batch) throws IOException;
+	}
+
+	// 입력 종료 표시 (참조 비교)
+	private static final List<Object> END = new ArrayList<>(0);
+
+	private final String readerName;
+	private final ItemReader<?> reader;
+	private final int batchSize;
+	private final int queueCapacity;
+	private final List<Stage> stages;
+
+	private BatchPipeline(String readerName, ItemReader<?> reader, int batchSize, int queueCapacity,
+		List<Stage> stages) {
+		this.readerName = readerName;
+		this.reader = reader;
+		this.batchSize = batchSize;
+		this.queueCapacity = queueCapacity;
+		this.stages = stages;
+	}
+
+	/**
+	 * 파이프라인 시작
+	 * @param batchSize 배치당 레코드 수
+	 * @param queueCapacity 단계 사이 큐에 쌓일 수 있는 최대 배치 수 (배압 기준)
+	 */
+	public static <T> BatchPipeline<T> read(String name, ItemReader<T> reader, int batchSize, int queueCapacity) {
+		if (batchSize <= 0 || queueCapacity <= 0) {
+			throw new IllegalArgumentException("batchSize와 queueCapacity는 0보다 커야 합니다.");
+		}
+		return new BatchPipeline<>(name, reader, batchSize, queueCapacity, new ArrayList<>());
+	}
+
+	/**
+	 * 변환 단계 추가
+	 * @param parallelism 이 단계의 작업 스레드 수
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> BatchPipeline<R> then(String name, int parallelism, BatchFunction<T, R> function) {
+		List<Stage> next = new ArrayList<>(stages);
+		next.add(new Stage(name, parallelism, (BatchFunction<Object, Object>)(BatchFunction<?, ?>)function));
+		return new BatchPipeline<>(readerName, reader, batchSize, queueCapacity, next);
+	}
+
+	/**
+	 * 마지막(쓰기) 단계를 붙여 파이프라인을 실행하고 모든 단계가 끝날 때까지 기다림
+	 */
+	@SuppressWarnings("unchecked")
+	public PipelineReport run(String name, int parallelism, BatchSink<T> sink) throws IOException {
+		List<Stage> all = new ArrayList<>(stages);
+		all.add(new Stage(name, parallelism, batch -> {
+			sink.accept((List<T>)batch);
+			return null;
+		}));
+
+		// queues[i] = i 번째 단계의 입력 큐
+		List<BlockingQueue<List<Object>>> queues = new ArrayList<>();
+		List<StageMetrics> metrics = new ArrayList<>();
+		metrics.add(new StageMetrics(readerName, 1));
+		int threads = 1;
+		for (Stage stage : all) {
+			queues.add(new ArrayBlockingQueue<>(queueCapacity));
+			metrics.add(new StageMetrics(stage.name, stage.parallelism));
+			threads += stage.parallelism;
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		ExecutorCompletionService<Void> completion = new ExecutorCompletionService<>(pool);
+		long startTime = System.nanoTime();
+		try {
+			completion.submit(() -> {
+				runReader(queues.get(0), all.get(0).parallelism, metrics.get(0));
+				return null;
+			});
+			for (int i = 0; i < all.size(); i++) {
+				Stage stage = all.get(i);
+				BlockingQueue<List<Object>> input = queues.get(i);
+				BlockingQueue<List<Object>> output = i + 1 < all.size() ? queues.get(i + 1) : null;
+				int downstream = i + 1 < all.size() ? all.get(i + 1).parallelism : 0;
+				AtomicInteger remaining = new AtomicInteger(stage.parallelism);
+				StageMetrics stageMetrics = metrics.get(i + 1);
+
+				for (int worker = 0; worker < stage.parallelism; worker++) {
+					completion.submit(() -> {
+						runStage(stage, input, output, downstream, remaining, stageMetrics);
+						return null;
+					});
+				}
+			}
+
+			// 완료 순서대로 확인해 첫 실패를 바로 알아챔
+			for (int done = 0; done < threads; done++) {
+				completion.take().get();
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("파이프라인 실행이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		} finally {
+			// 실패 시 큐에서 기다리는 나머지 스레드를 깨워 종료
+			pool.shutdownNow();
+		}
+
+		long elapsed = System.nanoTime() - startTime;
+		for (StageMetrics stageMetrics : metrics) {
+			stageMetrics.setElapsedNanos(elapsed);
+		}
+		return new PipelineReport(metrics, elapsed);
+	}
+
+	private void runReader(BlockingQueue<List<Object>> output, int downstream, StageMetrics metrics)
+		throws IOException, InterruptedException {
+		long batches = 0;
+		long records = 0;
+		long busy = 0;
+		long blocked = 0;
+		try {
+			boolean more = true;
+			while (more) {
+				long readStart = System.nanoTime();
+				List<Object> batch = new ArrayList<>(batchSize);
+				while (batch.size() < batchSize) {
+					Object item = reader.read();
+					if (item == null) {
+						more = false;
+						break;
+					}
+					batch.add(item);
+				}
+				long readEnd = System.nanoTime();
+				busy += readEnd - readStart;
+
+				if (!batch.isEmpty()) {
+					batches++;
+					records += batch.size();
+					output.put(batch);
+					blocked += System.nanoTime() - readEnd;
+				}
+			}
+			for (int i = 0; i < downstream; i++) {
+				output.put(END);
+			}
+		} finally {
+			metrics.add(batches, records, busy, 0, blocked);
+		}
+	}
+
+	private static void runStage(Stage stage, BlockingQueue<List<Object>> input, BlockingQueue<List<Object>> output,
+		int downstream, AtomicInteger remaining, StageMetrics metrics) throws IOException, InterruptedException {
+		long batches = 0;
+		long records = 0;
+		long busy = 0;
+		long starved = 0;
+		long blocked = 0;
+		try {
+			while (true) {
+				long waitStart = System.nanoTime();
+				List<Object> batch = input.take();
+				long processStart = System.nanoTime();
+				starved += processStart - waitStart;
+				if (batch == END) {
+					break;
+				}
+
+				List<Object> result = stage.function.apply(batch);
+				long processEnd = System.nanoTime();
+				busy += processEnd - processStart;
+				batches++;
+				records += batch.size();
+
+				if (output != null && result != null && !result.isEmpty()) {
+					output.put(result);
+					blocked += System.nanoTime() - processEnd;
+				}
+			}
+
+			// 이 단계의 마지막 작업 스레드가 다음 단계 작업 스레드 수만큼 종료 표시를 보냄
+			if (remaining.decrementAndGet() == 0 && output != null) {
+				for (int i = 0; i < downstream; i++) {
+					output.put(END);
+				}
+			}
+		} finally {
+			metrics.add(batches, records, busy, starved, blocked);
+		}
+	}
+
+	private static final class Stage {
+		final String name;
+		final int parallelism;
+		final BatchFunction<Object, Object> function;
+
+		Stage(String name, int parallelism, BatchFunction<Object, Object> function) {
+			if (parallelism <= 0) {
+				throw new IllegalArgumentException("parallelism은 0보다 커야 합니다: " + name);
+			}
+			this.name = name;
+			this.parallelism = parallelism;
+			this.function = function;
+		}
+	}
+}
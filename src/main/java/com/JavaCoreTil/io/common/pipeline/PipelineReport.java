@@ -0,0 +1,57 @@
+package com.JavaCoreTil.io.common.pipeline;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 파이프라인 실행 결과 (단계별 지표 + 전체 경과 시간)
+ */
+public class PipelineReport {
+
+	private final List<StageMetrics> stages;
+	private final long elapsedNanos;
+
+	PipelineReport(List<StageMetrics> stages, long elapsedNanos) {
+		this.stages = Collections.unmodifiableList(stages);
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public List<StageMetrics> getStages() {
+		return stages;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedNanos / 1_000_000;
+	}
+
+	/**
+	 * 입력/출력 대기를 뺀 처리 시간 비율이 가장 높은 단계 (병목 후보)
+	 */
+	public StageMetrics getBottleneck() {
+		StageMetrics bottleneck = null;
+		for (StageMetrics stage : stages) {
+			if (bottleneck == null || stage.getUtilization() > bottleneck.getUtilization()) {
+				bottleneck = stage;
+			}
+		}
+		return bottleneck;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("파이프라인 경과 시간: ").append(getElapsedMillis()).append(" ms\n");
+		for (StageMetrics stage : stages) {
+			sb.append("  ").append(stage).append('\n');
+		}
+		StageMetrics bottleneck = getBottleneck();
+		if (bottleneck != null) {
+			sb.append("  병목 후보: ").append(bottleneck.getName());
+		}
+		return sb.toString();
+	}
+}
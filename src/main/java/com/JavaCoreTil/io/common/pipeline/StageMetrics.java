@@ -0,0 +1,101 @@
+package com.JavaCoreTil.io.common.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파이프라인 단계 하나의 처리량/정체 지표
+ * <p>
+ * 시간 값은 모든 작업 스레드의 합계다. 입력 대기(starved)가 크면 앞 단계가 느린 것이고,
+ * 출력 막힘(blocked)이 크면 뒤 단계가 느려 큐가 가득 찬(배압) 것이다.
+ */
+public class StageMetrics {
+
+	private final String name;
+	private final int parallelism;
+
+	private final AtomicLong batches = new AtomicLong();
+	private final AtomicLong records = new AtomicLong();
+	private final AtomicLong busyNanos = new AtomicLong();
+	private final AtomicLong starvedNanos = new AtomicLong();
+	private final AtomicLong blockedNanos = new AtomicLong();
+	private volatile long elapsedNanos;
+
+	StageMetrics(String name, int parallelism) {
+		this.name = name;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * 작업 스레드 하나가 끝날 때 지역 누적값을 한 번에 반영
+	 */
+	void add(long batchCount, long recordCount, long busy, long starved, long blocked) {
+		batches.addAndGet(batchCount);
+		records.addAndGet(recordCount);
+		busyNanos.addAndGet(busy);
+		starvedNanos.addAndGet(starved);
+		blockedNanos.addAndGet(blocked);
+	}
+
+	void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public long getBatches() {
+		return batches.get();
+	}
+
+	/**
+	 * 읽기 단계는 읽은 레코드 수, 나머지 단계는 입력으로 받은 레코드 수
+	 */
+	public long getRecords() {
+		return records.get();
+	}
+
+	public long getBusyNanos() {
+		return busyNanos.get();
+	}
+
+	/**
+	 * 입력 큐가 비어 기다린 시간 (앞 단계 병목)
+	 */
+	public long getStarvedNanos() {
+		return starvedNanos.get();
+	}
+
+	/**
+	 * 출력 큐가 가득 차 기다린 시간 (뒤 단계 병목, 배압)
+	 */
+	public long getBlockedNanos() {
+		return blockedNanos.get();
+	}
+
+	/**
+	 * 파이프라인 전체 경과 시간 기준 초당 레코드 수
+	 */
+	public double getRecordsPerSecond() {
+		return elapsedNanos == 0 ? 0.0 : records.get() * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	/**
+	 * 작업 스레드 시간 중 실제 처리에 쓴 비율 (0~1)
+	 */
+	public double getUtilization() {
+		long capacity = elapsedNanos * parallelism;
+		return capacity == 0 ? 0.0 : (double)busyNanos.get() / capacity;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%-10s x%d  배치 %6d, 레코드 %9d, %,12.0f건/초, 처리 %5.1f%%, 입력대기 %6d ms, 출력막힘 %6d ms",
+			name, parallelism, getBatches(), getRecords(), getRecordsPerSecond(), getUtilization() * 100,
+			getStarvedNanos() / 1_000_000, getBlockedNanos() / 1_000_000);
+	}
+}
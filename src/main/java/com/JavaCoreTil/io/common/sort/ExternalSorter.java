@@ -0,0 +1,584 @@
+package com.JavaCoreTil.io.common.sort;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import com.JavaCoreTil.io.common.spill.SpillBuffer;
+import com.JavaCoreTil.io.common.spill.SpillManager;
+
+/**
+ * 힙보다 큰 텍스트 파일을 라인 단위로 정렬하는 외부 병합 정렬
+ * <p>
+ * 1. 런 생성: 입력을 메모리 예산에 맞는 청크로 읽어 스레드 풀에서 청크마다 정렬하고, 압축해 스필 버퍼에 런으로 쓴다.
+ *    읽는 중인 청크 하나와 정렬 중인 청크 parallelism 개만 메모리에 있으므로 힙 사용량이 대략 예산 안에 머문다.
+ * 2. 병합: 런마다 버퍼링된 리더를 열고 우선순위 큐(힙)로 가장 작은 라인을 골라 출력한다.
+ *    런이 maxFanIn 보다 많으면 앞에서부터 maxFanIn 개씩 중간 런으로 병합하는 단계를 반복한다.
+ * <p>
+ * 정렬 기준은 KeyExtractor 가 라인에서 뽑은 long 키(예: 로그 시각)이고, 키가 없으면 바이트 사전순이다.
+ * 키가 같은 라인은 입력 순서를 유지한다(안정 정렬). 런은 Deflater(BEST_SPEED)로 압축하므로 로그처럼 반복이 많은
+ * 텍스트는 스필 I/O 가 입력의 몇 분의 일로 준다.
+ * <p>
+ * 예산 2GB, 스필 공간 200GB(세그먼트 64MB x 3200)이면 100GB 입력은 청크 약 400MB 로 250여 개 런이 되고,
+ * maxFanIn 128 이면 중간 병합 한 번을 더해 두 단계로 끝난다.
+ */
+public class ExternalSorter {
+
+	/**
+	 * 라인의 정렬 키 (정렬 스레드 여러 개에서 동시에 호출됨)
+	 */
+	@FunctionalInterface
+	public interface KeyExtractor {
+		/**
+		 * @param chunk 라인이 들어 있는 청크 (읽기만 할 것)
+		 * @param offset 라인 시작 위치
+		 * @param length 줄바꿈을 뺀 라인 길이
+		 */
+		long key(ByteBuffer chunk, int offset, int length);
+	}
+
+	public static final int DEFAULT_MAX_FAN_IN = 128;
+
+	// 청크 하나의 상한 (배열 인덱스가 int 이므로)
+	private static final int MAX_CHUNK_SIZE = 1 << 30;
+	private static final int MIN_READER_BUFFER = 16 * 1024;
+	private static final int MAX_READER_BUFFER = 1024 * 1024;
+	private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+	private static final int OUTPUT_BUFFER_SIZE = 1024 * 1024;
+
+	private final SpillManager spillManager;
+	private final long memoryBudget;
+	private final int parallelism;
+	private final int maxFanIn;
+
+	public ExternalSorter(SpillManager spillManager, long memoryBudget) {
+		this(spillManager, memoryBudget, Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_FAN_IN);
+	}
+
+	/**
+	 * @param spillManager 런을 쓸 스필 공간 (압축된 입력 크기 이상 필요)
+	 * @param memoryBudget 런 생성에 쓸 힙 바이트 수 (청크 데이터와 라인 인덱스 배열 포함)
+	 * @param parallelism 동시에 정렬할 청크 수
+	 * @param maxFanIn 한 번에 병합할 최대 런 수
+	 */
+	public ExternalSorter(SpillManager spillManager, long memoryBudget, int parallelism, int maxFanIn) {
+		if (parallelism < 1 || maxFanIn < 2) {
+			throw new IllegalArgumentException("parallelism 은 1 이상, maxFanIn 은 2 이상이어야 합니다.");
+		}
+		if (memoryBudget / (parallelism + 1) < 64 * 1024) {
+			throw new IllegalArgumentException("메모리 예산이 너무 작습니다: " + memoryBudget);
+		}
+		this.spillManager = spillManager;
+		this.memoryBudget = memoryBudget;
+		this.parallelism = parallelism;
+		this.maxFanIn = maxFanIn;
+	}
+
+	/**
+	 * 바이트 사전순 정렬
+	 */
+	public SortResult sort(Path input, Path output) throws IOException {
+		return sort(input, output, null);
+	}
+
+	/**
+	 * input 의 라인을 키 순서로 정렬해 output 에 씀 (모든 라인은 '\n' 으로 끝나게 됨)
+	 * @param keyExtractor null 이면 바이트 사전순
+	 */
+	public SortResult sort(Path input, Path output, KeyExtractor keyExtractor) throws IOException {
+		List<Run> runs = new ArrayList<>();
+		try {
+			long startTime = System.nanoTime();
+			long[] totals = generateRuns(input, keyExtractor != null, keyExtractor, runs);
+			long runGenerationNanos = System.nanoTime() - startTime;
+			int initialRuns = runs.size();
+			long spilledBytes = 0;
+			for (Run run : runs) {
+				spilledBytes += run.buffer.size();
+			}
+
+			startTime = System.nanoTime();
+			int passes = 0;
+			while (runs.size() > maxFanIn) {
+				runs = mergeIntermediate(runs, keyExtractor != null);
+				passes++;
+			}
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), OUTPUT_BUFFER_SIZE)) {
+				merge(runs, keyExtractor != null, (key, line, length) -> {
+					out.write(line, 0, length);
+					out.write('\n');
+				});
+			}
+			passes++;
+			long mergeNanos = System.nanoTime() - startTime;
+
+			return new SortResult(totals[0], totals[1], initialRuns, passes, spilledBytes, runGenerationNanos,
+				mergeNanos);
+		} finally {
+			for (Run run : runs) {
+				run.buffer.close();
+			}
+		}
+	}
+
+	// ---- 런 생성 ----
+
+	/**
+	 * 정렬할 청크 (정렬 작업 사이에 재사용)
+	 */
+	private static final class Chunk {
+		final byte[] data;
+		final ByteBuffer view;
+		final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		int length;
+		int lines;
+		int[] starts = new int[1024];
+		long[] keys = new long[1024];
+		int[] order = new int[1024];
+		int[] temp = new int[1024];
+
+		Chunk(int capacity) {
+			this.data = new byte[capacity];
+			this.view = ByteBuffer.wrap(data);
+		}
+
+		void ensureLines(int count) {
+			if (starts.length < count) {
+				int size = Math.max(count, starts.length * 2);
+				starts = Arrays.copyOf(starts, size);
+				keys = Arrays.copyOf(keys, size);
+				order = new int[size];
+				temp = new int[size];
+			}
+		}
+	}
+
+	/**
+	 * 스필 버퍼에 쓴 정렬된 런
+	 */
+	private static final class Run {
+		final int sequence;
+		final SpillBuffer buffer;
+		final long lines;
+
+		Run(int sequence, SpillBuffer buffer, long lines) {
+			this.sequence = sequence;
+			this.buffer = buffer;
+			this.lines = lines;
+		}
+	}
+
+	private static final class Completed {
+		final Chunk chunk;
+		final Run run;
+
+		Completed(Chunk chunk, Run run) {
+			this.chunk = chunk;
+			this.run = run;
+		}
+	}
+
+	/**
+	 * @return {라인 수, 입력 바이트 수}
+	 */
+	private long[] generateRuns(Path input, boolean keyed, KeyExtractor keyExtractor, List<Run> runs)
+		throws IOException {
+		// 청크 (parallelism + 1)개가 예산을 나눠 씀. 라인 인덱스 배열(라인당 약 20바이트)을 위해 1/4 을 남김
+		long perChunk = memoryBudget / (parallelism + 1);
+		int chunkCapacity = (int)Math.min(MAX_CHUNK_SIZE, perChunk - perChunk / 4);
+
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+		CompletionService<Completed> completion = new ExecutorCompletionService<>(pool);
+		ArrayDeque<Chunk> freeChunks = new ArrayDeque<>();
+		List<Chunk> allChunks = new ArrayList<>();
+		int pending = 0;
+		long lines = 0;
+		long inputBytes = 0;
+
+		try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+			byte[] carry = new byte[0];
+			int carryLength = 0;
+			boolean eof = false;
+			int sequence = 0;
+
+			while (!eof || carryLength > 0) {
+				// 빈 청크: 새로 만들거나 끝난 작업이 돌려줄 때까지 기다림
+				Chunk chunk = freeChunks.poll();
+				if (chunk == null && allChunks.size() < parallelism + 1) {
+					chunk = new Chunk(chunkCapacity);
+					allChunks.add(chunk);
+				}
+				while (chunk == null || pending >= parallelism) {
+					Future<Completed> finished = completion.take();
+					pending--;
+					Completed done = finished.get();
+					runs.add(done.run);
+					lines += done.run.lines;
+					if (chunk == null) {
+						chunk = done.chunk;
+					} else {
+						freeChunks.add(done.chunk);
+					}
+				}
+
+				// 앞 청크에서 넘어온 미완성 라인 + 새로 읽은 내용
+				System.arraycopy(carry, 0, chunk.data, 0, carryLength);
+				int length = carryLength;
+				ByteBuffer target = ByteBuffer.wrap(chunk.data, length, chunk.data.length - length);
+				while (target.hasRemaining()) {
+					int read = channel.read(target);
+					if (read < 0) {
+						eof = true;
+						break;
+					}
+					inputBytes += read;
+				}
+				length = target.position();
+
+				int cut = length;
+				if (!eof) {
+					cut = lastNewline(chunk.data, length) + 1;
+					if (cut == 0) {
+						throw new IOException("청크(" + chunkCapacity + " 바이트)보다 긴 라인이 있습니다. 메모리 예산을 늘리세요.");
+					}
+				}
+				carryLength = length - cut;
+				if (carry.length < carryLength) {
+					carry = new byte[Math.max(carryLength, carry.length * 2)];
+				}
+				System.arraycopy(chunk.data, cut, carry, 0, carryLength);
+				chunk.length = cut;
+
+				if (cut == 0) {
+					freeChunks.add(chunk);
+					continue;
+				}
+				Chunk task = chunk;
+				int runSequence = sequence++;
+				completion.submit(() -> new Completed(task, sortChunk(task, runSequence, keyed, keyExtractor)));
+				pending++;
+			}
+
+			while (pending > 0) {
+				Future<Completed> finished = completion.take();
+				pending--;
+				Completed done = finished.get();
+				runs.add(done.run);
+				lines += done.run.lines;
+				freeChunks.add(done.chunk);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("런 생성이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException)cause : new IOException(cause);
+		} finally {
+			// 실패했으면 진행 중인 작업이 끝나기를 기다려 그 런을 닫음. 작업은 공유 스필 채널에 쓰는 중이므로
+			// shutdownNow() 로 인터럽트하지 않음 (청크의 Deflater 도 작업이 모두 끝난 뒤에만 해제 가능)
+			pool.shutdown();
+			boolean interrupted = false;
+			while (pending > 0) {
+				try {
+					Future<Completed> finished = completion.take();
+					pending--;
+					finished.get().run.buffer.close();
+				} catch (ExecutionException e) {
+					// 첫 실패만 보고
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			for (Chunk chunk : allChunks) {
+				chunk.deflater.end();
+			}
+		}
+
+		// 완료 순서가 아니라 입력 순서로 (같은 키의 안정성)
+		runs.sort(Comparator.comparingInt(run -> run.sequence));
+		return new long[] {lines, inputBytes};
+	}
+
+	private static int lastNewline(byte[] data, int length) {
+		for (int i = length - 1; i >= 0; i--) {
+			if (data[i] == '\n') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 청크의 라인을 정렬해 압축된 런으로 씀
+	 */
+	private Run sortChunk(Chunk chunk, int sequence, boolean keyed, KeyExtractor keyExtractor) throws IOException {
+		// 라인 경계와 키
+		int count = 0;
+		int start = 0;
+		byte[] data = chunk.data;
+		while (start < chunk.length) {
+			int end = start;
+			while (end < chunk.length && data[end] != '\n') {
+				end++;
+			}
+			chunk.ensureLines(count + 2);
+			chunk.starts[count] = start;
+			if (keyed) {
+				chunk.keys[count] = keyExtractor.key(chunk.view, start, lineLength(data, start, end));
+			}
+			count++;
+			start = end + 1;
+		}
+		chunk.starts[count] = start;
+		chunk.lines = count;
+
+		for (int i = 0; i < count; i++) {
+			chunk.order[i] = i;
+		}
+		mergeSort(chunk, chunk.order, chunk.temp, 0, count, keyed);
+
+		SpillBuffer buffer = spillManager.allocate(Long.MAX_VALUE);
+		try {
+			chunk.deflater.reset();
+			try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(
+				buffer.newOutputStream(WRITE_BUFFER_SIZE), chunk.deflater, WRITE_BUFFER_SIZE))) {
+				for (int i = 0; i < count; i++) {
+					int line = chunk.order[i];
+					int lineStart = chunk.starts[line];
+					int length = lineLength(data, lineStart, chunk.starts[line + 1] - 1);
+					if (keyed) {
+						out.writeLong(chunk.keys[line]);
+					}
+					out.writeInt(length);
+					out.write(data, lineStart, length);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			buffer.close();
+			throw e;
+		}
+		return new Run(sequence, buffer, count);
+	}
+
+	/**
+	 * [start, end) 라인의 길이 (끝의 '\r' 제외)
+	 */
+	private static int lineLength(byte[] data, int start, int end) {
+		int length = Math.min(end, data.length) - start;
+		if (length > 0 && data[start + length - 1] == '\r') {
+			length--;
+		}
+		return length;
+	}
+
+	/**
+	 * order[from, to) 를 안정 병합 정렬 (작은 구간은 삽입 정렬)
+	 */
+	private static void mergeSort(Chunk chunk, int[] order, int[] temp, int from, int to, boolean keyed) {
+		if (to - from <= 16) {
+			for (int i = from + 1; i < to; i++) {
+				int value = order[i];
+				int j = i - 1;
+				while (j >= from && compare(chunk, order[j], value, keyed) > 0) {
+					order[j + 1] = order[j];
+					j--;
+				}
+				order[j + 1] = value;
+			}
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		mergeSort(chunk, order, temp, from, middle, keyed);
+		mergeSort(chunk, order, temp, middle, to, keyed);
+		if (compare(chunk, order[middle - 1], order[middle], keyed) <= 0) {
+			return; // 이미 정렬됨
+		}
+		System.arraycopy(order, from, temp, from, to - from);
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			if (right >= to || (left < middle && compare(chunk, temp[left], temp[right], keyed) <= 0)) {
+				order[i] = temp[left++];
+			} else {
+				order[i] = temp[right++];
+			}
+		}
+	}
+
+	private static int compare(Chunk chunk, int a, int b, boolean keyed) {
+		if (keyed) {
+			return Long.compare(chunk.keys[a], chunk.keys[b]);
+		}
+		int aStart = chunk.starts[a];
+		int bStart = chunk.starts[b];
+		return Arrays.compareUnsigned(chunk.data, aStart, aStart + lineLength(chunk.data, aStart, chunk.starts[a + 1] - 1),
+			chunk.data, bStart, bStart + lineLength(chunk.data, bStart, chunk.starts[b + 1] - 1));
+	}
+
+	// ---- 병합 ----
+
+	private interface LineSink {
+		void accept(long key, byte[] line, int length) throws IOException;
+	}
+
+	/**
+	 * 런 하나를 순서대로 읽는 리더
+	 */
+	private static final class RunReader {
+		final int sequence;
+		final Inflater inflater = new Inflater();
+		final DataInputStream in;
+		final boolean keyed;
+		long remaining;
+		long key;
+		byte[] line = new byte[256];
+		int length;
+
+		RunReader(Run run, boolean keyed, int bufferSize) {
+			this.sequence = run.sequence;
+			this.keyed = keyed;
+			this.remaining = run.lines;
+			this.in = new DataInputStream(new InflaterInputStream(run.buffer.newInputStream(bufferSize), inflater,
+				bufferSize));
+		}
+
+		/**
+		 * 다음 라인으로 이동
+		 * @return 런이 끝났으면 false
+		 */
+		boolean advance() throws IOException {
+			if (remaining == 0) {
+				return false;
+			}
+			try {
+				if (keyed) {
+					key = in.readLong();
+				}
+				length = in.readInt();
+				if (line.length < length) {
+					line = new byte[Math.max(length, line.length * 2)];
+				}
+				in.readFully(line, 0, length);
+			} catch (EOFException e) {
+				throw new IOException("런이 예상보다 짧습니다.", e);
+			}
+			remaining--;
+			return true;
+		}
+
+		void close() {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * 런을 maxFanIn 개씩 묶어 중간 런으로 병합 (입력 순서 유지)
+	 */
+	private List<Run> mergeIntermediate(List<Run> runs, boolean keyed) throws IOException {
+		List<Run> merged = new ArrayList<>();
+		try {
+			for (int from = 0; from < runs.size(); from += maxFanIn) {
+				List<Run> group = runs.subList(from, Math.min(runs.size(), from + maxFanIn));
+				SpillBuffer buffer = spillManager.allocate(Long.MAX_VALUE);
+				Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+				long[] count = new long[1];
+				try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(
+					buffer.newOutputStream(WRITE_BUFFER_SIZE), deflater, WRITE_BUFFER_SIZE))) {
+					merge(group, keyed, (key, line, length) -> {
+						if (keyed) {
+							out.writeLong(key);
+						}
+						out.writeInt(length);
+						out.write(line, 0, length);
+						count[0]++;
+					});
+				} catch (IOException | RuntimeException e) {
+					buffer.close();
+					throw e;
+				} finally {
+					deflater.end();
+				}
+				merged.add(new Run(merged.size(), buffer, count[0]));
+
+				// 병합한 런의 세그먼트는 바로 다음 중간 런이 재사용
+				for (Run run : group) {
+					run.buffer.close();
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			for (Run run : merged) {
+				run.buffer.close();
+			}
+			throw e;
+		}
+		return merged;
+	}
+
+	/**
+	 * 런들을 힙으로 병합해 sink 에 순서대로 넘김
+	 */
+	private void merge(List<Run> runs, boolean keyed, LineSink sink) throws IOException {
+		// 리더 버퍼는 예산을 런 수로 나눠 (압축 해제 버퍼 포함 2개씩)
+		int bufferSize = (int)Math.max(MIN_READER_BUFFER,
+			Math.min(MAX_READER_BUFFER, memoryBudget / (Math.max(1, runs.size()) * 2L)));
+
+		Comparator<RunReader> order = keyed
+			? (a, b) -> {
+				int byKey = Long.compare(a.key, b.key);
+				return byKey != 0 ? byKey : Integer.compare(a.sequence, b.sequence);
+			}
+			: (a, b) -> {
+				int byBytes = Arrays.compareUnsigned(a.line, 0, a.length, b.line, 0, b.length);
+				return byBytes != 0 ? byBytes : Integer.compare(a.sequence, b.sequence);
+			};
+
+		PriorityQueue<RunReader> heap = new PriorityQueue<>(Math.max(1, runs.size()), order);
+		List<RunReader> readers = new ArrayList<>();
+		try {
+			for (Run run : runs) {
+				RunReader reader = new RunReader(run, keyed, bufferSize);
+				readers.add(reader);
+				if (reader.advance()) {
+					heap.add(reader);
+				}
+			}
+			while (!heap.isEmpty()) {
+				RunReader smallest = heap.poll();
+				sink.accept(smallest.key, smallest.line, smallest.length);
+				if (smallest.advance()) {
+					heap.add(smallest);
+				}
+			}
+		} finally {
+			for (RunReader reader : readers) {
+				reader.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.JavaCoreTil.io.common.sort;
+
+/**
+ * 외부 정렬 한 번의 결과 통계
+ */
+public class SortResult {
+
+	private final long lines;
+	private final long inputBytes;
+	private final int runs;
+	private final int mergePasses;
+	private final long spilledBytes;
+	private final long runGenerationNanos;
+	private final long mergeNanos;
+
+	SortResult(long lines, long inputBytes, int runs, int mergePasses, long spilledBytes, long runGenerationNanos,
+		long mergeNanos) {
+		this.lines = lines;
+		this.inputBytes = inputBytes;
+		this.runs = runs;
+		this.mergePasses = mergePasses;
+		this.spilledBytes = spilledBytes;
+		this.runGenerationNanos = runGenerationNanos;
+		this.mergeNanos = mergeNanos;
+	}
+
+	public long getLines() {
+		return lines;
+	}
+
+	public long getInputBytes() {
+		return inputBytes;
+	}
+
+	/**
+	 * 처음 만든 정렬된 런 수
+	 */
+	public int getRuns() {
+		return runs;
+	}
+
+	/**
+	 * 병합 횟수 (런이 최대 병합 수 이하면 1, 넘으면 중간 병합이 더해짐)
+	 */
+	public int getMergePasses() {
+		return mergePasses;
+	}
+
+	/**
+	 * 압축된 런이 스필 공간에 쓴 바이트 수 (첫 단계)
+	 */
+	public long getSpilledBytes() {
+		return spilledBytes;
+	}
+
+	/**
+	 * 스필 바이트 / 입력 바이트 (작을수록 디스크 I/O 절약)
+	 */
+	public double getSpillRatio() {
+		return inputBytes == 0 ? 0.0 : (double)spilledBytes / inputBytes;
+	}
+
+	public long getRunGenerationNanos() {
+		return runGenerationNanos;
+	}
+
+	public long getMergeNanos() {
+		return mergeNanos;
+	}
+
+	public long getElapsedNanos() {
+		return runGenerationNanos + mergeNanos;
+	}
+}
@@ -0,0 +1,218 @@
+package com.JavaCoreTil.io.common.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * SpillManager 의 스필 파일 안에 있는 가변 길이 임시 저장 공간
+ * <p>
+ * 뒤에 덧붙여 쓰고(write, newOutputStream) 아무 위치에서나 읽는다(read, newInputStream).
+ * 공간은 세그먼트 단위로 필요할 때 받으며, 할당량을 넘는 쓰기는 SpillQuotaExceededException 으로 거부한다.
+ * close() 하면 세그먼트를 관리자에게 돌려준다. 버퍼 하나를 여러 스레드가 같이 쓰려면 외부에서 동기화한다.
+ */
+public class SpillBuffer implements Closeable {
+
+	private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+	private final SpillManager manager;
+	private final long quota;
+	private final int segmentSize;
+
+	private int[] segments = new int[4];
+	private int segmentCount;
+	private long size;
+	// 관리자 close() 가 다른 스레드에서 닫을 수 있음
+	private volatile boolean closed;
+
+	SpillBuffer(SpillManager manager, long quota) {
+		this.manager = manager;
+		this.quota = quota;
+		this.segmentSize = manager.getSegmentSize();
+	}
+
+	/**
+	 * src 의 남은 바이트를 모두 끝에 덧붙임
+	 * @throws SpillQuotaExceededException 할당량을 넘을 때 (아무것도 쓰지 않음)
+	 * @throws IOException 스필 공간 전체가 부족할 때 (그때까지 쓴 부분은 남음)
+	 */
+	public void write(ByteBuffer src) throws IOException {
+		ensureOpen();
+		long newSize = size + src.remaining();
+		if (newSize > quota) {
+			throw new SpillQuotaExceededException(quota, newSize);
+		}
+		int limit = src.limit();
+		try {
+			while (src.hasRemaining()) {
+				int index = (int)(size / segmentSize);
+				int offset = (int)(size % segmentSize);
+				if (index == segmentCount) {
+					addSegment(manager.acquireSegment());
+				}
+				int length = Math.min(src.remaining(), segmentSize - offset);
+				src.limit(src.position() + length);
+				long position = manager.segmentOffset(segments[index]) + offset;
+				while (src.hasRemaining()) {
+					position += manager.write(src, position);
+				}
+				src.limit(limit);
+				size += length;
+			}
+		} finally {
+			src.limit(limit);
+		}
+	}
+
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		write(ByteBuffer.wrap(bytes, offset, length));
+	}
+
+	/**
+	 * position 부터 dst 가 차거나 끝까지 읽음
+	 * @return 읽은 바이트 수 (position 이 끝이면 -1)
+	 */
+	public int read(ByteBuffer dst, long position) throws IOException {
+		ensureOpen();
+		if (position >= size) {
+			return -1;
+		}
+		int limit = dst.limit();
+		int total = 0;
+		try {
+			while (dst.hasRemaining() && position < size) {
+				int index = (int)(position / segmentSize);
+				int offset = (int)(position % segmentSize);
+				int length = (int)Math.min(Math.min(dst.remaining(), segmentSize - offset), size - position);
+				dst.limit(dst.position() + length);
+				long filePosition = manager.segmentOffset(segments[index]) + offset;
+				while (dst.hasRemaining()) {
+					int read = manager.read(dst, filePosition);
+					if (read < 0) {
+						throw new IOException("스필 파일이 예상보다 짧습니다.");
+					}
+					filePosition += read;
+				}
+				dst.limit(limit);
+				position += length;
+				total += length;
+			}
+		} finally {
+			dst.limit(limit);
+		}
+		return total;
+	}
+
+	/**
+	 * 끝에 덧붙이는 버퍼링된 스트림 (close 하면 남은 내용을 씀, 버퍼 자체는 닫지 않음)
+	 */
+	public OutputStream newOutputStream() {
+		return newOutputStream(STREAM_BUFFER_SIZE);
+	}
+
+	public OutputStream newOutputStream(int bufferSize) {
+		return new BufferedOutputStream(new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				SpillBuffer.this.write(new byte[] {(byte)b}, 0, 1);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				SpillBuffer.this.write(b, off, len);
+			}
+		}, bufferSize);
+	}
+
+	/**
+	 * 처음부터 읽는 버퍼링된 스트림
+	 */
+	public InputStream newInputStream() {
+		return newInputStream(STREAM_BUFFER_SIZE);
+	}
+
+	/**
+	 * @param bufferSize 위치 지정 읽기 한 번의 크기 (여러 버퍼를 번갈아 읽을 때 크게 잡으면 탐색이 줄어듦)
+	 */
+	public InputStream newInputStream(int bufferSize) {
+		return new BufferedInputStream(new InputStream() {
+			private long position;
+
+			@Override
+			public int read() throws IOException {
+				byte[] one = new byte[1];
+				return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (len == 0) {
+					return 0;
+				}
+				int read = SpillBuffer.this.read(ByteBuffer.wrap(b, off, len), position);
+				if (read > 0) {
+					position += read;
+				}
+				return read;
+			}
+		}, bufferSize);
+	}
+
+	/**
+	 * 내용을 비우고 세그먼트를 돌려줌 (버퍼는 계속 쓸 수 있음)
+	 */
+	public void clear() throws IOException {
+		ensureOpen();
+		manager.releaseSegments(segments, segmentCount);
+		segmentCount = 0;
+		size = 0;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public long getQuota() {
+		return quota;
+	}
+
+	/**
+	 * 받은 세그먼트 수
+	 */
+	public int getSegmentCount() {
+		return segmentCount;
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		manager.release(this, segments, segmentCount);
+		segmentCount = 0;
+		size = 0;
+	}
+
+	private void addSegment(int segment) {
+		if (segmentCount == segments.length) {
+			segments = Arrays.copyOf(segments, segmentCount * 2);
+		}
+		segments[segmentCount++] = segment;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("스필 버퍼가 닫혔습니다.");
+		}
+	}
+}
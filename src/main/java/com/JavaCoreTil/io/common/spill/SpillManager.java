@@ -0,0 +1,392 @@
+package com.JavaCoreTil.io.common.spill;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 외부 정렬, 대용량 group-by 등의 중간 데이터를 위한 스필(spill) 공간 관리자
+ * <p>
+ * 디렉토리에 파일 하나(spill.dat)를 두고 segmentSize 단위 세그먼트로 나누어 빌려준다.
+ * 스필 버퍼(SpillBuffer)는 쓰는 만큼 세그먼트를 하나씩 받아 이어 붙이고, 닫으면 세그먼트가 풀로 돌아가
+ * 다음 버퍼가 재사용한다. 스필 버퍼를 수백만 번 만들고 지워도 파일 생성/삭제(파일 시스템 메타데이터 변경)가
+ * 없고, File.deleteOnExit() 처럼 프로세스 끝까지 쌓이는 목록도 없다.
+ * <ul>
+ *   <li>처음 initialSegments 개는 0 으로 채워 미리 할당하므로 디스크가 부족하면 시작할 때 드러난다.
+ *       모자라면 maxSegments 까지 파일을 늘리며, 0 으로 채우는 동안 다른 버퍼의 할당/해제는 막지 않는다.</li>
+ *   <li>버퍼마다 할당량(quota)이 있어 넘으면 SpillQuotaExceededException 이 난다.</li>
+ *   <li>디렉토리의 spill.lock 을 잠가 다른 프로세스와 같은 공간을 쓰지 않는다. 프로세스가 비정상 종료되어
+ *       남은 spill.dat 는 다음 시작 시 잘라서 재사용하므로(스필 데이터는 재시작 후 의미가 없음) 어떤 경우에도
+ *       spill.lock 외에 파일 하나 이상 남지 않는다. close() 는 잠금을 쥔 채 spill.dat 를 지우고,
+ *       spill.lock 은 남겨 둔다 (지우면 지우기 전에 그 파일을 연 프로세스와 새로 만든 프로세스가
+ *       서로 다른 파일을 잠가 둘 다 잠금을 얻을 수 있음).</li>
+ * </ul>
+ * 세그먼트 입출력은 위치 지정 FileChannel 읽기/쓰기이므로 여러 스레드가 각자의 버퍼를 동시에 써도 된다.
+ * FileChannel 은 입출력 중인 스레드가 인터럽트되면 닫히므로, 공유 채널이 그렇게 닫히면 잘라내지 않고 다시 열어
+ * 다른 스레드의 입출력은 재시도하고, 인터럽트된 스레드에만 ClosedByInterruptException 을 던진다.
+ */
+public final class SpillManager implements AutoCloseable {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+	static final String DATA_FILE = "spill.dat";
+	static final String LOCK_FILE = "spill.lock";
+
+	// 미리 할당할 때 쓰는 0 블록
+	private static final int ZERO_BLOCK_SIZE = 1024 * 1024;
+
+	private final Path directory;
+	private final int segmentSize;
+	private final int maxSegments;
+
+	private final Path dataFile;
+	private final FileChannel lockChannel;
+	private final FileLock lock;
+	// 인터럽트로 닫히면 다시 열어 바꿈
+	private volatile FileChannel data;
+	private final long recoveredBytes;
+
+	// 아래는 this 로 보호
+	private final BitSet used = new BitSet();
+	// 한 번이라도 빌려준 세그먼트 (재사용 통계용)
+	private final BitSet everUsed = new BitSet();
+	private final Set<SpillBuffer> open = Collections.newSetFromMap(new IdentityHashMap<>());
+	private int segmentCount;
+	// 잠금 밖에서 파일을 늘리는 스레드가 있으면 true (다른 스레드는 끝날 때까지 기다림)
+	private boolean growing;
+	private int peakSegmentsInUse;
+	private long allocations;
+	private long segmentReuses;
+	private long channelReopens;
+	private boolean closed;
+
+	public SpillManager(Path directory) throws IOException {
+		this(directory, DEFAULT_SEGMENT_SIZE, 4, 1024);
+	}
+
+	/**
+	 * @param segmentSize 세그먼트 크기 (버퍼는 이 단위로 공간을 받음)
+	 * @param initialSegments 시작할 때 미리 할당할 세그먼트 수
+	 * @param maxSegments 전체 스필 공간 상한 (segmentSize x maxSegments)
+	 * @throws IOException 다른 프로세스가 디렉토리를 쓰고 있거나 미리 할당에 실패했을 때
+	 */
+	public SpillManager(Path directory, int segmentSize, int initialSegments, int maxSegments) throws IOException {
+		if (segmentSize < 4096 || initialSegments < 0 || maxSegments < Math.max(1, initialSegments)) {
+			throw new IllegalArgumentException("잘못된 스필 설정: segmentSize=" + segmentSize + ", initialSegments="
+				+ initialSegments + ", maxSegments=" + maxSegments);
+		}
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxSegments = maxSegments;
+		this.dataFile = directory.resolve(DATA_FILE);
+
+		Files.createDirectories(directory);
+		lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE);
+		FileLock acquired;
+		try {
+			acquired = lockChannel.tryLock();
+		} catch (OverlappingFileLockException e) {
+			acquired = null;
+		}
+		if (acquired == null) {
+			lockChannel.close();
+			throw new IOException("다른 프로세스가 스필 디렉토리를 사용 중입니다: " + directory);
+		}
+		lock = acquired;
+
+		try {
+			// 이전 실행이 비정상 종료로 남긴 데이터는 버리고 공간만 재사용
+			recoveredBytes = Files.exists(dataFile) ? Files.size(dataFile) : 0;
+			data = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+			data.truncate(0);
+			zeroFill(0, initialSegments);
+			segmentCount = initialSegments;
+		} catch (IOException e) {
+			closeQuietly();
+			throw e;
+		}
+	}
+
+	/**
+	 * 스필 버퍼 하나를 빌림
+	 * @param quotaBytes 이 버퍼에 쓸 수 있는 최대 바이트 수
+	 */
+	public synchronized SpillBuffer allocate(long quotaBytes) throws IOException {
+		ensureOpen();
+		if (quotaBytes <= 0) {
+			throw new IllegalArgumentException("할당량은 양수여야 합니다: " + quotaBytes);
+		}
+		SpillBuffer buffer = new SpillBuffer(this, quotaBytes);
+		open.add(buffer);
+		allocations++;
+		return buffer;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * 파일에 만들어 둔 세그먼트 수
+	 */
+	public synchronized int getSegmentCount() {
+		return segmentCount;
+	}
+
+	public synchronized int getSegmentsInUse() {
+		return used.cardinality();
+	}
+
+	public synchronized int getPeakSegmentsInUse() {
+		return peakSegmentsInUse;
+	}
+
+	/**
+	 * 닫히지 않은 스필 버퍼 수
+	 */
+	public synchronized int getOpenBuffers() {
+		return open.size();
+	}
+
+	public synchronized long getAllocations() {
+		return allocations;
+	}
+
+	/**
+	 * 다른 버퍼가 쓰던 세그먼트를 다시 받은 횟수
+	 */
+	public synchronized long getSegmentReuses() {
+		return segmentReuses;
+	}
+
+	/**
+	 * 인터럽트로 닫힌 스필 파일 채널을 다시 연 횟수
+	 */
+	public synchronized long getChannelReopens() {
+		return channelReopens;
+	}
+
+	/**
+	 * 시작할 때 비정상 종료된 이전 실행에서 회수한 바이트 수
+	 */
+	public long getRecoveredBytes() {
+		return recoveredBytes;
+	}
+
+	/**
+	 * 열린 스필 버퍼를 모두 해제하고 스필 파일을 지움 (잠금 파일은 남김)
+	 */
+	@Override
+	public void close() throws IOException {
+		List<SpillBuffer> remaining;
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			remaining = new ArrayList<>(open);
+		}
+		for (SpillBuffer buffer : remaining) {
+			buffer.close();
+		}
+		synchronized (this) {
+			closed = true;
+			notifyAll();
+			try {
+				data.close();
+				// 잠금을 놓은 뒤에 지우면 그새 잠금을 얻은 다른 프로세스의 파일을 지울 수 있음
+				Files.deleteIfExists(dataFile);
+			} finally {
+				closeQuietly();
+			}
+		}
+	}
+
+	// ---- SpillBuffer 에서 호출 ----
+
+	/**
+	 * 빈 세그먼트 번호 하나 (없으면 파일을 늘림)
+	 * 늘릴 구간만 잠금 안에서 정하고 0 으로 채우기는 잠금 밖에서 하므로, 그동안 다른 버퍼의 할당/해제가 멈추지 않는다.
+	 */
+	int acquireSegment() throws IOException {
+		while (true) {
+			int growFrom;
+			int growCount;
+			synchronized (this) {
+				ensureOpen();
+				int segment = used.nextClearBit(0);
+				if (segment < segmentCount) {
+					if (everUsed.get(segment)) {
+						segmentReuses++;
+					}
+					used.set(segment);
+					everUsed.set(segment);
+					peakSegmentsInUse = Math.max(peakSegmentsInUse, used.cardinality());
+					return segment;
+				}
+				if (growing) {
+					// 다른 스레드가 늘리는 중: 끝나거나 세그먼트가 반환되면 다시 확인
+					awaitGrowth();
+					continue;
+				}
+				if (segmentCount >= maxSegments) {
+					throw new IOException("스필 공간이 부족합니다: " + maxSegments + "개 세그먼트 (" + (long)maxSegments * segmentSize
+						+ " 바이트) 모두 사용 중");
+				}
+				// 한 번에 두 배씩 (최대 maxSegments)
+				growing = true;
+				growFrom = segmentCount;
+				growCount = Math.min(Math.max(1, segmentCount), maxSegments - segmentCount);
+			}
+
+			boolean grown = false;
+			try {
+				zeroFill(growFrom, growCount);
+				grown = true;
+			} finally {
+				synchronized (this) {
+					growing = false;
+					if (grown) {
+						segmentCount = growFrom + growCount;
+					}
+					notifyAll();
+				}
+			}
+		}
+	}
+
+	synchronized void releaseSegments(int[] segments, int count) {
+		for (int i = 0; i < count; i++) {
+			used.clear(segments[i]);
+		}
+		if (growing) {
+			notifyAll();
+		}
+	}
+
+	/**
+	 * 버퍼를 닫을 때 한 번만 세그먼트를 돌려줌 (관리자 close() 와 소유 스레드가 동시에 닫아도 두 번 풀지 않음)
+	 */
+	synchronized void release(SpillBuffer buffer, int[] segments, int count) {
+		if (open.remove(buffer)) {
+			releaseSegments(segments, count);
+		}
+	}
+
+	/**
+	 * 스필 파일에 위치 지정 쓰기 한 번
+	 */
+	int write(ByteBuffer src, long position) throws IOException {
+		while (true) {
+			FileChannel channel = data;
+			try {
+				return channel.write(src, position);
+			} catch (ClosedByInterruptException e) {
+				// 이 스레드가 인터럽트됨: 다른 버퍼를 위해 채널만 살려 두고 실패
+				reopen(channel);
+				throw e;
+			} catch (ClosedChannelException e) {
+				// 다른 스레드의 인터럽트로 닫힘: 다시 열고 재시도 (관리자가 닫혔으면 reopen 이 던짐)
+				reopen(channel);
+			}
+		}
+	}
+
+	/**
+	 * 스필 파일에서 위치 지정 읽기 한 번
+	 */
+	int read(ByteBuffer dst, long position) throws IOException {
+		while (true) {
+			FileChannel channel = data;
+			try {
+				return channel.read(dst, position);
+			} catch (ClosedByInterruptException e) {
+				reopen(channel);
+				throw e;
+			} catch (ClosedChannelException e) {
+				reopen(channel);
+			}
+		}
+	}
+
+	long segmentOffset(int segment) {
+		return (long)segment * segmentSize;
+	}
+
+	/**
+	 * 인터럽트로 닫힌 채널을 잘라내지 않고 다시 엶 (다른 스레드가 이미 바꿨으면 그대로)
+	 */
+	private synchronized void reopen(FileChannel broken) throws IOException {
+		ensureOpen();
+		if (data == broken) {
+			data = FileChannel.open(dataFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			channelReopens++;
+		}
+	}
+
+	/**
+	 * 세그먼트 [from, from + count) 를 0 으로 채워 파일에 할당 (segmentCount 갱신은 호출한 쪽에서)
+	 */
+	private void zeroFill(int from, int count) throws IOException {
+		ByteBuffer zeros = ByteBuffer.allocateDirect(Math.min(ZERO_BLOCK_SIZE, segmentSize));
+		long position = (long)from * segmentSize;
+		long end = position + (long)count * segmentSize;
+		while (position < end) {
+			zeros.clear();
+			zeros.limit((int)Math.min(zeros.capacity(), end - position));
+			position += write(zeros, position);
+		}
+	}
+
+	/**
+	 * 파일을 늘리는 스레드가 끝나기를 기다림 (this 잠금을 쥔 상태에서 호출)
+	 */
+	private void awaitGrowth() throws IOException {
+		try {
+			wait();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("스필 공간 확장 대기가 중단되었습니다.", e);
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("스필 관리자가 닫혔습니다.");
+		}
+	}
+
+	private void closeQuietly() {
+		try {
+			if (data != null) {
+				data.close();
+			}
+		} catch (IOException e) {
+			// 무시
+		}
+		try {
+			lock.release();
+			lockChannel.close();
+		} catch (IOException e) {
+			// 무시
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.JavaCoreTil.io.common.spill;
+
+import java.io.IOException;
+
+/**
+ * 스필 버퍼에 할당량보다 많이 쓰려고 할 때
+ */
+public class SpillQuotaExceededException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long quota;
+
+	public SpillQuotaExceededException(long quota, long requested) {
+		super("스필 할당량을 넘었습니다: 할당량 " + quota + " 바이트, 요청 후 크기 " + requested + " 바이트");
+		this.quota = quota;
+	}
+
+	public long getQuota() {
+		return quota;
+	}
+}
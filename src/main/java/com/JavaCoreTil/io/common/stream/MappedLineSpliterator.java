@@ -0,0 +1,209 @@
+package com.JavaCoreTil.io.common.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 메모리 맵핑된 파일을 바이트 범위로 분할하는 라인 Spliterator
+ * <p>
+ * Files.lines() 는 하나의 BufferedReader 를 공유하므로 parallel() 을 붙여도 분할이 잘 되지 않는다.
+ * 이 Spliterator 는 남은 바이트 범위를 절반으로 나누고 분할 지점을 다음 줄바꿈 뒤로 맞추기 때문에
+ * 각 조각을 서로 다른 스레드가 독립적으로 읽을 수 있다. 라인은 Utf8Line 으로 지연 디코딩된다.
+ * <p>
+ * 라인 수는 미리 알 수 없으므로 SIZED/SUBSIZED 는 보고하지 않는다 (보고하면 count() 가
+ * 추정치를 그대로 반환한다). 대신 estimateSize() 가 평균 라인 길이로 추정한 값을 돌려주어
+ * 포크/조인 분할 판단에 사용된다.
+ */
+public class MappedLineSpliterator implements Spliterator<Utf8Line> {
+
+	// 이보다 작은 범위는 더 나누지 않음
+	public static final long DEFAULT_MIN_SPLIT_SIZE = 256 * 1024;
+
+	// 순회 시 한 번에 맵핑하는 창 크기
+	private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private static final int SAMPLE_SIZE = 64 * 1024;
+
+	private final FileChannel channel;
+	private final long minSplitSize;
+	private final double averageLineBytes;
+
+	private long position; // 다음 라인의 시작 오프셋
+	private final long end;
+
+	private MappedByteBuffer window;
+	private long windowStart;
+
+	/**
+	 * 파일 전체를 라인 스트림으로 (스트림을 닫으면 채널도 닫힘)
+	 */
+	public static Stream<Utf8Line> lines(Path file) throws IOException {
+		return lines(file, 0, -1);
+	}
+
+	/**
+	 * 파일의 [start, end) 바이트 범위를 라인 스트림으로 (end 가 음수면 파일 끝까지)
+	 * <p>
+	 * start 는 라인 시작(파일 처음 또는 '\n' 바로 뒤)이어야 하며, end 를 넘어가는 라인은 end 에서 잘린다.
+	 */
+	public static Stream<Utf8Line> lines(Path file, long start, long end) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			long limit = end < 0 ? channel.size() : end;
+			if (start < 0 || start > limit || limit > channel.size()) {
+				throw new IllegalArgumentException("잘못된 범위: [" + start + ", " + end + ")");
+			}
+			MappedLineSpliterator spliterator = new MappedLineSpliterator(channel, start, limit,
+				DEFAULT_MIN_SPLIT_SIZE, sampleAverageLineBytes(channel));
+			return StreamSupport.stream(spliterator, false).onClose(() -> {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	MappedLineSpliterator(FileChannel channel, long start, long end, long minSplitSize, double averageLineBytes) {
+		this.channel = channel;
+		this.position = start;
+		this.end = end;
+		this.minSplitSize = minSplitSize;
+		this.averageLineBytes = averageLineBytes;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Utf8Line> action) {
+		if (position >= end) {
+			return false;
+		}
+
+		try {
+			int windowSize = WINDOW_SIZE;
+			while (true) {
+				if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+					mapWindow(windowSize);
+				}
+
+				int lineStart = (int)(position - windowStart);
+				int limit = window.limit();
+				int lineEnd = lineStart;
+				while (lineEnd < limit && window.get(lineEnd) != '\n') {
+					lineEnd++;
+				}
+
+				// 창 끝에 걸친 라인이면 라인 시작부터 더 큰 창으로 다시 맵핑
+				if (lineEnd == limit && windowStart + limit < end) {
+					window = null;
+					windowSize = (int)Math.min(Integer.MAX_VALUE - 8, (long)windowSize * 2);
+					continue;
+				}
+
+				position = windowStart + lineEnd + 1;
+
+				int length = lineEnd - lineStart;
+				if (length > 0 && window.get(lineStart + length - 1) == '\r') {
+					length--;
+				}
+				action.accept(new Utf8Line(window, lineStart, length));
+				return true;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 남은 범위의 중간 지점 이후 첫 줄바꿈 뒤에서 분할하고 앞부분을 반환
+	 */
+	@Override
+	public Spliterator<Utf8Line> trySplit() {
+		long remaining = end - position;
+		if (remaining < minSplitSize * 2) {
+			return null;
+		}
+
+		try {
+			long splitPoint = nextLineStart(position + remaining / 2);
+			if (splitPoint <= position || splitPoint >= end) {
+				return null;
+			}
+
+			MappedLineSpliterator prefix = new MappedLineSpliterator(channel, position, splitPoint,
+				minSplitSize, averageLineBytes);
+			position = splitPoint;
+			window = null;
+			return prefix;
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public long estimateSize() {
+		return (long)Math.ceil((end - position) / averageLineBytes);
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL | IMMUTABLE;
+	}
+
+	private void mapWindow(int windowSize) throws IOException {
+		long length = Math.min(end - position, windowSize);
+		window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+		windowStart = position;
+	}
+
+	/**
+	 * from 이후 첫 '\n' 다음 오프셋 (없으면 end)
+	 */
+	private long nextLineStart(long from) throws IOException {
+		ByteBuffer probe = ByteBuffer.allocate(4096);
+		long offset = from;
+		while (offset < end) {
+			probe.clear();
+			int bytesRead = channel.read(probe, offset);
+			if (bytesRead <= 0) {
+				break;
+			}
+			for (int i = 0; i < bytesRead && offset + i < end; i++) {
+				if (probe.get(i) == '\n') {
+					return offset + i + 1;
+				}
+			}
+			offset += bytesRead;
+		}
+		return end;
+	}
+
+	/**
+	 * 파일 앞부분을 읽어 평균 라인 길이를 추정
+	 */
+	private static double sampleAverageLineBytes(FileChannel channel) throws IOException {
+		ByteBuffer sample = ByteBuffer.allocate((int)Math.min(SAMPLE_SIZE, channel.size()));
+		channel.read(sample, 0);
+
+		int newlines = 0;
+		for (int i = 0; i < sample.position(); i++) {
+			if (sample.get(i) == '\n') {
+				newlines++;
+			}
+		}
+		return newlines == 0 ? Math.max(1, sample.position()) : (double)sample.position() / newlines;
+	}
+}
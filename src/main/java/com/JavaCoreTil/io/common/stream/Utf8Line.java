@@ -0,0 +1,162 @@
+package com.JavaCoreTil.io.common.stream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 맵핑된 파일의 한 라인을 가리키는 지연 디코딩 CharSequence
+ * <p>
+ * 생성 시에는 바이트 범위만 기억한다. ASCII 라인이면 charAt() 이 바이트를 바로 문자로 돌려주고,
+ * 멀티바이트 UTF-8 이 섞여 있으면 처음 문자에 접근할 때 한 번만 String 으로 디코딩한다.
+ */
+public final class Utf8Line implements CharSequence {
+
+	private final ByteBuffer source;
+	private final int offset;
+	private final int byteLength;
+
+	// 0: 미확인, 1: ASCII, 2: 멀티바이트 포함
+	private byte encoding;
+	private String decoded;
+
+	Utf8Line(ByteBuffer source, int offset, int byteLength) {
+		this.source = source;
+		this.offset = offset;
+		this.byteLength = byteLength;
+	}
+
+	/**
+	 * 라인의 UTF-8 바이트 길이 (디코딩 없이 확인 가능)
+	 */
+	public int byteLength() {
+		return byteLength;
+	}
+
+	/**
+	 * 라인의 i 번째 바이트
+	 */
+	public byte byteAt(int index) {
+		return source.get(offset + index);
+	}
+
+	/**
+	 * ASCII 패턴이 라인에 포함되어 있는지 바이트 단위로 검사 (디코딩 없음)
+	 */
+	public boolean containsAscii(String pattern) {
+		return indexOfAscii(pattern, 0) >= 0;
+	}
+
+	/**
+	 * fromByte 이후 ASCII 패턴이 처음 나오는 바이트 오프셋 (없으면 -1)
+	 */
+	public int indexOfAscii(String pattern, int fromByte) {
+		int patternLength = pattern.length();
+		int last = byteLength - patternLength;
+		outer:
+		for (int i = Math.max(0, fromByte); i <= last; i++) {
+			for (int j = 0; j < patternLength; j++) {
+				if (source.get(offset + i + j) != (byte)pattern.charAt(j)) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * 바이트 오프셋에서 시작하는 십진수를 10^fractionDigits 배 한 정수로 파싱 (디코딩 없음)
+	 * <p>
+	 * 앞의 공백은 건너뛰고, 숫자와 소수점 이외의 바이트에서 멈춘다. 예: "238.09ms", 3 → 238090.
+	 * 자릿수를 넘는 소수부는 버린다.
+	 * @throws NumberFormatException 숫자가 없을 때
+	 */
+	public long parseFixedPoint(int fromByte, int fractionDigits) {
+		int p = fromByte;
+		while (p < byteLength && source.get(offset + p) == ' ') {
+			p++;
+		}
+
+		long value = 0;
+		int digits = 0;
+		int fraction = -1; // 소수점 이후 자릿수 (-1 = 소수점 없음)
+		for (; p < byteLength; p++) {
+			byte b = source.get(offset + p);
+			if (b >= '0' && b <= '9') {
+				if (fraction < fractionDigits) {
+					value = value * 10 + (b - '0');
+					if (fraction >= 0) {
+						fraction++;
+					}
+				}
+				digits++;
+			} else if (b == '.' && fraction < 0) {
+				fraction = 0;
+			} else {
+				break;
+			}
+		}
+		if (digits == 0) {
+			throw new NumberFormatException("숫자가 없습니다: \"" + this + "\" (오프셋 " + fromByte + ")");
+		}
+
+		for (int i = Math.max(fraction, 0); i < fractionDigits; i++) {
+			value *= 10;
+		}
+		return value;
+	}
+
+	@Override
+	public int length() {
+		return isAscii() ? byteLength : decode().length();
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (isAscii()) {
+			if (index < 0 || index >= byteLength) {
+				throw new IndexOutOfBoundsException(index);
+			}
+			return (char)source.get(offset + index);
+		}
+		return decode().charAt(index);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (isAscii()) {
+			if (start < 0 || end > byteLength || start > end) {
+				throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + byteLength);
+			}
+			return new Utf8Line(source, offset + start, end - start);
+		}
+		return decode().subSequence(start, end);
+	}
+
+	@Override
+	public String toString() {
+		return decode();
+	}
+
+	private boolean isAscii() {
+		if (encoding == 0) {
+			encoding = 1;
+			for (int i = 0; i < byteLength; i++) {
+				if (source.get(offset + i) < 0) {
+					encoding = 2;
+					break;
+				}
+			}
+		}
+		return encoding == 1;
+	}
+
+	private String decode() {
+		if (decoded == null) {
+			byte[] bytes = new byte[byteLength];
+			source.get(offset, bytes);
+			decoded = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return decoded;
+	}
+}
@@ -0,0 +1,71 @@
+package com.JavaCoreTil.io.common.window;
+
+import java.time.Instant;
+
+/**
+ * 닫힌 시간 창 하나의 집계 결과 ([start, end) 이벤트 시간 구간)
+ */
+public class WindowResult {
+
+	private final long start;
+	private final long end;
+	private final long count;
+	private final double sum;
+	private final double min;
+	private final double max;
+
+	WindowResult(long start, long end, long count, double sum, double min, double max) {
+		this.start = start;
+		this.end = end;
+		this.count = count;
+		this.sum = sum;
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * 창 시작 시각 (포함, 에포크 밀리초)
+	 */
+	public long getStart() {
+		return start;
+	}
+
+	/**
+	 * 창 끝 시각 (제외, 에포크 밀리초)
+	 */
+	public long getEnd() {
+		return end;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public double getSum() {
+		return sum;
+	}
+
+	/**
+	 * 창에 기록이 없으면 NaN
+	 */
+	public double getMin() {
+		return count == 0 ? Double.NaN : min;
+	}
+
+	/**
+	 * 창에 기록이 없으면 NaN
+	 */
+	public double getMax() {
+		return count == 0 ? Double.NaN : max;
+	}
+
+	public double getAverage() {
+		return count == 0 ? 0.0 : sum / count;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("[%s, %s) count=%d, sum=%.2f, min=%.2f, max=%.2f, avg=%.2f",
+			Instant.ofEpochMilli(start), Instant.ofEpochMilli(end), count, sum, getMin(), getMax(), getAverage());
+	}
+}
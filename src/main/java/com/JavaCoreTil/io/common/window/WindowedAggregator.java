@@ -0,0 +1,249 @@
+package com.JavaCoreTil.io.common.window;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 시간 기준 텀블링/슬라이딩 창 증분 집계기
+ * <p>
+ * 시간 축을 gcd(창 크기, 이동 간격) 길이의 pane 으로 나누고, pane 별 건수/합계/최소/최대를 기본형 배열
+ * 링 버퍼에 누적한다. 창은 연속된 pane 들의 조합이므로 레코드마다 한 pane 만 갱신하면 되고,
+ * 슬라이딩 창이 서로 겹쳐도 레코드를 여러 번 저장하지 않는다.
+ * <p>
+ * 워터마크 = 지금까지 본 가장 늦은 이벤트 시각 - 허용 지연. 창 끝이 워터마크 이하가 되면 창을 닫고
+ * 리스너로 결과를 내보낸 뒤, 더 이상 어떤 열린 창에도 속하지 않는 pane 을 비운다.
+ * 이미 닫힌 창에만 속하는 레코드는 늦은 데이터로 세고 버린다. 데이터가 전혀 없는 구간의 창은 건너뛴다.
+ * <p>
+ * 한 스레드(처리 단계)에서만 호출해야 한다.
+ */
+public class WindowedAggregator {
+
+	private final long windowSize;
+	private final long slide;
+	private final long paneSize;
+	private final long allowedLateness;
+	private final Consumer<WindowResult> listener;
+
+	// pane 링 버퍼 (인덱스 = pane 번호 mod ringSize)
+	private final int ringSize;
+	private final long[] paneCounts;
+	private final double[] paneSums;
+	private final double[] paneMins;
+	private final double[] paneMaxs;
+
+	private boolean started;
+	private long oldestPane; // 링에 남아 있는 가장 오래된 pane 번호
+	private long nextWindowStart; // 다음에 닫을 창의 시작 시각
+	private long bufferedRecords; // 링에 남아 있는 레코드 수
+
+	private long maxEventTime = Long.MIN_VALUE;
+	private long watermark = Long.MIN_VALUE;
+
+	private long acceptedRecords;
+	private long lateRecords;
+	private long emittedWindows;
+
+	/**
+	 * 텀블링 창 (겹치지 않는 고정 크기 창)
+	 */
+	public static WindowedAggregator tumbling(long windowSize, long allowedLateness, Consumer<WindowResult> listener) {
+		return new WindowedAggregator(windowSize, windowSize, allowedLateness, listener);
+	}
+
+	/**
+	 * 슬라이딩 창 (slide 간격으로 시작하는 windowSize 크기 창)
+	 */
+	public static WindowedAggregator sliding(long windowSize, long slide, long allowedLateness,
+		Consumer<WindowResult> listener) {
+		return new WindowedAggregator(windowSize, slide, allowedLateness, listener);
+	}
+
+	/**
+	 * @param windowSize 창 크기 (밀리초)
+	 * @param slide 창 시작 간격 (밀리초, windowSize 와 같으면 텀블링)
+	 * @param allowedLateness 허용 지연 (이만큼 늦게 도착한 레코드까지 반영)
+	 * @param listener 창이 닫힐 때 호출됨
+	 */
+	public WindowedAggregator(long windowSize, long slide, long allowedLateness, Consumer<WindowResult> listener) {
+		if (windowSize <= 0 || slide <= 0 || slide > windowSize) {
+			throw new IllegalArgumentException("0 < slide <= windowSize 이어야 합니다.");
+		}
+		if (allowedLateness < 0) {
+			throw new IllegalArgumentException("allowedLateness는 0 이상이어야 합니다.");
+		}
+		this.windowSize = windowSize;
+		this.slide = slide;
+		this.paneSize = gcd(windowSize, slide);
+		this.allowedLateness = allowedLateness;
+		this.listener = listener;
+
+		// 열린 창 전체 + 허용 지연 구간 + 여유 pane
+		long panes = (windowSize + allowedLateness + paneSize - 1) / paneSize + 2;
+		if (panes > 1 << 24) {
+			throw new IllegalArgumentException("pane 수가 너무 많습니다: " + panes + " (windowSize/slide 비율을 확인하세요)");
+		}
+		this.ringSize = (int)panes;
+		this.paneCounts = new long[ringSize];
+		this.paneSums = new double[ringSize];
+		this.paneMins = new double[ringSize];
+		this.paneMaxs = new double[ringSize];
+		Arrays.fill(paneMins, Double.POSITIVE_INFINITY);
+		Arrays.fill(paneMaxs, Double.NEGATIVE_INFINITY);
+	}
+
+	/**
+	 * 레코드 하나 반영
+	 * @param eventTime 이벤트 발생 시각 (에포크 밀리초)
+	 * @return 반영되면 true, 이미 닫힌 창에만 속하는 늦은 데이터면 false
+	 */
+	public boolean accept(long eventTime, double value) {
+		if (!started) {
+			started = true;
+			// 허용 지연만큼 앞선 레코드도 받을 수 있도록 첫 창 위치를 정함
+			nextWindowStart = firstOpenWindowStart(eventTime - allowedLateness);
+			oldestPane = Math.floorDiv(nextWindowStart, paneSize);
+		}
+
+		// 가장 늦은 시각이 갱신되면 워터마크를 올리고 닫을 창을 먼저 내보냄
+		if (eventTime > maxEventTime) {
+			maxEventTime = eventTime;
+			advanceWatermark(eventTime - allowedLateness);
+		}
+
+		// 이 레코드가 속하는 가장 늦은 창도 이미 닫혔으면 늦은 데이터
+		if (Math.floorDiv(eventTime, slide) * slide < nextWindowStart) {
+			lateRecords++;
+			return false;
+		}
+
+		int slot = (int)Math.floorMod(Math.floorDiv(eventTime, paneSize), (long)ringSize);
+		paneCounts[slot]++;
+		paneSums[slot] += value;
+		paneMins[slot] = Math.min(paneMins[slot], value);
+		paneMaxs[slot] = Math.max(paneMaxs[slot], value);
+		bufferedRecords++;
+		acceptedRecords++;
+		return true;
+	}
+
+	/**
+	 * 워터마크를 올려 끝 시각이 워터마크 이하인 창을 닫음
+	 * <p>
+	 * 레코드가 들어오지 않는 동안에도 처리 시각 기준으로 창을 닫고 싶을 때 외부에서 호출한다.
+	 */
+	public void advanceWatermark(long newWatermark) {
+		if (newWatermark <= watermark) {
+			return;
+		}
+		watermark = newWatermark;
+		if (started) {
+			closeWindows();
+		}
+	}
+
+	/**
+	 * 입력 종료: 남은 데이터가 있는 창을 모두 닫음
+	 */
+	public void flush() {
+		if (maxEventTime != Long.MIN_VALUE) {
+			advanceWatermark(maxEventTime + windowSize);
+		}
+	}
+
+	public long getWatermark() {
+		return watermark;
+	}
+
+	public long getAcceptedRecords() {
+		return acceptedRecords;
+	}
+
+	/**
+	 * 창이 이미 닫혀 버린 늦은 레코드 수
+	 */
+	public long getLateRecords() {
+		return lateRecords;
+	}
+
+	public long getEmittedWindows() {
+		return emittedWindows;
+	}
+
+	private void closeWindows() {
+		while (nextWindowStart + windowSize <= watermark) {
+			if (bufferedRecords == 0) {
+				// 남은 데이터가 없으면 빈 창을 하나씩 내보내지 않고 아직 열린 첫 창으로 건너뜀
+				long jump = firstOpenWindowStart(watermark);
+				if (jump > nextWindowStart) {
+					nextWindowStart = jump;
+					evictPanesBefore(nextWindowStart);
+				}
+				break;
+			}
+			emitWindow(nextWindowStart);
+			nextWindowStart += slide;
+			evictPanesBefore(nextWindowStart);
+		}
+	}
+
+	private void emitWindow(long start) {
+		long count = 0;
+		double sum = 0;
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+
+		long firstPane = Math.floorDiv(start, paneSize);
+		long panes = windowSize / paneSize;
+		for (long pane = firstPane; pane < firstPane + panes; pane++) {
+			int slot = (int)Math.floorMod(pane, (long)ringSize);
+			count += paneCounts[slot];
+			sum += paneSums[slot];
+			min = Math.min(min, paneMins[slot]);
+			max = Math.max(max, paneMaxs[slot]);
+		}
+
+		emittedWindows++;
+		listener.accept(new WindowResult(start, start + windowSize, count, sum, min, max));
+	}
+
+	/**
+	 * start 이전 pane 들을 링에서 비움 (더 이상 어떤 열린 창에도 속하지 않음)
+	 */
+	private void evictPanesBefore(long start) {
+		long firstNeeded = Math.floorDiv(start, paneSize);
+		if (firstNeeded - oldestPane >= ringSize) {
+			Arrays.fill(paneCounts, 0);
+			Arrays.fill(paneSums, 0.0);
+			Arrays.fill(paneMins, Double.POSITIVE_INFINITY);
+			Arrays.fill(paneMaxs, Double.NEGATIVE_INFINITY);
+			bufferedRecords = 0;
+			oldestPane = firstNeeded;
+			return;
+		}
+		while (oldestPane < firstNeeded) {
+			int slot = (int)Math.floorMod(oldestPane, (long)ringSize);
+			bufferedRecords -= paneCounts[slot];
+			paneCounts[slot] = 0;
+			paneSums[slot] = 0.0;
+			paneMins[slot] = Double.POSITIVE_INFINITY;
+			paneMaxs[slot] = Double.NEGATIVE_INFINITY;
+			oldestPane++;
+		}
+	}
+
+	/**
+	 * 끝 시각이 time 보다 큰 (아직 열린) 첫 창의 시작 시각
+	 */
+	private long firstOpenWindowStart(long time) {
+		return Math.floorDiv(time - windowSize, slide) * slide + slide;
+	}
+
+	private static long gcd(long a, long b) {
+		while (b != 0) {
+			long t = a % b;
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+}